@@ -0,0 +1,100 @@
+package com.gklyphon.ToDo.admission;
+
+import com.gklyphon.ToDo.exception.ErrorBodyCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Servlet filter that applies a {@link GradientConcurrencyLimiter} in front of the task endpoints.
+ * <p>
+ * Requests over the limit are rejected immediately with a 503 (Service Unavailable) response
+ * and a {@code Retry-After} header instead of waiting for a database connection.
+ * GET and HEAD requests are treated as reads, everything else as writes.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimiter limiter;
+    private final ErrorBodyCache errorBodyCache;
+    private final String retryAfterSeconds;
+    private final Counter rejectedReads;
+    private final Counter rejectedWrites;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param limiter       the limiter deciding which requests are admitted
+     * @param errorBodyCache the cache providing the rejection body
+     * @param retryAfter    the delay advertised to rejected clients
+     * @param meterRegistry the registry where the rejection counters are published
+     */
+    public AdmissionControlFilter(GradientConcurrencyLimiter limiter, ErrorBodyCache errorBodyCache,
+                                  Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.errorBodyCache = errorBodyCache;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.rejectedReads = Counter.builder("todo.admission.rejected")
+                .description("Requests rejected by admission control")
+                .tag("priority", "read")
+                .register(meterRegistry);
+        this.rejectedWrites = Counter.builder("todo.admission.rejected")
+                .description("Requests rejected by admission control")
+                .tag("priority", "write")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        GradientConcurrencyLimiter.Priority priority = isRead(request)
+                ? GradientConcurrencyLimiter.Priority.READ
+                : GradientConcurrencyLimiter.Priority.WRITE;
+
+        Optional<GradientConcurrencyLimiter.Token> token = limiter.tryAcquire(priority);
+        if (token.isEmpty()) {
+            (priority == GradientConcurrencyLimiter.Priority.READ ? rejectedReads : rejectedWrites).increment();
+            reject(response);
+            return;
+        }
+
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (failed || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                token.get().onDropped();
+            } else if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                token.get().onIgnore();
+            } else {
+                token.get().onSuccess();
+            }
+        }
+    }
+
+    private boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        errorBodyCache.write(response, HttpStatus.SERVICE_UNAVAILABLE, "Server is overloaded, retry later");
+    }
+}
@@ -0,0 +1,181 @@
+package com.gklyphon.ToDo.admission;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limiter that estimates the number of requests the node can
+ * serve in parallel from the latency it observes.
+ * <p>
+ * The limit follows a gradient algorithm: a long-term average of the round trip time
+ * approximates the latency of an unloaded system, and every sample is compared against it.
+ * When requests start queueing (for example on the HikariCP pool) the short-term latency
+ * grows, the gradient drops below one and the limit shrinks; when latency recovers the
+ * limit grows again by a queue allowance proportional to {@code sqrt(limit)}.
+ * </p>
+ * <p>
+ * Reads may use the whole limit while writes may only use a configurable share of it,
+ * so writes are shed first as the node approaches saturation.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class GradientConcurrencyLimiter {
+
+    /** Priority of an admission request. */
+    public enum Priority { READ, WRITE }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double backoffRatio;
+    private final double writeShare;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private long samples;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param initialLimit the limit used before any latency sample is observed
+     * @param minLimit     the lower bound of the limit
+     * @param maxLimit     the upper bound of the limit
+     * @param smoothing    weight of a new estimate when blending it into the current limit (0..1]
+     * @param rttTolerance how much the short-term latency may exceed the long-term one before the limit shrinks
+     * @param backoffRatio factor applied to the limit when a request is dropped
+     * @param writeShare   fraction of the limit that write requests may use (0..1]
+     * @param longWindow   number of samples of the long-term latency average
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                      double rttTolerance, double backoffRatio, double writeShare,
+                                      int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.backoffRatio = backoffRatio;
+        this.writeShare = writeShare;
+        this.longWindow = longWindow;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @param priority the priority of the request
+     * @return a {@link Token} that must be released once the request completes,
+     *         or an empty {@link Optional} if the request must be rejected
+     */
+    public Optional<Token> tryAcquire(Priority priority) {
+        int allowed = allowedFor(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Token(System.nanoTime(), current + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the current limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of requests currently admitted.
+     *
+     * @return the number of in-flight requests
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int allowedFor(Priority priority) {
+        int current = (int) limit;
+        if (priority == Priority.WRITE) {
+            return Math.max(1, (int) (current * writeShare));
+        }
+        return current;
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        samples++;
+        if (samples == 1) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        long window = Math.min(samples, longWindow);
+        longRttNanos += (rttNanos - longRttNanos) / window;
+
+        double current = limit;
+        // The node was not using its limit, so the sample says nothing about it.
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double estimate = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+
+        // Let the baseline drift down again once latency has recovered.
+        if (longRttNanos > rttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+    }
+
+    private synchronized void onDrop() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * Represents one admitted request.
+     * <p>
+     * Exactly one of {@link #onSuccess()}, {@link #onDropped()} or {@link #onIgnore()}
+     * must be called when the request completes.
+     * </p>
+     */
+    public final class Token {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Token(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /** Releases the slot and feeds the observed latency into the limit. */
+        public void onSuccess() {
+            inFlight.decrementAndGet();
+            onSample(System.nanoTime() - startNanos, inFlightAtStart);
+        }
+
+        /** Releases the slot and reduces the limit because the request failed under load. */
+        public void onDropped() {
+            inFlight.decrementAndGet();
+            onDrop();
+        }
+
+        /** Releases the slot without affecting the limit. */
+        public void onIgnore() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.gklyphon.ToDo.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks and completed tasks due within one week.
+ *
+ * @param weekStart the Monday starting the week
+ * @param total     the number of tasks due within the week
+ * @param completed the number of those tasks that are completed
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record DueWeekCompletion(LocalDate weekStart, long total, long completed) {
+
+    /**
+     * Returns the share of completed tasks.
+     *
+     * @return the completion rate between {@code 0} and {@code 1}
+     */
+    public double completionRate() {
+        return total == 0 ? 0 : (double) completed / total;
+    }
+}
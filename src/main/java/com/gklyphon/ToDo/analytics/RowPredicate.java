@@ -0,0 +1,25 @@
+package com.gklyphon.ToDo.analytics;
+
+/**
+ * Condition evaluated on the columns of one row of the {@link TaskColumnStore}.
+ * <p>
+ * Columns are passed as primitives so a scan allocates nothing per row.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@FunctionalInterface
+public interface RowPredicate {
+
+    /**
+     * Evaluates the condition on one row.
+     *
+     * @param id          the task ID
+     * @param complete    whether the task is completed
+     * @param dueEpochDay the due date as epoch day, or {@link TaskColumnStore#NO_DUE_DATE}
+     * @return {@code true} if the row matches
+     */
+    boolean test(long id, boolean complete, int dueEpochDay);
+}
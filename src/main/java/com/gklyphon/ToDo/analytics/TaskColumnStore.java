@@ -0,0 +1,377 @@
+package com.gklyphon.ToDo.analytics;
+
+import com.gklyphon.ToDo.event.MutationStamp;
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Off-heap, column-oriented mirror of the {@code tasks} table for analytics queries.
+ * <p>
+ * Each task is a row of three columns held in direct buffers: the {@code long} ID, the due
+ * date as an {@code int} epoch day and the completion flag packed in a bitmap. Rows are kept
+ * dense: removing a row moves the last row into its place, so a scan walks a contiguous prefix
+ * of every column. A primitive hash map locates the row of a task for updates.
+ * </p>
+ * <p>
+ * Queries split the rows in chunks scanned in parallel on the common fork-join pool; they read
+ * primitives straight from the buffers and allocate per chunk, never per row. Writers are
+ * excluded while a query runs.
+ * </p>
+ * <p>
+ * The store is only as fresh as the mutations applied to it; its owner reloads it periodically
+ * with {@link #beginReplace()} and {@link #replaceAll(long, Iterable)} to repair updates applied
+ * out of order. A reload raced by a mutation is rejected through a {@link MutationStamp}, so it
+ * never installs a snapshot older than the store.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskColumnStore {
+
+    /** The epoch day stored for a task without due date. */
+    public static final int NO_DUE_DATE = Integer.MIN_VALUE;
+
+    /** Epoch day 0 is a Thursday; shifting by three days makes weeks start on Monday. */
+    private static final int MONDAY_SHIFT = 3;
+
+    private final int chunkRows;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowsById;
+    private final MutationStamp mutations = new MutationStamp();
+
+    private ByteBuffer ids;
+    private ByteBuffer dueDays;
+    private ByteBuffer completeBits;
+    private int capacity;
+    private int size;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param initialCapacity the number of rows allocated up front
+     * @param chunkRows       the number of rows scanned by one parallel task, rounded up to a multiple of 64
+     */
+    public TaskColumnStore(int initialCapacity, int chunkRows) {
+        this.chunkRows = Math.max(64, (chunkRows + 63) & ~63);
+        this.rowsById = new LongIntHashMap(initialCapacity);
+        allocate(Math.max(64, initialCapacity));
+    }
+
+    /**
+     * Inserts or updates the row of a task.
+     *
+     * @param id       the task ID
+     * @param complete whether the task is completed
+     * @param dueTime  the due date, may be {@code null}
+     */
+    public void upsert(long id, boolean complete, LocalDate dueTime) {
+        lock.writeLock().lock();
+        try {
+            put(id, complete, dueTime);
+            mutations.applied();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the row of a task.
+     *
+     * @param id the task ID
+     * @return {@code true} if the task was present
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.remove(id);
+            if (row == LongIntHashMap.MISSING) {
+                return false;
+            }
+            mutations.applied();
+            int last = --size;
+            if (row != last) {
+                long lastId = ids.getLong(last * Long.BYTES);
+                ids.putLong(row * Long.BYTES, lastId);
+                dueDays.putInt(row * Integer.BYTES, dueDays.getInt(last * Integer.BYTES));
+                setComplete(row, isComplete(last));
+                rowsById.put(lastId, row);
+            }
+            setComplete(last, false);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a mutation as published and not yet applied or rolled back.
+     */
+    public void mutationPending() {
+        mutations.pending();
+    }
+
+    /**
+     * Marks a pending mutation as applied or rolled back.
+     */
+    public void mutationSettled() {
+        mutations.settled();
+    }
+
+    /**
+     * Starts a reload; must be called before the tasks to load are read.
+     *
+     * @return the stamp to pass to {@link #replaceAll(long, Iterable)}
+     */
+    public long beginReplace() {
+        return mutations.begin();
+    }
+
+    /**
+     * Replaces the whole content of the store with the given tasks, unless a mutation raced them.
+     *
+     * @param stamp the stamp returned by {@link #beginReplace()}
+     * @param tasks the tasks to load
+     * @return {@code true} if the content was replaced, {@code false} if the tasks must be read again
+     */
+    public boolean replaceAll(long stamp, Iterable<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            if (!mutations.isUnchangedSince(stamp)) {
+                return false;
+            }
+            rowsById.clear();
+            for (int word = 0; word < wordCount(size); word++) {
+                completeBits.putLong(word * Long.BYTES, 0L);
+            }
+            size = 0;
+            for (Task task : tasks) {
+                put(task.getId(), task.isComplete(), task.getDueTime());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of tasks in the store
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the completed tasks by counting the set bits of the completion bitmap.
+     *
+     * @return the number of completed tasks
+     */
+    public long countCompleted() {
+        lock.readLock().lock();
+        try {
+            int chunkWords = chunkRows / Long.SIZE;
+            int words = wordCount(size);
+            return chunks().mapToLong(chunk -> {
+                long count = 0;
+                int end = Math.min(words, (chunk + 1) * chunkWords);
+                for (int word = chunk * chunkWords; word < end; word++) {
+                    count += Long.bitCount(completeBits.getLong(word * Long.BYTES));
+                }
+                return count;
+            }).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the open tasks due before the given day.
+     *
+     * @param today the current day
+     * @return the number of overdue tasks
+     */
+    public long countOverdue(LocalDate today) {
+        int todayEpochDay = (int) today.toEpochDay();
+        return count((id, complete, dueEpochDay) -> !complete && dueEpochDay != NO_DUE_DATE
+                && dueEpochDay < todayEpochDay);
+    }
+
+    /**
+     * Counts the rows matching a condition.
+     *
+     * @param predicate the condition evaluated on every row
+     * @return the number of matching rows
+     */
+    public long count(RowPredicate predicate) {
+        lock.readLock().lock();
+        try {
+            return chunks().mapToLong(chunk -> {
+                long count = 0;
+                int end = chunkEnd(chunk);
+                for (int row = chunk * chunkRows; row < end; row++) {
+                    if (predicate.test(ids.getLong(row * Long.BYTES), isComplete(row),
+                            dueDays.getInt(row * Integer.BYTES))) {
+                        count++;
+                    }
+                }
+                return count;
+            }).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Computes the number of tasks and completed tasks per due week. Tasks without due date are left out.
+     *
+     * @return one entry per week holding tasks, ordered by week
+     */
+    public List<DueWeekCompletion> completionByDueWeek() {
+        lock.readLock().lock();
+        try {
+            WeekCounts counts = chunks()
+                    .mapToObj(this::weekCounts)
+                    .reduce(WeekCounts::merge)
+                    .orElseGet(WeekCounts::new);
+            return counts.toCompletions();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private WeekCounts weekCounts(int chunk) {
+        WeekCounts counts = new WeekCounts();
+        int end = chunkEnd(chunk);
+        for (int row = chunk * chunkRows; row < end; row++) {
+            int dueEpochDay = dueDays.getInt(row * Integer.BYTES);
+            if (dueEpochDay != NO_DUE_DATE) {
+                counts.add(week(dueEpochDay), 1, isComplete(row) ? 1 : 0);
+            }
+        }
+        return counts;
+    }
+
+    private static int week(int epochDay) {
+        return Math.floorDiv(epochDay + MONDAY_SHIFT, 7);
+    }
+
+    private IntStream chunks() {
+        return IntStream.range(0, (size + chunkRows - 1) / chunkRows).parallel();
+    }
+
+    private int chunkEnd(int chunk) {
+        return Math.min(size, (chunk + 1) * chunkRows);
+    }
+
+    private boolean isComplete(int row) {
+        return (completeBits.getLong((row >>> 6) * Long.BYTES) & (1L << row)) != 0;
+    }
+
+    private void setComplete(int row, boolean complete) {
+        int offset = (row >>> 6) * Long.BYTES;
+        long word = completeBits.getLong(offset);
+        completeBits.putLong(offset, complete ? word | (1L << row) : word & ~(1L << row));
+    }
+
+    private static int wordCount(int rows) {
+        return (rows + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private void allocate(int rows) {
+        capacity = (rows + 63) & ~63;
+        ids = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        dueDays = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+        completeBits = ByteBuffer.allocateDirect(wordCount(capacity) * Long.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private void put(long id, boolean complete, LocalDate dueTime) {
+        int row = rowsById.get(id);
+        if (row == LongIntHashMap.MISSING) {
+            if (size == capacity) {
+                grow();
+            }
+            row = size++;
+            rowsById.put(id, row);
+            ids.putLong(row * Long.BYTES, id);
+        }
+        dueDays.putInt(row * Integer.BYTES, dueTime != null ? (int) dueTime.toEpochDay() : NO_DUE_DATE);
+        setComplete(row, complete);
+    }
+
+    private void grow() {
+        ByteBuffer oldIds = ids;
+        ByteBuffer oldDueDays = dueDays;
+        ByteBuffer oldCompleteBits = completeBits;
+        allocate(Math.multiplyExact(capacity, 2));
+        ids.put(0, oldIds, 0, size * Long.BYTES);
+        dueDays.put(0, oldDueDays, 0, size * Integer.BYTES);
+        completeBits.put(0, oldCompleteBits, 0, wordCount(size) * Long.BYTES);
+    }
+
+    /**
+     * Task counts of the weeks met in a chunk, sized by the number of distinct weeks rather than
+     * by the span between the earliest and the latest one.
+     */
+    private static final class WeekCounts {
+
+        private final LongIntHashMap slotsByWeek = new LongIntHashMap(64);
+        private int[] weeks = new int[64];
+        private long[] totals = new long[64];
+        private long[] completed = new long[64];
+        private int size;
+
+        void add(int week, long total, long complete) {
+            int slot = slotsByWeek.get(week);
+            if (slot == LongIntHashMap.MISSING) {
+                if (size == weeks.length) {
+                    weeks = Arrays.copyOf(weeks, size * 2);
+                    totals = Arrays.copyOf(totals, size * 2);
+                    completed = Arrays.copyOf(completed, size * 2);
+                }
+                slot = size++;
+                slotsByWeek.put(week, slot);
+                weeks[slot] = week;
+            }
+            totals[slot] += total;
+            completed[slot] += complete;
+        }
+
+        WeekCounts merge(WeekCounts other) {
+            for (int slot = 0; slot < other.size; slot++) {
+                add(other.weeks[slot], other.totals[slot], other.completed[slot]);
+            }
+            return this;
+        }
+
+        List<DueWeekCompletion> toCompletions() {
+            Integer[] order = new Integer[size];
+            for (int slot = 0; slot < size; slot++) {
+                order[slot] = slot;
+            }
+            Arrays.sort(order, Comparator.comparingInt(slot -> weeks[slot]));
+            List<DueWeekCompletion> result = new ArrayList<>(size);
+            for (int slot : order) {
+                LocalDate weekStart = LocalDate.ofEpochDay((long) weeks[slot] * 7 - MONDAY_SHIFT);
+                result.add(new DueWeekCompletion(weekStart, totals[slot], completed[slot]));
+            }
+            return result;
+        }
+    }
+}
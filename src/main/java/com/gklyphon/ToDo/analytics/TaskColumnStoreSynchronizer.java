@@ -0,0 +1,121 @@
+package com.gklyphon.ToDo.analytics;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import com.gklyphon.ToDo.service.ITaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Keeps the {@link TaskColumnStore} in sync with the tasks.
+ * <p>
+ * The store is loaded once all singletons are created, before the web server accepts requests,
+ * and every committed {@link TaskMutationEvent} is then applied to it. It is loaded again
+ * after a {@link TasksBulkLoadedEvent}, and periodically, so that mutations whose listeners ran
+ * out of order cannot leave it stale for good. Only the columns of the store are read.
+ * </p>
+ * <p>
+ * Every mutation is reported to the store as pending from its publication until it is applied
+ * or rolled back, so a reload raced by a mutation is rejected and read again, up to
+ * {@value #RELOAD_ATTEMPTS} times; after that the next scheduled reload repairs the store.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskColumnStoreSynchronizer implements SmartInitializingSingleton {
+
+    private static final int RELOAD_ATTEMPTS = 3;
+    private static final Set<TaskField> COLUMNS = EnumSet.of(TaskField.ID, TaskField.COMPLETE, TaskField.DUE_TIME);
+
+    private final TaskColumnStore columnStore;
+    private final ObjectProvider<ITaskService> taskService;
+
+    /**
+     * Loads every task into the column store.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int attempt = 0; attempt < RELOAD_ATTEMPTS; attempt++) {
+            long stamp = columnStore.beginReplace();
+            if (columnStore.replaceAll(stamp, taskService.getObject().getAllTasks(COLUMNS))) {
+                log.info("Loaded {} tasks into the analytics column store", columnStore.size());
+                return;
+            }
+        }
+        log.debug("Analytics column store reload raced by mutations, retrying on schedule");
+    }
+
+    /**
+     * Marks the mutation as pending when it is published, before any other listener runs.
+     *
+     * @param event the published mutation
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaskMutationPublished(TaskMutationEvent event) {
+        columnStore.mutationPending();
+    }
+
+    /**
+     * Applies the committed mutation to the column store.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        try {
+            if (event.after() != null) {
+                columnStore.upsert(event.taskId(), event.after().isComplete(), event.after().getDueTime());
+            } else {
+                columnStore.remove(event.taskId());
+            }
+        } finally {
+            columnStore.mutationSettled();
+        }
+    }
+
+    /**
+     * Clears the pending mark of a rolled back mutation.
+     *
+     * @param event the rolled back mutation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onTaskMutationRolledBack(TaskMutationEvent event) {
+        columnStore.mutationSettled();
+    }
+
+    /**
+     * Reloads the column store on schedule.
+     */
+    @Scheduled(initialDelayString = "${todo.analytics.reload-interval:PT15M}",
+            fixedDelayString = "${todo.analytics.reload-interval:PT15M}")
+    public void reloadOnSchedule() {
+        afterSingletonsInstantiated();
+    }
+
+    /**
+     * Reloads the column store after tasks were written in bulk.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        afterSingletonsInstantiated();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gklyphon.ToDo.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into a single call.
+ * <p>
+ * The first caller of a key becomes the leader: it registers a future, runs the loader on its
+ * own thread and completes the future with the result or the failure. Callers arriving while
+ * the load is in flight wait on that future instead of loading again. No lock is held while
+ * loading; registering is a single {@code putIfAbsent}. The leader removes its entry when the
+ * load ends, so the map only ever holds the loads in flight.
+ * </p>
+ * <p>
+ * Results and exceptions are shared between all the callers of one load, so they must not be
+ * modified by the callers.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Loads the value of a key, joining the load already in flight for that key if there is one.
+     *
+     * @param key    the key to load
+     * @param loader the load run when no other caller is loading the key
+     * @return the loaded value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            return join(inFlight);
+        }
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Detaches the load in flight for a key, so later callers start a new one. Callers already
+     * waiting still receive the result of the detached load.
+     *
+     * @param key the key whose value changed
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    /**
+     * Detaches every load in flight.
+     */
+    public void forgetAll() {
+        calls.clear();
+    }
+
+    /**
+     * Returns the number of loads in flight.
+     *
+     * @return the number of registered keys
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    /**
+     * Returns how many calls joined a load started by another caller.
+     *
+     * @return the number of coalesced calls
+     */
+    public long coalescedCalls() {
+        return coalesced.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
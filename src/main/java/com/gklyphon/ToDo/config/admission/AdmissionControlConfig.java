@@ -0,0 +1,79 @@
+package com.gklyphon.ToDo.config.admission;
+
+import com.gklyphon.ToDo.admission.AdmissionControlFilter;
+import com.gklyphon.ToDo.admission.GradientConcurrencyLimiter;
+import com.gklyphon.ToDo.exception.ErrorBodyCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class for the adaptive admission control of the task endpoints.
+ * <p>
+ * This class creates the {@link GradientConcurrencyLimiter}, publishes its current
+ * limit and in-flight count as gauges, and registers the {@link AdmissionControlFilter}
+ * ahead of the security filter chain so overloaded requests are rejected as early as possible.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@ConditionalOnProperty(prefix = "todo.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    /**
+     * Creates the limiter shared by all task endpoints and registers its gauges.
+     *
+     * @param properties    the admission control properties
+     * @param meterRegistry the registry where the gauges are published
+     * @return a configured {@link GradientConcurrencyLimiter}
+     */
+    @Bean
+    public GradientConcurrencyLimiter taskConcurrencyLimiter(AdmissionControlProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getSmoothing(),
+                properties.getRttTolerance(),
+                properties.getBackoffRatio(),
+                properties.getWriteShare(),
+                properties.getLongWindow());
+        Gauge.builder("todo.admission.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the task endpoints")
+                .register(meterRegistry);
+        Gauge.builder("todo.admission.inflight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted to the task endpoints")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Registers the {@link AdmissionControlFilter} for the task endpoints.
+     *
+     * @param limiter       the limiter deciding which requests are admitted
+     * @param errorBodyCache the cache providing rejection bodies
+     * @param properties    the admission control properties
+     * @param meterRegistry the registry where the rejection counters are published
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            GradientConcurrencyLimiter limiter, ErrorBodyCache errorBodyCache,
+            AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(limiter, errorBodyCache, properties.getRetryAfter(), meterRegistry));
+        registration.addUrlPatterns("/v1/tasks/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gklyphon.ToDo.config.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the adaptive admission control of the task endpoints.
+ * <p>
+ * Properties are bound from the {@code todo.admission} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.admission")
+public class AdmissionControlProperties {
+
+    /** Whether admission control is applied to the task endpoints. */
+    private boolean enabled = true;
+
+    /** The concurrency limit used before any latency has been observed. */
+    private int initialLimit = 20;
+
+    /** The lower bound of the concurrency limit. */
+    private int minLimit = 4;
+
+    /** The upper bound of the concurrency limit. */
+    private int maxLimit = 200;
+
+    /** Weight of a new estimate when blending it into the current limit. */
+    private double smoothing = 0.2;
+
+    /** How much the short-term latency may exceed the long-term one before the limit shrinks. */
+    private double rttTolerance = 1.5;
+
+    /** Factor applied to the limit when a request fails under load. */
+    private double backoffRatio = 0.9;
+
+    /** Fraction of the limit that write requests may use; reads may use all of it. */
+    private double writeShare = 0.8;
+
+    /** Number of samples of the long-term latency average. */
+    private int longWindow = 600;
+
+    /** The delay advertised in the {@code Retry-After} header of rejected requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
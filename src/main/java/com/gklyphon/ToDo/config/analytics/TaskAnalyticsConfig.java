@@ -0,0 +1,49 @@
+package com.gklyphon.ToDo.config.analytics;
+
+import com.gklyphon.ToDo.analytics.TaskColumnStore;
+import com.gklyphon.ToDo.analytics.TaskColumnStoreSynchronizer;
+import com.gklyphon.ToDo.service.ITaskService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the analytics column store.
+ * <p>
+ * This class creates the off-heap {@link TaskColumnStore} and the
+ * {@link TaskColumnStoreSynchronizer} that keeps it in sync with the tasks.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskAnalyticsProperties.class)
+public class TaskAnalyticsConfig {
+
+    /**
+     * Creates the empty column store.
+     *
+     * @param properties the analytics properties
+     * @return the {@link TaskColumnStore}
+     */
+    @Bean
+    public TaskColumnStore taskColumnStore(TaskAnalyticsProperties properties) {
+        return new TaskColumnStore(properties.getInitialCapacity(), properties.getChunkRows());
+    }
+
+    /**
+     * Creates the synchronizer loading the column store and applying task mutations to it.
+     *
+     * @param columnStore the column store
+     * @param taskService the task service providing the initial content
+     * @return the {@link TaskColumnStoreSynchronizer}
+     */
+    @Bean
+    public TaskColumnStoreSynchronizer taskColumnStoreSynchronizer(TaskColumnStore columnStore,
+                                                                   ObjectProvider<ITaskService> taskService) {
+        return new TaskColumnStoreSynchronizer(columnStore, taskService);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gklyphon.ToDo.config.analytics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the analytics column store.
+ * <p>
+ * Properties are bound from the {@code todo.analytics} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.analytics")
+public class TaskAnalyticsProperties {
+
+    /** The number of rows allocated up front. */
+    private int initialCapacity = 16384;
+
+    /** The number of rows scanned by one parallel task. */
+    private int chunkRows = 65536;
+
+    /** Interval between two full reloads of the store from the tasks. */
+    private Duration reloadInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.ToDo.config.archive;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class enabling the {@link TaskArchiveProperties} used by the task archiver.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskArchiveProperties.class)
+public class TaskArchiveConfig {
+}
@@ -0,0 +1,36 @@
+package com.gklyphon.ToDo.config.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the background archival of completed tasks.
+ * <p>
+ * Properties are bound from the {@code todo.archive} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.archive")
+public class TaskArchiveProperties {
+
+    /** Whether the archiver runs on schedule. */
+    private boolean enabled = true;
+
+    /** Completed tasks not modified for at least this long are archived. */
+    private Duration minAge = Duration.ofDays(30);
+
+    /** Number of tasks moved per transaction. */
+    private int batchSize = 500;
+
+    /** Pause between two batches, leaving room for foreground traffic. */
+    private Duration batchPause = Duration.ofMillis(200);
+
+    /** Maximum number of batches moved in one run. */
+    private int maxBatchesPerRun = 1000;
+}
@@ -0,0 +1,44 @@
+package com.gklyphon.ToDo.config.dataset;
+
+import com.gklyphon.ToDo.dataset.TaskDatasetLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration class for the synthetic task dataset of performance environments.
+ * <p>
+ * The loader writes straight to the {@code tasks} table, so it is only available with the JPA backend.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@Profile("!logstore")
+@EnableConfigurationProperties(DatasetProperties.class)
+@ConditionalOnProperty(prefix = "todo.dataset", name = "enabled", havingValue = "true")
+public class DatasetConfig {
+
+    /**
+     * Creates the loader generating the dataset at startup.
+     *
+     * @param jdbcTemplate        the template running the batch inserts
+     * @param transactionTemplate the template wrapping every batch in a transaction
+     * @param properties          the dataset properties
+     * @param eventPublisher      the publisher announcing the loaded dataset
+     * @return the {@link TaskDatasetLoader}
+     */
+    @Bean
+    public TaskDatasetLoader taskDatasetLoader(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                               DatasetProperties properties,
+                                               ApplicationEventPublisher eventPublisher) {
+        return new TaskDatasetLoader(jdbcTemplate, transactionTemplate, properties, eventPublisher);
+    }
+}
@@ -0,0 +1,57 @@
+package com.gklyphon.ToDo.config.dataset;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the synthetic task dataset loaded in performance environments.
+ * <p>
+ * Properties are bound from the {@code todo.dataset} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.dataset")
+public class DatasetProperties {
+
+    /** Whether the dataset is generated at startup. */
+    private boolean enabled = false;
+
+    /** The number of tasks to generate. */
+    private long rows = 1_000_000;
+
+    /** The number of rows inserted per batch and transaction. */
+    private int batchSize = 5_000;
+
+    /** The number of writer threads, each using its own connection. */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** The seed of the random generator, so the same dataset can be generated again. */
+    private long seed = 42L;
+
+    /** The share of completed tasks. */
+    private double completedRatio = 0.6;
+
+    /** The share of tasks without due date. */
+    private double withoutDueDateRatio = 0.1;
+
+    /** How due dates are spread around the current day. */
+    private DueDateDistribution dueDateDistribution = DueDateDistribution.NORMAL;
+
+    /** The furthest due date in the past, in days. */
+    private int dueDaysBefore = 90;
+
+    /** The furthest due date in the future, in days. */
+    private int dueDaysAfter = 180;
+
+    /** How due dates are spread between {@code dueDaysBefore} and {@code dueDaysAfter}. */
+    public enum DueDateDistribution {
+        /** Every day of the range is equally likely. */
+        UNIFORM,
+        /** Due dates cluster around the current day, most falling within the next few weeks. */
+        NORMAL
+    }
+}
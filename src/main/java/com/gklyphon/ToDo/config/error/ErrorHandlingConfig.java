@@ -0,0 +1,32 @@
+package com.gklyphon.ToDo.config.error;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.exception.ErrorBodyCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration class for the handling of error responses.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(ErrorHandlingProperties.class)
+public class ErrorHandlingConfig {
+
+    /**
+     * Creates the cache of serialized error bodies shared by the exception handler and the filters.
+     *
+     * @param objectMapper the mapper serializing the bodies
+     * @return the {@link ErrorBodyCache}
+     */
+    @Bean
+    public ErrorBodyCache errorBodyCache(ObjectMapper objectMapper) {
+        return new ErrorBodyCache(objectMapper, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,33 @@
+package com.gklyphon.ToDo.config.error;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the handling of error responses.
+ * <p>
+ * Properties are bound from the {@code todo.errors} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.errors")
+public class ErrorHandlingProperties {
+
+    /**
+     * Whether errors are answered with cached generic bodies and logged at a limited rate.
+     * When disabled, every error gets its own detailed body and log line.
+     */
+    private boolean lowCost = true;
+
+    /** The number of log lines written per interval for every kind of error. */
+    private int logPermits = 10;
+
+    /** The interval over which error log lines are limited. */
+    private Duration logInterval = Duration.ofSeconds(10);
+}
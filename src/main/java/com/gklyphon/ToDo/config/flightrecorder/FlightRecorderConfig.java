@@ -0,0 +1,132 @@
+package com.gklyphon.ToDo.config.flightrecorder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.flightrecorder.ContinuousFlightRecorder;
+import com.gklyphon.ToDo.flightrecorder.FlightRecordingEndpoint;
+import com.gklyphon.ToDo.flightrecorder.JdbcPhaseListener;
+import com.gklyphon.ToDo.flightrecorder.TaskRequestRecordingFilter;
+import com.gklyphon.ToDo.flightrecorder.TimedJacksonHttpMessageConverter;
+import com.gklyphon.ToDo.flightrecorder.TimedValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+
+/**
+ * Configuration class for the continuous flight recording of task requests.
+ * <p>
+ * This class starts the {@link ContinuousFlightRecorder}, exposes it through the
+ * {@link FlightRecordingEndpoint}, and installs the hooks recording the phases of a task request:
+ * the {@link TaskRequestRecordingFilter}, a JSON converter and a validator timing their work,
+ * and a Hibernate session listener timing every JDBC statement.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+@ConditionalOnProperty(prefix = "todo.flight-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<jakarta.validation.Validator> beanValidator;
+
+    /**
+     * Creates the configuration.
+     *
+     * @param beanValidator the Bean Validation validator wrapped by the timed MVC validator
+     */
+    public FlightRecorderConfig(ObjectProvider<jakarta.validation.Validator> beanValidator) {
+        this.beanValidator = beanValidator;
+    }
+
+    /**
+     * Starts the continuous recording; it is stopped on shutdown.
+     *
+     * @param properties    the flight recorder properties
+     * @param meterRegistry the registry where the dump counters are published
+     * @return the started {@link ContinuousFlightRecorder}
+     * @throws IOException if the dump directory cannot be created
+     */
+    @Bean(destroyMethod = "close")
+    public ContinuousFlightRecorder continuousFlightRecorder(FlightRecorderProperties properties,
+                                                             MeterRegistry meterRegistry) throws IOException {
+        return new ContinuousFlightRecorder(properties.getDirectory(), properties.getSettings(),
+                properties.getMaxAge(), properties.getMaxSize().toBytes(), properties.getMaxDumps(),
+                properties.getMinDumpInterval(), meterRegistry);
+    }
+
+    /**
+     * Creates the actuator endpoint serving the dumps.
+     *
+     * @param recorder the continuous recorder
+     * @return the {@link FlightRecordingEndpoint}
+     */
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(ContinuousFlightRecorder recorder) {
+        return new FlightRecordingEndpoint(recorder);
+    }
+
+    /**
+     * Registers the {@link TaskRequestRecordingFilter} for the task endpoints, ahead of the other
+     * filters so the recorded request includes their time.
+     *
+     * @param recorder   the continuous recorder
+     * @param properties the flight recorder properties
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<TaskRequestRecordingFilter> taskRequestRecordingFilter(
+            ContinuousFlightRecorder recorder, FlightRecorderProperties properties) {
+        FilterRegistrationBean<TaskRequestRecordingFilter> registration = new FilterRegistrationBean<>(
+                new TaskRequestRecordingFilter(recorder, properties.getSlowRequestThreshold()));
+        registration.addUrlPatterns("/v1/tasks/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /**
+     * Creates the JSON converter timing request and response bodies, in place of the default one.
+     *
+     * @param objectMapper the configured {@link ObjectMapper}
+     * @return the {@link TimedJacksonHttpMessageConverter}
+     */
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Registers the {@link JdbcPhaseListener} on every Hibernate session.
+     *
+     * @return the customizer adding the listener
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcPhaseListenerCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                JdbcPhaseListener.class.getName());
+    }
+
+    /**
+     * Times the validation of request bodies.
+     *
+     * @return a {@link TimedValidator} around the Bean Validation validator, or {@code null} to keep the default
+     */
+    @Override
+    public Validator getValidator() {
+        jakarta.validation.Validator validator = beanValidator.getIfAvailable();
+        return validator != null ? new TimedValidator(new SpringValidatorAdapter(validator)) : null;
+    }
+}
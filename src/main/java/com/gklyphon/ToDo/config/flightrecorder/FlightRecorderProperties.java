@@ -0,0 +1,47 @@
+package com.gklyphon.ToDo.config.flightrecorder;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the continuous flight recording.
+ * <p>
+ * Properties are bound from the {@code todo.flight-recorder} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.flight-recorder")
+public class FlightRecorderProperties {
+
+    /** Whether the continuous recording and the task events are enabled. */
+    private boolean enabled = true;
+
+    /** The JFR settings of the recording; {@code default} keeps the overhead around one percent. */
+    private String settings = "default";
+
+    /** How long recorded history is kept. */
+    private Duration maxAge = Duration.ofMinutes(15);
+
+    /** How much recorded history is kept. */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    /** The directory receiving the dumps. */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "todo", "flight-recordings");
+
+    /** The duration above which a task request dumps the recording. */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /** The minimum time between two dumps for slow requests. */
+    private Duration minDumpInterval = Duration.ofMinutes(1);
+
+    /** The number of dumps kept in the directory. */
+    private int maxDumps = 10;
+}
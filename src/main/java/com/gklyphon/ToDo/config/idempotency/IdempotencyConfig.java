@@ -0,0 +1,100 @@
+package com.gklyphon.ToDo.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.idempotency.IIdempotencyStore;
+import com.gklyphon.ToDo.idempotency.IdempotencyFilter;
+import com.gklyphon.ToDo.idempotency.InMemoryIdempotencyStore;
+import com.gklyphon.ToDo.idempotency.RedisIdempotencyStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Configuration class for idempotent task creation and updates.
+ * <p>
+ * This class creates the store selected by {@code todo.idempotency.backend} and registers
+ * the {@link IdempotencyFilter} after the security filter chain, so keys can be scoped
+ * to the authenticated client.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "todo.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    private final ObjectProvider<InMemoryIdempotencyStore> inMemoryStore;
+
+    public IdempotencyConfig(ObjectProvider<InMemoryIdempotencyStore> inMemoryStore) {
+        this.inMemoryStore = inMemoryStore;
+    }
+
+    /**
+     * Creates the in-memory idempotency store.
+     *
+     * @param properties the idempotency properties
+     * @return a configured {@link InMemoryIdempotencyStore}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.idempotency", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public InMemoryIdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getTtl());
+    }
+
+    /**
+     * Creates the Redis-backed idempotency store.
+     *
+     * @param redisTemplate the template used to reach Redis
+     * @param objectMapper  the mapper used to serialize recorded responses
+     * @param properties    the idempotency properties
+     * @return a configured {@link RedisIdempotencyStore}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.idempotency", name = "backend", havingValue = "redis")
+    public RedisIdempotencyStore redisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                                       IdempotencyProperties properties) {
+        return new RedisIdempotencyStore(redisTemplate, objectMapper, properties.getRedisKeyPrefix(),
+                properties.getTtl(), properties.getLockTtl(), properties.getPollInterval());
+    }
+
+    /**
+     * Registers the {@link IdempotencyFilter} after the security filter chain.
+     *
+     * @param store        the store of recorded responses
+     * @param objectMapper the mapper used to write error bodies
+     * @param properties   the idempotency properties
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IIdempotencyStore store, ObjectMapper objectMapper,
+                                                                       IdempotencyProperties properties) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(store, objectMapper, properties.getInFlightTimeout()));
+        registration.addUrlPatterns("/v1/tasks/*");
+        registration.setOrder(0);
+        return registration;
+    }
+
+    /**
+     * Periodically removes expired responses from the in-memory store, if it is in use.
+     */
+    @Scheduled(fixedDelayString = "${todo.idempotency.eviction-interval:PT1M}")
+    public void evictExpiredResponses() {
+        inMemoryStore.ifAvailable(store -> {
+            int evicted = store.evictExpired();
+            if (evicted > 0) {
+                log.debug("Evicted {} expired idempotency keys, {} remaining", evicted, store.size());
+            }
+        });
+    }
+}
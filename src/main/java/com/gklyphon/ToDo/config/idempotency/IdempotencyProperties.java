@@ -0,0 +1,45 @@
+package com.gklyphon.ToDo.config.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for idempotent task creation and updates.
+ * <p>
+ * Properties are bound from the {@code todo.idempotency} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.idempotency")
+public class IdempotencyProperties {
+
+    /** Where recorded responses are stored. */
+    public enum Backend { MEMORY, REDIS }
+
+    /** Whether the {@code Idempotency-Key} header is honoured. */
+    private boolean enabled = true;
+
+    /** The store holding recorded responses. */
+    private Backend backend = Backend.MEMORY;
+
+    /** How long a recorded response is replayed. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** How long a duplicate request waits for the in-flight original. */
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+
+    /** How long a Redis claim is held before it is considered abandoned. */
+    private Duration lockTtl = Duration.ofSeconds(30);
+
+    /** How often a waiting request polls Redis for the recorded response. */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /** Prefix of the idempotency keys in Redis. */
+    private String redisKeyPrefix = "todo:idempotency:";
+}
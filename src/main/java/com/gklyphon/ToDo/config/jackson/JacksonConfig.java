@@ -2,6 +2,7 @@ package com.gklyphon.ToDo.config.jackson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gklyphon.ToDo.model.entity.Task;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +11,8 @@ import org.springframework.context.annotation.Configuration;
  * <p>
  * This class is responsible for creating and configuring a
  * {@link ObjectMapper} bean with the necessary modules for
- * serializing and deserializing Java 8 time types.
+ * serializing and deserializing Java 8 time types, and the filters
+ * selecting the serialized fields of tasks.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -23,6 +25,8 @@ public class JacksonConfig {
     /**
      * Creates a new instance of {@link ObjectMapper} and registers
      * the {@link JavaTimeModule} to support Java 8 date and time types.
+     * Tasks get the {@link TaskFieldFilters} filter, which serializes every field
+     * unless a response selects a sparse fieldset.
      *
      * @return a configured {@link ObjectMapper} instance
      */
@@ -30,6 +34,8 @@ public class JacksonConfig {
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.addMixIn(Task.class, TaskFieldFilters.TaskMixIn.class);
+        objectMapper.setFilterProvider(TaskFieldFilters.serializeAll());
         return objectMapper;
     }
 
@@ -0,0 +1,67 @@
+package com.gklyphon.ToDo.config.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Jackson filters limiting the serialized fields of a {@link Task} to a sparse fieldset.
+ * <p>
+ * {@link JacksonConfig} attaches the {@link #FILTER_ID} filter to tasks through a mix-in and
+ * serializes every field by default. A {@link FilterProvider} is created once per field set
+ * and kept by field mask, so filtering a response only costs a set lookup per property.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class TaskFieldFilters {
+
+    /** The ID of the filter attached to tasks. */
+    public static final String FILTER_ID = "taskFields";
+
+    private static final AtomicReferenceArray<FilterProvider> PROVIDERS =
+            new AtomicReferenceArray<>(1 << TaskField.values().length);
+
+    private TaskFieldFilters() {
+    }
+
+    /**
+     * Returns the filters serializing only the given task fields.
+     *
+     * @param fields the fields to serialize
+     * @return the shared {@link FilterProvider} of the field set
+     */
+    public static FilterProvider forFields(Set<TaskField> fields) {
+        int mask = TaskField.mask(fields);
+        FilterProvider provider = PROVIDERS.get(mask);
+        if (provider == null) {
+            String[] attributes = fields.stream().map(TaskField::attribute).toArray(String[]::new);
+            provider = new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(attributes));
+            PROVIDERS.set(mask, provider);
+        }
+        return provider;
+    }
+
+    /**
+     * Returns the filters used when no field set is requested.
+     *
+     * @return a {@link FilterProvider} serializing every field
+     */
+    static FilterProvider serializeAll() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /** Mix-in attaching the task field filter to {@link Task}. */
+    @JsonFilter(FILTER_ID)
+    abstract static class TaskMixIn {
+    }
+}
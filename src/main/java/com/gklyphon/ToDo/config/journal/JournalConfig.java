@@ -0,0 +1,53 @@
+package com.gklyphon.ToDo.config.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.journal.MutationJournal;
+import com.gklyphon.ToDo.journal.MutationJournalListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Configuration class for the task mutation journal.
+ * <p>
+ * This class opens the {@link MutationJournal} in the configured directory and registers
+ * the {@link MutationJournalListener} that feeds it with committed task mutations.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+@ConditionalOnProperty(prefix = "todo.journal", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JournalConfig {
+
+    /**
+     * Opens the mutation journal; it is closed, draining pending records, on shutdown.
+     *
+     * @param properties the journal properties
+     * @return the opened {@link MutationJournal}
+     * @throws IOException if the journal directory cannot be opened
+     */
+    @Bean(destroyMethod = "close")
+    public MutationJournal mutationJournal(JournalProperties properties) throws IOException {
+        return new MutationJournal(properties.getDirectory(), (int) properties.getSegmentSize().toBytes(),
+                properties.getFsyncPolicy(), properties.getFsyncInterval(), properties.getQueueCapacity());
+    }
+
+    /**
+     * Creates the listener writing committed task mutations to the journal.
+     *
+     * @param journal      the mutation journal
+     * @param objectMapper the mapper used to serialize task snapshots
+     * @return the {@link MutationJournalListener}
+     */
+    @Bean
+    public MutationJournalListener mutationJournalListener(MutationJournal journal, ObjectMapper objectMapper) {
+        return new MutationJournalListener(journal, objectMapper);
+    }
+}
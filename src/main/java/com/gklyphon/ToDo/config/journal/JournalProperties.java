@@ -0,0 +1,48 @@
+package com.gklyphon.ToDo.config.journal;
+
+import com.gklyphon.ToDo.journal.FsyncPolicy;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the task mutation journal.
+ * <p>
+ * Properties are bound from the {@code todo.journal} prefix. The directory has no default and
+ * must be set whenever the journal is enabled, so the journal never lands in a temporary
+ * directory that the system may clean up.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "todo.journal")
+public class JournalProperties {
+
+    /** Whether task mutations are journaled. */
+    private boolean enabled = true;
+
+    /** The directory holding the segment files. */
+    @NotNull
+    private Path directory;
+
+    /** The size of every segment file. */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** When written records are forced to the storage device. */
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.PERIODIC;
+
+    /** The interval of the periodic fsync policy. */
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    /** The number of queued records above which producers are slowed down. */
+    private int queueCapacity = 65536;
+}
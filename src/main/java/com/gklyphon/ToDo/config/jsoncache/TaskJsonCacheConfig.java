@@ -0,0 +1,67 @@
+package com.gklyphon.ToDo.config.jsoncache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.jsoncache.EncodedJsonHttpMessageConverter;
+import com.gklyphon.ToDo.jsoncache.TaskJsonCache;
+import com.gklyphon.ToDo.jsoncache.TaskJsonCacheSynchronizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuration class for the cache of encoded task JSON.
+ * <p>
+ * This class creates the {@link TaskJsonCache}, the {@link TaskJsonCacheSynchronizer} dropping
+ * the entries of written tasks, and registers the {@link EncodedJsonHttpMessageConverter}
+ * writing the cached bytes to responses.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskJsonCacheProperties.class)
+public class TaskJsonCacheConfig implements WebMvcConfigurer {
+
+    /**
+     * Creates the cache.
+     *
+     * @param objectMapper  the configured {@link ObjectMapper}
+     * @param properties    the cache properties
+     * @param meterRegistry the registry where the cache metrics are published
+     * @return the {@link TaskJsonCache}
+     */
+    @Bean
+    public TaskJsonCache taskJsonCache(ObjectMapper objectMapper, TaskJsonCacheProperties properties,
+                                       MeterRegistry meterRegistry) {
+        return new TaskJsonCache(objectMapper, properties.isEnabled(), properties.getMaxSize().toBytes(),
+                meterRegistry);
+    }
+
+    /**
+     * Creates the synchronizer dropping the entries of written tasks.
+     *
+     * @param cache the cache
+     * @return the {@link TaskJsonCacheSynchronizer}
+     */
+    @Bean
+    public TaskJsonCacheSynchronizer taskJsonCacheSynchronizer(TaskJsonCache cache) {
+        return new TaskJsonCacheSynchronizer(cache);
+    }
+
+    /**
+     * Registers the {@link EncodedJsonHttpMessageConverter} ahead of the other converters.
+     *
+     * @param converters the configured converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.addFirst(new EncodedJsonHttpMessageConverter());
+    }
+}
@@ -0,0 +1,26 @@
+package com.gklyphon.ToDo.config.jsoncache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the cache of encoded task JSON.
+ * <p>
+ * Properties are bound from the {@code todo.json-cache} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.json-cache")
+public class TaskJsonCacheProperties {
+
+    /** Whether task responses are assembled from the cache. */
+    private boolean enabled = true;
+
+    /** The maximum total size of the cached task encodings. */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,48 @@
+package com.gklyphon.ToDo.config.labels;
+
+import com.gklyphon.ToDo.labels.TaskLabelIndex;
+import com.gklyphon.ToDo.labels.TaskLabelIndexSynchronizer;
+import com.gklyphon.ToDo.service.ITaskService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the label bitmap index.
+ * <p>
+ * This class creates the {@link TaskLabelIndex} and the {@link TaskLabelIndexSynchronizer}
+ * that keeps it in sync with the tasks.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskLabelProperties.class)
+public class TaskLabelConfig {
+
+    /**
+     * Creates the empty label index.
+     *
+     * @return the {@link TaskLabelIndex}
+     */
+    @Bean
+    public TaskLabelIndex taskLabelIndex() {
+        return new TaskLabelIndex();
+    }
+
+    /**
+     * Creates the synchronizer loading the label index and applying task mutations to it.
+     *
+     * @param labelIndex  the label index
+     * @param taskService the task service providing the initial content
+     * @return the {@link TaskLabelIndexSynchronizer}
+     */
+    @Bean
+    public TaskLabelIndexSynchronizer taskLabelIndexSynchronizer(TaskLabelIndex labelIndex,
+                                                                 ObjectProvider<ITaskService> taskService) {
+        return new TaskLabelIndexSynchronizer(labelIndex, taskService);
+    }
+}
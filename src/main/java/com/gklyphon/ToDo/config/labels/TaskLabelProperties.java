@@ -0,0 +1,24 @@
+package com.gklyphon.ToDo.config.labels;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the label bitmap index.
+ * <p>
+ * Properties are bound from the {@code todo.labels} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.labels")
+public class TaskLabelProperties {
+
+    /** Interval between two full reloads of the index from the tasks. */
+    private Duration reloadInterval = Duration.ofMinutes(15);
+}
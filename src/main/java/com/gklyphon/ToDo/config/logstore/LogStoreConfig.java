@@ -0,0 +1,65 @@
+package com.gklyphon.ToDo.config.logstore;
+
+import com.gklyphon.ToDo.repository.logstore.LogStructuredTaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+
+/**
+ * Configuration class for the embedded log-structured task store, active with the
+ * {@code logstore} profile.
+ * <p>
+ * This class opens the {@link LogStructuredTaskStore} in the configured directory and compacts
+ * its closed data files on schedule.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Configuration
+@Profile("logstore")
+@EnableConfigurationProperties(LogStoreProperties.class)
+public class LogStoreConfig {
+
+    private final LogStoreProperties properties;
+
+    public LogStoreConfig(LogStoreProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Opens the task store; it is closed on shutdown.
+     *
+     * @return the opened {@link LogStructuredTaskStore}
+     * @throws IOException if the data files cannot be read
+     */
+    @Bean(destroyMethod = "close")
+    public LogStructuredTaskStore logStructuredTaskStore() throws IOException {
+        return new LogStructuredTaskStore(properties.getDirectory(), properties.getMaxFileSize().toBytes(),
+                properties.isFsyncOnWrite());
+    }
+
+    /**
+     * Compacts the closed data files of the task store. The bean method returns the shared
+     * store because configuration classes are proxied.
+     */
+    @Scheduled(initialDelayString = "${todo.logstore.compaction-interval:PT10M}",
+            fixedDelayString = "${todo.logstore.compaction-interval:PT10M}")
+    public void compact() {
+        try {
+            int compacted = logStructuredTaskStore().compact(properties.getCompactionMinFiles());
+            if (compacted > 0) {
+                log.info("Compacted {} task store data files", compacted);
+            }
+        } catch (IOException ex) {
+            log.error("Task store compaction failed", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gklyphon.ToDo.config.logstore;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the embedded log-structured task store.
+ * <p>
+ * Properties are bound from the {@code todo.logstore} prefix. The directory holds the only copy of
+ * the tasks, so it has no default and must be set to a persistent location.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "todo.logstore")
+public class LogStoreProperties {
+
+    /** The directory holding the data files. */
+    @NotNull
+    private Path directory;
+
+    /** The size after which the active data file is rolled. */
+    private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+    /** Whether every write is forced to the storage device before it is acknowledged. */
+    private boolean fsyncOnWrite = false;
+
+    /** The minimum number of closed data files worth compacting. */
+    private int compactionMinFiles = 4;
+}
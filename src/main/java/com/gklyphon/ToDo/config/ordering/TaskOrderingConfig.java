@@ -0,0 +1,37 @@
+package com.gklyphon.ToDo.config.ordering;
+
+import com.gklyphon.ToDo.ordering.TaskOrderRebalancer;
+import com.gklyphon.ToDo.service.ITaskService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the user-defined order of tasks.
+ * <p>
+ * This class creates the {@link TaskOrderRebalancer}, which shortens long sort keys and assigns
+ * keys to tasks inserted without one.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskOrderingProperties.class)
+public class TaskOrderingConfig {
+
+    /**
+     * Creates the background rebalancer.
+     *
+     * @param taskService the service rewriting the sort keys
+     * @param properties  the ordering properties
+     * @return the {@link TaskOrderRebalancer}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.ordering", name = "rebalance-enabled", matchIfMissing = true)
+    public TaskOrderRebalancer taskOrderRebalancer(ITaskService taskService, TaskOrderingProperties properties) {
+        return new TaskOrderRebalancer(taskService, properties.getMaxKeyLength(), properties.getBatchSize());
+    }
+}
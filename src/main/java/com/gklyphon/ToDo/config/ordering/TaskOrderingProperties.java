@@ -0,0 +1,33 @@
+package com.gklyphon.ToDo.config.ordering;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the user-defined order of tasks.
+ * <p>
+ * Properties are bound from the {@code todo.ordering} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.ordering")
+public class TaskOrderingProperties {
+
+    /** Whether sort keys are rebalanced in the background. */
+    private boolean rebalanceEnabled = true;
+
+    /** Sort keys longer than this many characters trigger a rebalance. */
+    private int maxKeyLength = 32;
+
+    /** Number of tasks given a new sort key per transaction. */
+    private int batchSize = 500;
+
+    /** Interval between two checks for missing or long sort keys. */
+    private Duration rebalanceInterval = Duration.ofMinutes(5);
+}
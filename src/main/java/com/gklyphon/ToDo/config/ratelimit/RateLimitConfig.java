@@ -0,0 +1,77 @@
+package com.gklyphon.ToDo.config.ratelimit;
+
+import com.gklyphon.ToDo.ratelimit.InMemoryTokenBucketStore;
+import com.gklyphon.ToDo.ratelimit.RedisTokenBucketStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Configuration class for the per-client rate limiting of the task endpoints.
+ * <p>
+ * This class creates the token bucket store selected by {@code todo.rate-limit.backend}:
+ * an in-memory store for single-node deployments or a Redis-backed store for
+ * cluster-wide limits. The filter itself is added to the chain in
+ * {@link com.gklyphon.ToDo.config.security.SecurityConfig}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    private final ObjectProvider<InMemoryTokenBucketStore> inMemoryStore;
+
+    public RateLimitConfig(ObjectProvider<InMemoryTokenBucketStore> inMemoryStore) {
+        this.inMemoryStore = inMemoryStore;
+    }
+
+    /**
+     * Creates the in-memory token bucket store.
+     *
+     * @param properties the rate limit properties
+     * @return a configured {@link InMemoryTokenBucketStore}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.rate-limit", name = "backend", havingValue = "memory", matchIfMissing = true)
+    public InMemoryTokenBucketStore inMemoryRateLimitStore(RateLimitProperties properties) {
+        return new InMemoryTokenBucketStore(properties.getCapacity(), properties.getRefillPerSecond(),
+                properties.getIdleTimeout(), properties.getStripes());
+    }
+
+    /**
+     * Creates the Redis-backed token bucket store.
+     *
+     * @param redisTemplate the template used to reach Redis
+     * @param properties    the rate limit properties
+     * @return a configured {@link RedisTokenBucketStore}
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.rate-limit", name = "backend", havingValue = "redis")
+    public RedisTokenBucketStore redisRateLimitStore(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        return new RedisTokenBucketStore(redisTemplate, properties.getRedisKeyPrefix(), properties.getCapacity(),
+                properties.getRefillPerSecond(), properties.getIdleTimeout());
+    }
+
+    /**
+     * Periodically evicts idle buckets from the in-memory store, if it is in use.
+     */
+    @Scheduled(fixedDelayString = "${todo.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        inMemoryStore.ifAvailable(store -> {
+            int evicted = store.evictIdle();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle rate limit buckets, {} remaining", evicted, store.size());
+            }
+        });
+    }
+}
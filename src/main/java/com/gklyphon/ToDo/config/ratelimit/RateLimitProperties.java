@@ -0,0 +1,48 @@
+package com.gklyphon.ToDo.config.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the per-client rate limiting of the task endpoints.
+ * <p>
+ * Properties are bound from the {@code todo.rate-limit} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.rate-limit")
+public class RateLimitProperties {
+
+    /** Where the token buckets are stored. */
+    public enum Backend { MEMORY, REDIS }
+
+    /** Whether rate limiting is applied to the task endpoints. */
+    private boolean enabled = true;
+
+    /** The store holding the token buckets. */
+    private Backend backend = Backend.MEMORY;
+
+    /** The maximum number of requests a client can burst. */
+    private long capacity = 100;
+
+    /** The number of requests a client regains every second. */
+    private double refillPerSecond = 50;
+
+    /** Request header identifying anonymous clients; the remote address is used when empty. */
+    private String clientIdHeader = "";
+
+    /** How long an unused bucket is kept before it is evicted. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** Number of stripe locks of the in-memory store. */
+    private int stripes = 64;
+
+    /** Prefix of the bucket keys in Redis. */
+    private String redisKeyPrefix = "todo:rate-limit:";
+}
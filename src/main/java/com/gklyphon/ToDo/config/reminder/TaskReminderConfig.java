@@ -0,0 +1,70 @@
+package com.gklyphon.ToDo.config.reminder;
+
+import com.gklyphon.ToDo.reminder.ITaskReminderListener;
+import com.gklyphon.ToDo.reminder.ReminderDispatcher;
+import com.gklyphon.ToDo.reminder.TaskReminderScheduler;
+import com.gklyphon.ToDo.reminder.TaskReminderSynchronizer;
+import com.gklyphon.ToDo.service.ITaskService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration class for the task reminders.
+ * <p>
+ * This class creates the {@link TaskReminderScheduler} delivering reminders to every
+ * {@link ITaskReminderListener} bean, and the {@link TaskReminderSynchronizer} that keeps
+ * it in sync with the tasks.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(TaskReminderProperties.class)
+@ConditionalOnProperty(prefix = "todo.reminders", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskReminderConfig {
+
+    /**
+     * Creates the scheduler and registers the gauge of pending reminders; it is stopped on shutdown.
+     *
+     * @param properties    the reminder properties
+     * @param listeners     the listeners receiving the reminders
+     * @param meterRegistry the registry where the reminder metrics are published
+     * @return the started {@link TaskReminderScheduler}
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public TaskReminderScheduler taskReminderScheduler(TaskReminderProperties properties,
+                                                       ObjectProvider<ITaskReminderListener> listeners,
+                                                       MeterRegistry meterRegistry) {
+        Clock clock = Clock.systemUTC();
+        ReminderDispatcher dispatcher = new ReminderDispatcher(listeners.orderedStream().toList(),
+                properties.getQueueCapacity(), clock, meterRegistry);
+        TaskReminderScheduler scheduler = new TaskReminderScheduler(properties.getTick(), properties.getLeadTimes(),
+                properties.getZone(), clock, dispatcher);
+        Gauge.builder("todo.reminders.timers", scheduler, TaskReminderScheduler::size)
+                .description("Task reminders pending in the timing wheel")
+                .register(meterRegistry);
+        return scheduler;
+    }
+
+    /**
+     * Creates the synchronizer loading the reminders and applying task mutations to them.
+     *
+     * @param scheduler   the reminder scheduler
+     * @param taskService the task service providing the initial reminders
+     * @return the {@link TaskReminderSynchronizer}
+     */
+    @Bean
+    public TaskReminderSynchronizer taskReminderSynchronizer(TaskReminderScheduler scheduler,
+                                                             ObjectProvider<ITaskService> taskService) {
+        return new TaskReminderSynchronizer(scheduler, taskService);
+    }
+}
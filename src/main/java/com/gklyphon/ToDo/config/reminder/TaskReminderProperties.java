@@ -0,0 +1,38 @@
+package com.gklyphon.ToDo.config.reminder;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Configuration properties for the task reminders.
+ * <p>
+ * Properties are bound from the {@code todo.reminders} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.reminders")
+public class TaskReminderProperties {
+
+    /** Whether reminders are scheduled. */
+    private boolean enabled = true;
+
+    /** The resolution of the timing wheel. */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /** How long before the start of the due date each reminder fires; zero fires at the due date. */
+    private List<Duration> leadTimes = List.of(Duration.ZERO, Duration.ofDays(1));
+
+    /** The time zone in which due dates start. */
+    private ZoneId zone = ZoneId.systemDefault();
+
+    /** The number of reminders each listener queue holds before reminders are dropped. */
+    private int queueCapacity = 10_000;
+}
@@ -0,0 +1,20 @@
+package com.gklyphon.ToDo.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling Spring's scheduled task execution.
+ * <p>
+ * Background maintenance jobs, such as evicting idle rate limit buckets,
+ * are declared with {@link org.springframework.scheduling.annotation.Scheduled}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,10 +1,19 @@
 package com.gklyphon.ToDo.config.security;
 
+import com.gklyphon.ToDo.config.ratelimit.RateLimitProperties;
+import com.gklyphon.ToDo.exception.ErrorBodyCache;
+import com.gklyphon.ToDo.ratelimit.IRateLimitStore;
+import com.gklyphon.ToDo.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,6 +26,8 @@ import java.util.List;
  * <p>
  * This class configures HTTP security, including authorization for
  * specific endpoints and CORS (Cross-Origin Resource Sharing) settings.
+ * The task endpoints are protected by stateless bearer token authentication;
+ * tokens are verified by the decoder created in {@link TokenSecurityConfig}.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -29,25 +40,62 @@ public class SecurityConfig {
     /**
      * Configures the security filter chain for the application.
      * <p>
-     * This method specifies which HTTP requests are permitted without
-     * authentication. All GET, POST, PUT, and DELETE requests to specified
-     * task-related endpoints are allowed.
+     * This method specifies which HTTP requests require a valid bearer token.
+     * All GET, POST, PUT, and DELETE requests to the task-related endpoints are
+     * authenticated, as are the metrics and flight recording endpoints, while the health
+     * endpoint is permitted without it. Any other request is denied, except for error
+     * dispatches, so the error response of a rejected request can still be rendered.
+     * When rate limiting is enabled, a {@link RateLimitFilter} is placed right before
+     * authorization so every task request consumes a token from its client's bucket,
+     * keyed by the token subject.
+     * </p>
+     * <p>
+     * The API holds no session, so the chain is trimmed to the filters it needs:
+     * CSRF protection, logout, the request cache, the servlet API wrapper and
+     * anonymous authentication are disabled, and the security context is never stored.
      * </p>
      *
      * @param http the {@link HttpSecurity} to configure
+     * @param rateLimitStore the store holding the client token buckets, if any
+     * @param rateLimitProperties the rate limit properties
+     * @param errorBodyCache the cache providing rate limit rejection bodies
      * @return a {@link SecurityFilterChain} instance
      * @throws Exception if an error occurs during configuration
      */
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http, ObjectProvider<IRateLimitStore> rateLimitStore,
+                                            RateLimitProperties rateLimitProperties,
+                                            ErrorBodyCache errorBodyCache) throws Exception {
         http.authorizeHttpRequests(
                 (auths) -> auths
-                        .requestMatchers(HttpMethod.GET, "/v1/tasks", "/v1/tasks/{id}").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/v1/tasks/create-task").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/tasks", "/v1/tasks/{id}",
+                                "/v1/tasks/stats", "/v1/tasks/analytics/completion-by-due-week",
+                                "/v1/tasks/ordered", "/v1/tasks/filter", "/v1/tasks/labels").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/v1/tasks/create-task", "/v1/tasks/batch").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/v1/tasks/update-task/{id}",
-                                "/v1/tasks/update-complete-task/{id}").permitAll()
-                        .requestMatchers(HttpMethod.DELETE, "/v1/tasks/delete-task/{id}").permitAll()
+                                "/v1/tasks/update-complete-task/{id}", "/v1/tasks/move-task/{id}").authenticated()
+                        .requestMatchers(HttpMethod.DELETE, "/v1/tasks/delete-task/{id}").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics", "/actuator/metrics/**").authenticated()
+                        .requestMatchers("/actuator/flightrecording", "/actuator/flightrecording/*").authenticated()
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                        .anyRequest().denyAll()
         );
+        http.oauth2ResourceServer(resourceServer -> resourceServer.jwt(jwt -> { }))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.requireExplicitSave(true))
+                .csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable);
+        IRateLimitStore store = rateLimitStore.getIfAvailable();
+        if (rateLimitProperties.isEnabled() && store != null) {
+            http.addFilterBefore(new RateLimitFilter(store, errorBodyCache, rateLimitProperties.getClientIdHeader()),
+                    AuthorizationFilter.class);
+        }
         return http.build();
     }
 
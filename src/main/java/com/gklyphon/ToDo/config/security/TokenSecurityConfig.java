@@ -0,0 +1,86 @@
+package com.gklyphon.ToDo.config.security;
+
+import com.gklyphon.ToDo.security.CachingJwtDecoder;
+import com.gklyphon.ToDo.security.JwtTokenIssuer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * Configuration class for the bearer token authentication.
+ * <p>
+ * This class creates the HMAC key, the {@link JwtDecoder} used by the resource server,
+ * wrapped in a {@link CachingJwtDecoder}, and the {@link JwtTokenIssuer}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(TokenSecurityProperties.class)
+public class TokenSecurityConfig {
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+
+    /**
+     * Creates the HMAC key from the configured secret, or a random one when none is configured.
+     *
+     * @param properties the token security properties
+     * @return the {@link SecretKey} signing and verifying tokens
+     */
+    @Bean
+    public SecretKey jwtSecretKey(TokenSecurityProperties properties) {
+        byte[] secret;
+        if (StringUtils.hasText(properties.getJwtSecret())) {
+            secret = Base64.getDecoder().decode(properties.getJwtSecret());
+            if (secret.length < 32) {
+                throw new IllegalStateException("todo.security.jwt-secret must hold at least 256 bits");
+            }
+        } else {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            log.warn("No todo.security.jwt-secret configured, only tokens issued by this instance are accepted");
+        }
+        return new SecretKeySpec(secret, HMAC_SHA_256);
+    }
+
+    /**
+     * Creates the decoder verifying bearer tokens, caching the verified ones.
+     *
+     * @param key           the HMAC key
+     * @param properties    the token security properties
+     * @param meterRegistry the registry where the cache counters are published
+     * @return the {@link JwtDecoder}
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey key, TokenSecurityProperties properties, MeterRegistry meterRegistry) {
+        JwtDecoder verifier = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        return new CachingJwtDecoder(verifier, properties.getTokenCacheSize(), properties::isTokenCacheEnabled,
+                Clock.systemUTC(), meterRegistry);
+    }
+
+    /**
+     * Creates the issuer of bearer tokens signed with the same key.
+     *
+     * @param key the HMAC key
+     * @return the {@link JwtTokenIssuer}
+     */
+    @Bean
+    public JwtTokenIssuer jwtTokenIssuer(SecretKey key) {
+        return new JwtTokenIssuer(key, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,31 @@
+package com.gklyphon.ToDo.config.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the bearer token authentication.
+ * <p>
+ * Properties are bound from the {@code todo.security} prefix.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.security")
+public class TokenSecurityProperties {
+
+    /**
+     * The Base64-encoded HMAC key, of at least 256 bits, signing and verifying tokens.
+     * When empty, a random key is generated at startup and only tokens issued by this instance are accepted.
+     */
+    private String jwtSecret = "";
+
+    /** Whether verified tokens are cached until they expire. */
+    private boolean tokenCacheEnabled = true;
+
+    /** The maximum number of verified tokens cached. */
+    private int tokenCacheSize = 10_000;
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.ToDo.config.stats;
+
+import com.gklyphon.ToDo.stats.TaskStatistics;
+import com.gklyphon.ToDo.stats.TaskStatisticsListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration class for the incrementally maintained task statistics.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+public class TaskStatisticsConfig {
+
+    /**
+     * Creates the empty statistics counters, using the system clock to decide which tasks are overdue.
+     *
+     * @return the {@link TaskStatistics}
+     */
+    @Bean
+    public TaskStatistics taskStatistics() {
+        return new TaskStatistics(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates the listener applying task mutations to the statistics.
+     *
+     * @param statistics the statistics counters
+     * @return the {@link TaskStatisticsListener}
+     */
+    @Bean
+    public TaskStatisticsListener taskStatisticsListener(TaskStatistics statistics) {
+        return new TaskStatisticsListener(statistics);
+    }
+}
@@ -1,24 +1,50 @@
 package com.gklyphon.ToDo.controller;
 
+import com.gklyphon.ToDo.analytics.DueWeekCompletion;
+import com.gklyphon.ToDo.config.jackson.TaskFieldFilters;
+import com.gklyphon.ToDo.jsoncache.TaskJsonCache;
+import com.gklyphon.ToDo.model.dto.BatchOperation;
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
 import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
 import com.gklyphon.ToDo.repository.ITaskRepository;
+import com.gklyphon.ToDo.service.ITaskAnalyticsService;
+import com.gklyphon.ToDo.service.ITaskArchiveService;
+import com.gklyphon.ToDo.service.ITaskBatchService;
+import com.gklyphon.ToDo.service.ITaskLabelService;
 import com.gklyphon.ToDo.service.ITaskService;
+import com.gklyphon.ToDo.service.ITaskStatisticsService;
+import com.gklyphon.ToDo.stats.TaskStatisticsSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * REST controller for managing tasks.
  * <p>
  * This controller provides endpoints to create, retrieve, update, and delete tasks.
  * </p>
+ * <p>
+ * The retrieval endpoints accept a {@code fields} parameter, such as {@code fields=id,name,complete},
+ * limiting the returned task fields and, where the storage allows it, the columns read.
+ * </p>
+ * <p>
+ * Tasks returned with all their fields are written from the {@link TaskJsonCache}, so unchanged
+ * tasks are not serialized again.
+ * </p>
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -29,36 +55,91 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskRestController {
 
+    /** The maximum number of IDs accepted by one multi-get. */
+    static final int MAX_LOOKUP_IDS = 1000;
+
     private final ITaskService taskService;
+    private final ITaskArchiveService taskArchiveService;
+    private final ITaskAnalyticsService taskAnalyticsService;
+    private final ITaskStatisticsService taskStatisticsService;
+    private final ITaskLabelService taskLabelService;
+    private final ITaskBatchService taskBatchService;
+    private final TaskJsonCache taskJsonCache;
 
     /**
      * Retrieves all tasks from the service.
      *
+     * @param includeArchived whether archived tasks are included
+     * @param fields the comma-separated task fields to return, all when absent
      * @return a {@link ResponseEntity} containing the list of tasks or an HTTP status
      *         indicating that no tasks are available.
      */
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
+    public ResponseEntity<?> getAllTasks(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields
+    ) {
+        Set<TaskField> selected = fields != null ? TaskField.parse(fields) : TaskField.ALL;
+        List<Task> tasks = includeArchived
+                ? taskArchiveService.getAllTasksIncludingArchived()
+                : taskService.getAllTasks(selected);
         if (tasks.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+        if (taskJsonCache.isEnabled() && selected.containsAll(TaskField.ALL)) {
+            return new ResponseEntity<>(taskJsonCache.encodeAll(tasks), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(withFields(tasks, selected), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves several tasks by their IDs in a single request, e.g. {@code GET /v1/tasks?ids=1,2,3}.
+     *
+     * @param ids the IDs of the tasks to retrieve, at most {@value #MAX_LOOKUP_IDS}
+     * @param fields the comma-separated task fields to return, all when absent
+     * @return a {@link ResponseEntity} containing one result per requested ID in request order,
+     *         each reporting whether the task was found, or an error message if the IDs are invalid.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields
+    ) {
+        if (ids.isEmpty() || ids.size() > MAX_LOOKUP_IDS) {
+            return new ResponseEntity<>("Between 1 and " + MAX_LOOKUP_IDS + " ids must be requested.",
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (ids.stream().anyMatch(id -> id == null || id <= 0)) {
+            return new ResponseEntity<>("Ids must be greater than 0.", HttpStatus.BAD_REQUEST);
+        }
+        Set<TaskField> selected = fields != null ? TaskField.parse(fields) : TaskField.ALL;
+        List<TaskLookupResult> results = taskService.getTasksByIds(ids, selected);
+        return new ResponseEntity<>(withFields(results, selected), HttpStatus.OK);
     }
 
     /**
      * Retrieves a task by its ID.
      *
      * @param id the ID of the task to retrieve
+     * @param includeArchived whether the archive is searched when the task is not active
+     * @param fields the comma-separated task fields to return, all when absent
      * @return a {@link ResponseEntity} containing the task or an HTTP status
      *         indicating that the task was not found.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getById(
-            @PathVariable Long id
+    public ResponseEntity<?> getById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields
     ) {
-        Task task = taskService.getTaskById(id);
-        return new ResponseEntity<>(task, HttpStatus.OK);
+        Set<TaskField> selected = fields != null ? TaskField.parse(fields) : TaskField.ALL;
+        Task task = includeArchived
+                ? taskArchiveService.getTaskByIdIncludingArchived(id)
+                : taskService.getTaskById(id);
+        if (taskJsonCache.isEnabled() && selected.containsAll(TaskField.ALL)) {
+            return new ResponseEntity<>(taskJsonCache.encode(task), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(withFields(task, selected), HttpStatus.OK);
     }
 
     /**
@@ -149,4 +230,145 @@ public class TaskRestController {
         return new ResponseEntity<>(task, HttpStatus.OK);
     }
 
+    /**
+     * Executes an ordered list of create, update, completion and delete operations in one
+     * transaction, e.g. {@code POST /v1/tasks/batch} with
+     * {@code {"mode": "PER_OPERATION", "operations": [{"type": "CREATE", "task": {...}},
+     * {"type": "COMPLETE", "id": 4, "complete": true}, {"type": "DELETE", "id": 2}]}}.
+     *
+     * @param request the operations and the error mode, all-or-nothing when absent
+     * @param result the binding result containing validation errors, if any
+     * @return a {@link ResponseEntity} with one result per operation, or a list of error messages
+     *         if the request is malformed, in which case no operation is applied.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> executeBatch(
+            @Validated(BatchRequest.Checks.class) @RequestBody BatchRequest request,
+            BindingResult result
+    ) {
+        if (result.hasErrors()) {
+            List<String> errorMessages = result.getFieldErrors()
+                    .stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .toList();
+            return new ResponseEntity<>(errorMessages, HttpStatus.BAD_REQUEST);
+        }
+        List<BatchOperation> operations = request.operations();
+        List<String> errorMessages = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            String error = operations.get(i) != null ? operations.get(i).argumentError() : "operation is missing.";
+            if (error != null) {
+                errorMessages.add("operations[" + i + "]: " + error);
+            }
+        }
+        if (!errorMessages.isEmpty()) {
+            return new ResponseEntity<>(errorMessages, HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(taskBatchService.executeBatch(request), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves all tasks in the user-defined order.
+     *
+     * @return a {@link ResponseEntity} containing the ordered list of tasks or an HTTP status
+     *         indicating that no tasks are available.
+     */
+    @GetMapping("/ordered")
+    public ResponseEntity<?> getTasksInOrder() {
+        List<Task> tasks = taskService.getTasksInOrder();
+        if (tasks.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    /**
+     * Moves a task in the user-defined order, e.g. {@code PUT /v1/tasks/move-task/4?after=2}.
+     *
+     * @param id the ID of the task to move
+     * @param after the ID of the task to follow, absent to move the task first
+     * @return a {@link ResponseEntity} containing the moved task.
+     */
+    @PutMapping("/move-task/{id}")
+    public ResponseEntity<?> moveTask(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after
+    ) {
+        Task task = taskService.moveTask(id, after);
+        return new ResponseEntity<>(task, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a page of the tasks matching a label filter, in ascending ID order, e.g.
+     * {@code GET /v1/tasks/filter?labels=work AND (urgent OR review) AND NOT blocked&complete=false}.
+     *
+     * @param labels the label filter expression, absent to match every task
+     * @param complete the completion status to match, absent for both
+     * @param afterId the ID to start after, the last ID of the previous page
+     * @param limit the maximum number of tasks returned, at most {@value #MAX_LOOKUP_IDS}
+     * @return a {@link ResponseEntity} containing the matching tasks, an HTTP status indicating
+     *         that no tasks match, or an error message if the paging parameters are invalid.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterTasks(
+            @RequestParam(required = false) String labels,
+            @RequestParam(required = false) Boolean complete,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        if (limit < 1 || limit > MAX_LOOKUP_IDS) {
+            return new ResponseEntity<>("Limit must be between 1 and " + MAX_LOOKUP_IDS + ".",
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (afterId < 0) {
+            return new ResponseEntity<>("AfterId must not be negative.", HttpStatus.BAD_REQUEST);
+        }
+        List<Task> tasks = taskLabelService.findTasksByLabels(labels, complete, afterId, limit);
+        if (tasks.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        if (taskJsonCache.isEnabled()) {
+            return new ResponseEntity<>(taskJsonCache.encodeAll(tasks), HttpStatus.OK);
+        }
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the number of tasks per label.
+     *
+     * @return a {@link ResponseEntity} containing the task count of every label.
+     */
+    @GetMapping("/labels")
+    public ResponseEntity<Map<String, Long>> getLabelCounts() {
+        return new ResponseEntity<>(taskLabelService.getLabelCounts(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the number of tasks and completed tasks per due week.
+     *
+     * @return a {@link ResponseEntity} containing one entry per week holding tasks.
+     */
+    @GetMapping("/analytics/completion-by-due-week")
+    public ResponseEntity<List<DueWeekCompletion>> getCompletionByDueWeek() {
+        return new ResponseEntity<>(taskAnalyticsService.getCompletionByDueWeek(), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the task counts and due-date histogram shown on dashboards.
+     *
+     * @return a {@link ResponseEntity} containing the current task statistics.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatisticsSnapshot> getStatistics() {
+        return new ResponseEntity<>(taskStatisticsService.getStatistics(), HttpStatus.OK);
+    }
+
+    private static Object withFields(Object body, Set<TaskField> selected) {
+        if (selected.containsAll(TaskField.ALL)) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(TaskFieldFilters.forFields(selected));
+        return value;
+    }
 }
@@ -0,0 +1,150 @@
+package com.gklyphon.ToDo.dataset;
+
+import com.gklyphon.ToDo.config.dataset.DatasetProperties;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import com.gklyphon.ToDo.ordering.FractionalIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk-loads a synthetic task dataset at startup, for benchmarks and load tests.
+ * <p>
+ * Rows come from a {@link TaskRowGenerator} and are written with JDBC batch inserts, one
+ * transaction per batch, by several writer threads in parallel. Progress and the final rate
+ * are logged in rows per second. Each row gets a {@link FractionalIndex} sort key after the
+ * highest existing one, so loaded tasks are ordered without a later rebalance. A {@link TasksBulkLoadedEvent} is published at the end so
+ * derived state is rebuilt from the loaded data.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskDatasetLoader implements ApplicationRunner {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (name, complete, due_time, create_at, update_at, sort_key) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String MAX_SORT_KEY_SQL = "SELECT MAX(sort_key) FROM tasks";
+    private static final long PROGRESS_INTERVAL_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        load();
+    }
+
+    /**
+     * Generates and inserts the configured number of tasks.
+     *
+     * @return the number of inserted tasks
+     * @throws Exception if a writer fails
+     */
+    public long load() throws Exception {
+        int threads = Math.max(1, properties.getThreads());
+        long rows = properties.getRows();
+        TaskRowGenerator generator = new TaskRowGenerator(properties, LocalDate.now());
+        AtomicLong inserted = new AtomicLong();
+        AtomicReference<String> sortKey = new AtomicReference<>(
+                jdbcTemplate.queryForObject(MAX_SORT_KEY_SQL, String.class));
+        log.info("Generating {} tasks with {} writer threads", rows, threads);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long share = rows / threads + (i < rows % threads ? 1 : 0);
+                TaskRowGenerator writerGenerator = generator.split();
+                writers.add(executor.submit(() -> write(writerGenerator, share, sortKey, inserted)));
+            }
+            for (Future<?> writer : writers) {
+                while (true) {
+                    try {
+                        writer.get(PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+                        break;
+                    } catch (TimeoutException ex) {
+                        logProgress(inserted.get(), rows, start);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("Inserted {} tasks in {} ms ({} rows/sec)", inserted.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rate(inserted.get(), elapsedNanos));
+        eventPublisher.publishEvent(new TasksBulkLoadedEvent(inserted.get()));
+        return inserted.get();
+    }
+
+    private void write(TaskRowGenerator generator, long rows, AtomicReference<String> sortKey, AtomicLong inserted) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<SortedRow> batch = new ArrayList<>(batchSize);
+        for (long remaining = rows; remaining > 0; remaining -= batch.size()) {
+            batch.clear();
+            for (int i = 0; i < Math.min(batchSize, remaining); i++) {
+                batch.add(new SortedRow(generator.next(), sortKey.updateAndGet(FractionalIndex::after)));
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), TaskDatasetLoader::bind));
+            inserted.addAndGet(batch.size());
+        }
+    }
+
+    private static void bind(PreparedStatement statement, SortedRow sortedRow) throws SQLException {
+        TaskRowGenerator.TaskRow row = sortedRow.row();
+        statement.setString(1, row.name());
+        statement.setBoolean(2, row.complete());
+        if (row.dueTime() != null) {
+            statement.setDate(3, Date.valueOf(row.dueTime()));
+        } else {
+            statement.setNull(3, Types.DATE);
+        }
+        statement.setTimestamp(4, Timestamp.valueOf(row.createAt()));
+        if (row.updateAt() != null) {
+            statement.setTimestamp(5, Timestamp.valueOf(row.updateAt()));
+        } else {
+            statement.setNull(5, Types.TIMESTAMP);
+        }
+        statement.setString(6, sortedRow.sortKey());
+    }
+
+    private static void logProgress(long inserted, long rows, long start) {
+        log.info("Inserted {}/{} tasks ({} rows/sec)", inserted, rows, rate(inserted, System.nanoTime() - start));
+    }
+
+    private static long rate(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : rows;
+    }
+
+    private record SortedRow(TaskRowGenerator.TaskRow row, String sortKey) {
+    }
+}
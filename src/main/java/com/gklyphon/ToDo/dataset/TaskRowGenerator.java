@@ -0,0 +1,103 @@
+package com.gklyphon.ToDo.dataset;
+
+import com.gklyphon.ToDo.config.dataset.DatasetProperties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Generates realistic task rows following the configured distributions.
+ * <p>
+ * Names combine an action with a subject, due dates follow the configured distribution
+ * around a reference day, creation precedes the due date by up to a few weeks, and completed
+ * tasks carry an update timestamp. Each generator owns its random source; independent
+ * generators for parallel writers are obtained with {@link #split()}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskRowGenerator {
+
+    private static final String[] ACTIONS = {"Review", "Write", "Update", "Refactor", "Fix", "Plan", "Prepare",
+            "Schedule", "Call", "Email", "Buy", "Clean", "Test", "Deploy", "Document", "Organize"};
+    private static final String[] SUBJECTS = {"pull request", "unit tests", "documentation", "release notes",
+            "quarterly report", "team meeting", "budget", "groceries", "dentist appointment", "invoice",
+            "database migration", "onboarding guide", "backlog", "garage", "presentation", "travel plans"};
+
+    private final DatasetProperties properties;
+    private final LocalDate today;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a generator.
+     *
+     * @param properties the dataset properties
+     * @param today      the reference day due dates are spread around
+     */
+    public TaskRowGenerator(DatasetProperties properties, LocalDate today) {
+        this(properties, today, new SplittableRandom(properties.getSeed()));
+    }
+
+    private TaskRowGenerator(DatasetProperties properties, LocalDate today, SplittableRandom random) {
+        this.properties = properties;
+        this.today = today;
+        this.random = random;
+    }
+
+    /**
+     * Creates an independent generator, for use by another thread.
+     *
+     * @return a new generator with its own random source
+     */
+    public TaskRowGenerator split() {
+        return new TaskRowGenerator(properties, today, random.split());
+    }
+
+    /**
+     * Generates the next row.
+     *
+     * @return a new {@link TaskRow}
+     */
+    public TaskRow next() {
+        String name = ACTIONS[random.nextInt(ACTIONS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)];
+        boolean complete = random.nextDouble() < properties.getCompletedRatio();
+        LocalDate dueTime = random.nextDouble() < properties.getWithoutDueDateRatio() ? null : today.plusDays(dueOffset());
+        LocalDate createdOn = (dueTime != null ? dueTime : today).minusDays(random.nextInt(1, 30));
+        if (createdOn.isAfter(today)) {
+            createdOn = today.minusDays(random.nextInt(0, 30));
+        }
+        LocalDateTime createAt = createdOn.atStartOfDay().plusSeconds(random.nextInt(86_400));
+        LocalDateTime updateAt = complete ? createAt.plusMinutes(random.nextInt(1, 60 * 24 * 14)) : null;
+        if (updateAt != null && updateAt.isAfter(today.atStartOfDay())) {
+            updateAt = createAt;
+        }
+        return new TaskRow(name, complete, dueTime, createAt, updateAt);
+    }
+
+    private long dueOffset() {
+        int before = properties.getDueDaysBefore();
+        int after = properties.getDueDaysAfter();
+        if (properties.getDueDateDistribution() == DatasetProperties.DueDateDistribution.UNIFORM) {
+            return random.nextInt(-before, after + 1);
+        }
+        double standardDeviation = (before + after) / 6.0;
+        double offset = Math.round(random.nextGaussian() * standardDeviation + (after - before) / 6.0);
+        return (long) Math.max(-before, Math.min(after, offset));
+    }
+
+    /**
+     * One generated task row.
+     *
+     * @param name     the task name
+     * @param complete whether the task is completed
+     * @param dueTime  the due date, may be {@code null}
+     * @param createAt the creation timestamp
+     * @param updateAt the last update timestamp, may be {@code null}
+     */
+    public record TaskRow(String name, boolean complete, LocalDate dueTime, LocalDateTime createAt,
+                          LocalDateTime updateAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.gklyphon.ToDo.event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the {@link TaskMutationEvent}s applied to state derived from the tasks, so a snapshot
+ * taken from the task storage can tell whether a mutation raced it.
+ * <p>
+ * A mutation may be committed before the snapshot is taken but applied after, so it cannot be
+ * told whether the snapshot includes it. A snapshot is therefore current only if no mutation
+ * was applied since {@link #begin()} and none is pending, that is published but neither applied
+ * nor rolled back. The check must be made under the lock that guards the derived state.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class MutationStamp {
+
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Marks a mutation as published and not yet applied or rolled back.
+     */
+    public void pending() {
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Records a change of the derived state; must be called after the change is made.
+     */
+    public void applied() {
+        applied.incrementAndGet();
+    }
+
+    /**
+     * Marks a pending mutation as applied or rolled back.
+     */
+    public void settled() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Starts a snapshot; must be called before the snapshot is taken.
+     *
+     * @return the stamp to pass to {@link #isUnchangedSince(long)}
+     */
+    public long begin() {
+        return applied.get();
+    }
+
+    /**
+     * Checks whether a snapshot started with the given stamp may replace the derived state.
+     *
+     * @param stamp the stamp returned by {@link #begin()}
+     * @return {@code true} if no mutation was applied since and none is pending
+     */
+    public boolean isUnchangedSince(long stamp) {
+        return applied.get() == stamp && pending.get() == 0;
+    }
+}
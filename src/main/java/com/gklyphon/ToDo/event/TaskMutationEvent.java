@@ -0,0 +1,77 @@
+package com.gklyphon.ToDo.event;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.time.Instant;
+
+/**
+ * Application event published whenever a task is created, changed or removed.
+ * <p>
+ * Events carry detached snapshots of the task before and after the change, so listeners
+ * can safely keep or inspect them outside the transaction that produced them. Listeners
+ * should use {@link org.springframework.transaction.event.TransactionalEventListener} so
+ * they only observe committed changes.
+ * </p>
+ *
+ * @param type      the kind of change
+ * @param taskId    the identifier of the affected task
+ * @param before    the task before the change, {@code null} when unknown or not applicable
+ * @param after     the task after the change, {@code null} when it no longer exists
+ * @param timestamp when the change was made
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskMutationEvent(Type type, Long taskId, Task before, Task after, Instant timestamp) {
+
+    /** The kind of change made to a task. */
+    public enum Type {
+        /** The task was created. */
+        CREATED,
+        /** The task data was updated. */
+        UPDATED,
+        /** Only the completion status of the task was changed. */
+        COMPLETION_CHANGED,
+        /** The task was deleted. */
+        DELETED,
+        /** The task was moved to the archive. */
+        ARCHIVED,
+        /** Only the position of the task in the user-defined order was changed. */
+        MOVED
+    }
+
+    /**
+     * Creates an event for a created task.
+     *
+     * @param after the created task
+     * @return a {@code CREATED} event
+     */
+    public static TaskMutationEvent created(Task after) {
+        return new TaskMutationEvent(Type.CREATED, after.getId(), null, after.copy(), Instant.now());
+    }
+
+    /**
+     * Creates an event for a changed task.
+     *
+     * @param type   the kind of change
+     * @param before the task before the change
+     * @param after  the task after the change
+     * @return the event
+     */
+    public static TaskMutationEvent changed(Type type, Task before, Task after) {
+        return new TaskMutationEvent(type, after.getId(), before, after.copy(), Instant.now());
+    }
+
+    /**
+     * Creates an event for a task that no longer exists in the {@code tasks} table.
+     *
+     * @param type   {@link Type#DELETED} or {@link Type#ARCHIVED}
+     * @param taskId the identifier of the removed task
+     * @param before the task before removal, {@code null} when unknown
+     * @return the event
+     */
+    public static TaskMutationEvent removed(Type type, Long taskId, Task before) {
+        return new TaskMutationEvent(type, taskId, before, null, Instant.now());
+    }
+}
@@ -0,0 +1,17 @@
+package com.gklyphon.ToDo.event;
+
+/**
+ * Application event published after tasks were written in bulk, bypassing the task service.
+ * <p>
+ * No {@link TaskMutationEvent} is published for such tasks, so listeners keeping derived
+ * state must rebuild it from the task storage.
+ * </p>
+ *
+ * @param rows the number of tasks written
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TasksBulkLoadedEvent(long rows) {
+}
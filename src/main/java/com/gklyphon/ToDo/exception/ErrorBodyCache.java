@@ -0,0 +1,90 @@
+package com.gklyphon.ToDo.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of serialized {@link ErrorResponse} bodies for the common error statuses.
+ * <p>
+ * A body is serialized once per status and message and reused until its timestamp is one
+ * second old, so answering a flood of identical errors costs neither a Jackson pass nor
+ * garbage per request. Messages must come from a small fixed set, never from request data.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class ErrorBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final ConcurrentHashMap<Key, Body> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param objectMapper the mapper serializing the bodies
+     * @param clock        the clock deciding when a body timestamp is stale
+     */
+    public ErrorBodyCache(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the serialized body for a status and message.
+     *
+     * @param status  the HTTP status
+     * @param message the error message
+     * @return the JSON body, shared between callers and never to be modified
+     */
+    public byte[] get(HttpStatus status, String message) {
+        long second = clock.millis() / 1000;
+        Key key = new Key(status.value(), message);
+        Body body = bodies.get(key);
+        if (body == null || body.second != second) {
+            body = new Body(second, serialize(new ErrorResponse(message, status)));
+            bodies.put(key, body);
+        }
+        return body.bytes;
+    }
+
+    /**
+     * Writes an error as the response, setting its status and content type.
+     *
+     * @param response the response to write
+     * @param status   the HTTP status
+     * @param message  the error message
+     * @throws IOException if the body cannot be written
+     */
+    public void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] body = get(status, message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] serialize(ErrorResponse errorResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private record Key(int status, String message) {
+    }
+
+    private record Body(long second, byte[] bytes) {
+    }
+}
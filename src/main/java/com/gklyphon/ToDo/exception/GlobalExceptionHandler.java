@@ -1,10 +1,17 @@
 package com.gklyphon.ToDo.exception;
 
+import com.gklyphon.ToDo.config.error.ErrorHandlingProperties;
 import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.exception.custom.InvalidFieldException;
+import com.gklyphon.ToDo.exception.custom.InvalidFilterException;
+import com.gklyphon.ToDo.logging.LogRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -14,6 +21,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * This class provides centralized exception handling for the application, ensuring that appropriate
  * responses are returned with meaningful error messages and correct HTTP status codes.
  * </p>
+ * <p>
+ * In low-cost mode, which is the default, responses reuse the bodies of the {@link ErrorBodyCache}
+ * and every kind of error is logged through a {@link LogRateLimiter}, so a flood of requests for
+ * missing tasks costs little CPU and log I/O.
+ * </p>
  *
  * @author JFCiscoHuerta
  * @version 1.0
@@ -23,20 +35,76 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorHandlingProperties properties;
+    private final ErrorBodyCache errorBodyCache;
+    private final LogRateLimiter notFoundLog;
+    private final LogRateLimiter unexpectedErrorLog;
+    private final LogRateLimiter dataAccessLog;
+    private final LogRateLimiter transactionLog;
+
+    /**
+     * Creates the handler.
+     *
+     * @param properties     the error handling properties
+     * @param errorBodyCache the cache providing error bodies in low-cost mode
+     */
+    public GlobalExceptionHandler(ErrorHandlingProperties properties, ErrorBodyCache errorBodyCache) {
+        this.properties = properties;
+        this.errorBodyCache = errorBodyCache;
+        this.notFoundLog = new LogRateLimiter(properties.getLogPermits(), properties.getLogInterval());
+        this.unexpectedErrorLog = new LogRateLimiter(properties.getLogPermits(), properties.getLogInterval());
+        this.dataAccessLog = new LogRateLimiter(properties.getLogPermits(), properties.getLogInterval());
+        this.transactionLog = new LogRateLimiter(properties.getLogPermits(), properties.getLogInterval());
+    }
+
     /**
      * Handles {@link ElementNotFoundException} when a requested element is not found.
-     * <p>Logs the error and returns a 404 (Not Found) response.</p>
+     * <p>Logs the error and returns a 404 (Not Found) response. In low-cost mode the body
+     * only names the type of the missing element.</p>
      *
      * @param ex the exception indicating that the element was not found
      * @return a {@code ResponseEntity} containing an {@link ErrorResponse} with the error details
      */
     @ExceptionHandler(ElementNotFoundException.class)
     public ResponseEntity<?> handleElementNotFoundException(ElementNotFoundException ex) {
+        if (properties.isLowCost() && ex.getElement() != null) {
+            long suppressed = notFoundLog.acquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("Element not found: {}{}", ex.getMessage(), LogRateLimiter.summary(suppressed));
+            }
+            return cached(HttpStatus.NOT_FOUND, ex.getElement() + " not found.");
+        }
         log.error("Element not found: {}", ex.getMessage());
         ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles {@link InvalidFieldException} when a request selects fields that do not exist.
+     * <p>Returns a 400 (Bad Request) response naming the invalid field.</p>
+     *
+     * @param ex the exception indicating the invalid field
+     * @return a {@code ResponseEntity} containing an {@link ErrorResponse} with the error details
+     */
+    @ExceptionHandler(InvalidFieldException.class)
+    public ResponseEntity<?> handleInvalidFieldException(InvalidFieldException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link InvalidFilterException} when a request has a malformed label filter.
+     * <p>Returns a 400 (Bad Request) response describing the syntax error.</p>
+     *
+     * @param ex the exception indicating the syntax error
+     * @return a {@code ResponseEntity} containing an {@link ErrorResponse} with the error details
+     */
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<?> handleInvalidFilterException(InvalidFilterException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * Handles generic {@link Exception} that are not explicitly caught elsewhere.
      * <p>Logs the error and returns a 500 (Internal Server Error) response.</p>
@@ -46,6 +114,13 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGenericException(Exception ex) {
+        if (properties.isLowCost()) {
+            long suppressed = unexpectedErrorLog.acquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("Unexpected error occurred{}", LogRateLimiter.summary(suppressed), ex);
+            }
+            return cached(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error");
+        }
         log.error("Unexpected error occurred", ex);
         ErrorResponse errorResponse = new ErrorResponse("Internal Server Error", HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
@@ -60,9 +135,50 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DataAccessException.class)
     public ResponseEntity<?> handleDataAccessException(DataAccessException ex) {
+        if (properties.isLowCost()) {
+            long suppressed = dataAccessLog.acquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("Error retrieving tasks: {}{}", ex.getMessage(), LogRateLimiter.summary(suppressed));
+            }
+            return cached(HttpStatus.INTERNAL_SERVER_ERROR, "Error Retrieving Tasks");
+        }
         log.error("Error retrieving tasks: {}", ex.getMessage());
         ErrorResponse errorResponse = new ErrorResponse("Error Retrieving Tasks", HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Handles {@link CannotCreateTransactionException} thrown when no database connection
+     * can be obtained in time, typically because the connection pool is saturated.
+     * <p>Logs the error and returns a 503 (Service Unavailable) response with a {@code Retry-After} header.</p>
+     *
+     * @param ex the exception indicating that a transaction could not be started
+     * @return a {@code ResponseEntity} containing an {@link ErrorResponse} with the error details
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<?> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        if (properties.isLowCost()) {
+            long suppressed = transactionLog.acquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.warn("Could not acquire a database connection: {}{}", ex.getMessage(),
+                        LogRateLimiter.summary(suppressed));
+            }
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorBodyCache.get(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable"));
+        }
+        log.warn("Could not acquire a database connection: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse("Service Unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    private ResponseEntity<byte[]> cached(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodyCache.get(status, message));
+    }
+
 }
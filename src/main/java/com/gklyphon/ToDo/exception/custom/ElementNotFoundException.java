@@ -5,6 +5,8 @@ package com.gklyphon.ToDo.exception.custom;
  * <p>
  * This exception extends {@link RuntimeException} and is intended to be thrown
  * when an operation cannot locate the requested element in the data source.
+ * It is an expected outcome rather than a bug, so no stack trace is captured, and
+ * when created from an element type and ID the message is only built if it is read.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -13,6 +15,12 @@ package com.gklyphon.ToDo.exception.custom;
  */
 public class ElementNotFoundException extends RuntimeException {
 
+    /** The type of the missing element, {@code null} when created from a message. */
+    private final String element;
+
+    /** The ID of the missing element, {@code null} when created from a message. */
+    private final transient Object id;
+
     /**
      * Custom exception to indicate that a specific element was not found.
      * <p>
@@ -21,7 +29,7 @@ public class ElementNotFoundException extends RuntimeException {
      * </p>
      */
     public ElementNotFoundException(String message) {
-        super(message);
+        this(message, (Throwable) null);
     }
 
     /**
@@ -31,6 +39,38 @@ public class ElementNotFoundException extends RuntimeException {
      * @param cause   the underlying cause of the exception, typically another exception
      */
     public ElementNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
+        this.element = null;
+        this.id = null;
+    }
+
+    /**
+     * Constructs a new {@code ElementNotFoundException} for an element type and ID.
+     *
+     * @param element the type of the missing element, such as {@code "Task"}
+     * @param id      the ID of the missing element
+     */
+    public ElementNotFoundException(String element, Object id) {
+        super(null, null, false, false);
+        this.element = element;
+        this.id = id;
+    }
+
+    /**
+     * Returns the type of the missing element.
+     *
+     * @return the element type, or {@code null} when the exception was created from a message
+     */
+    public String getElement() {
+        return element;
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        if (message == null && element != null) {
+            return element + " with id: " + id + " not found.";
+        }
+        return message;
     }
 }
@@ -0,0 +1,24 @@
+package com.gklyphon.ToDo.exception.custom;
+
+/**
+ * Custom exception to indicate that a request selected a field that does not exist.
+ * <p>
+ * This exception extends {@link RuntimeException} and is thrown when a sparse fieldset
+ * names an unknown field or no field at all.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidFieldException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidFieldException} with the specified detail message.
+     *
+     * @param message the detail message explaining which field is invalid
+     */
+    public InvalidFieldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.gklyphon.ToDo.exception.custom;
+
+/**
+ * Custom exception to indicate that a label filter expression cannot be parsed.
+ * <p>
+ * This exception extends {@link RuntimeException} and is thrown when a filter has a syntax error,
+ * such as an unbalanced parenthesis or a missing operand.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidFilterException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code InvalidFilterException} with the specified detail message.
+     *
+     * @param message the detail message explaining the syntax error
+     */
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,203 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Always-on flight recording of the JVM and the task events, dumped to files on demand
+ * and whenever a request is slow.
+ * <p>
+ * The recording keeps a bounded window of history on disk, by age and by size. A slow request
+ * dumps that window on a background thread, so the request is not delayed further; dumps for
+ * slow requests are taken at most once per configured interval, since requests tend to be
+ * slow together. Only the most recent dumps are kept in the dump directory.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class ContinuousFlightRecorder implements AutoCloseable {
+
+    /** The extension of dump files. */
+    static final String SUFFIX = ".jfr";
+
+    private static final Pattern DUMP_NAME = Pattern.compile("[0-9]{8}-[0-9]{9}-[a-z-]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final Recording recording;
+    private final Path directory;
+    private final int maxDumps;
+    private final long minDumpIntervalNanos;
+    private final AtomicLong nextSlowDumpNanos = new AtomicLong(System.nanoTime());
+    private final ExecutorService dumper = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("flight-recorder-dump").daemon().factory());
+    private final Counter slowDumps;
+    private final Counter skippedDumps;
+
+    /**
+     * Starts the recording.
+     *
+     * @param directory       the directory receiving the dumps
+     * @param settings        the name of the JFR settings, such as {@code default} or {@code profile}
+     * @param maxAge          how long recorded history is kept
+     * @param maxSizeBytes    how much recorded history is kept
+     * @param maxDumps        the number of dumps kept in the directory
+     * @param minDumpInterval the minimum time between two dumps for slow requests
+     * @param meterRegistry   the registry where the dump counters are published
+     * @throws IOException    if the directory cannot be created or the settings cannot be read
+     */
+    public ContinuousFlightRecorder(Path directory, String settings, Duration maxAge, long maxSizeBytes, int maxDumps,
+                                    Duration minDumpInterval, MeterRegistry meterRegistry) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxDumps = maxDumps;
+        this.minDumpIntervalNanos = minDumpInterval.toNanos();
+        this.slowDumps = Counter.builder("todo.flight-recorder.dumps")
+                .description("Flight recordings dumped")
+                .tag("reason", "slow-request")
+                .register(meterRegistry);
+        this.skippedDumps = Counter.builder("todo.flight-recorder.dumps.skipped")
+                .description("Slow requests not dumped because a dump was taken recently")
+                .register(meterRegistry);
+        try {
+            this.recording = new Recording(Configuration.getConfiguration(settings));
+        } catch (ParseException ex) {
+            throw new IOException("Invalid flight recorder settings: " + settings, ex);
+        }
+        recording.setName("todo-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.enable(TaskRequestEvent.class);
+        recording.enable(TaskPhaseEvent.class);
+        recording.start();
+    }
+
+    /**
+     * Dumps the recording in the background for a slow request, unless a slow request was dumped
+     * less than the minimum interval ago.
+     *
+     * @param request the slow request, for the log
+     * @param elapsed how long the request took
+     */
+    public void dumpSlowRequest(String request, Duration elapsed) {
+        long now = System.nanoTime();
+        long next = nextSlowDumpNanos.get();
+        if (now - next < 0 || !nextSlowDumpNanos.compareAndSet(next, now + minDumpIntervalNanos)) {
+            skippedDumps.increment();
+            return;
+        }
+        dumper.execute(() -> {
+            try {
+                Path file = dump("slow-request");
+                slowDumps.increment();
+                log.warn("Request {} took {} ms, flight recording dumped to {}", request, elapsed.toMillis(), file);
+            } catch (IOException | RuntimeException ex) {
+                log.error("Could not dump the flight recording for slow request {}", request, ex);
+            }
+        });
+    }
+
+    /**
+     * Dumps the recorded history to a new file of the dump directory.
+     *
+     * @param reason why the dump is taken, part of the file name
+     * @return the dump file
+     * @throws IOException if the dump cannot be written
+     */
+    public synchronized Path dump(String reason) throws IOException {
+        Path file = directory.resolve(FILE_TIME.format(Instant.now()) + "-" + reason + SUFFIX);
+        recording.dump(file);
+        prune();
+        return file;
+    }
+
+    /**
+     * Lists the dumps kept in the dump directory, oldest first.
+     *
+     * @return the dumps
+     * @throws IOException if the directory cannot be read
+     */
+    public List<FlightRecordingDump> listDumps() throws IOException {
+        List<FlightRecordingDump> dumps = new ArrayList<>();
+        for (Path file : dumpFiles()) {
+            try {
+                dumps.add(new FlightRecordingDump(file.getFileName().toString(), Files.size(file),
+                        Files.getLastModifiedTime(file).toInstant()));
+            } catch (IOException ex) {
+                // Pruned while listing.
+            }
+        }
+        return dumps;
+    }
+
+    /**
+     * Resolves a dump by name.
+     *
+     * @param name the file name of the dump
+     * @return the dump file, or empty if no dump has that name
+     */
+    public Optional<Path> findDump(String name) {
+        if (!DUMP_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(name);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Stops the recording and waits for a dump in progress.
+     */
+    @Override
+    public void close() {
+        dumper.shutdown();
+        try {
+            dumper.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recording.close();
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> files = dumpFiles();
+        for (int i = 0; i < files.size() - maxDumps; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private List<Path> dumpFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> DUMP_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+}
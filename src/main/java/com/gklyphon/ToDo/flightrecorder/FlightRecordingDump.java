@@ -0,0 +1,16 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import java.time.Instant;
+
+/**
+ * A recording dumped by the {@link ContinuousFlightRecorder}.
+ *
+ * @param name      the file name of the dump
+ * @param size      the size of the dump in bytes
+ * @param createdAt when the dump was written
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record FlightRecordingDump(String name, long size, Instant createdAt) {
+}
@@ -0,0 +1,68 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Actuator endpoint listing, downloading and taking flight recording dumps.
+ * <p>
+ * {@code GET /actuator/flightrecording} lists the kept dumps, {@code GET /actuator/flightrecording/{name}}
+ * downloads one and {@code POST /actuator/flightrecording} dumps the recorded history and downloads it.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@WebEndpoint(id = "flightrecording")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private static final String JFR_CONTENT_TYPE = "application/octet-stream";
+
+    private final ContinuousFlightRecorder recorder;
+
+    /**
+     * Lists the kept dumps.
+     *
+     * @return the dumps, oldest first
+     * @throws IOException if the dump directory cannot be read
+     */
+    @ReadOperation
+    public List<FlightRecordingDump> dumps() throws IOException {
+        return recorder.listDumps();
+    }
+
+    /**
+     * Downloads a kept dump.
+     *
+     * @param name the file name of the dump
+     * @return the dump, or status Not Found (404)
+     */
+    @ReadOperation(produces = JFR_CONTENT_TYPE)
+    public WebEndpointResponse<Resource> dump(@Selector String name) {
+        return recorder.findDump(name)
+                .map(file -> new WebEndpointResponse<Resource>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    /**
+     * Dumps the recorded history and downloads it.
+     *
+     * @return the new dump
+     * @throws IOException if the dump cannot be written
+     */
+    @WriteOperation(produces = JFR_CONTENT_TYPE)
+    public WebEndpointResponse<Resource> takeDump() throws IOException {
+        return new WebEndpointResponse<>(new FileSystemResource(recorder.dump("manual")));
+    }
+}
@@ -0,0 +1,47 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener recording a {@link TaskPhase#SQL} event around every JDBC
+ * statement and batch executed by the session.
+ * <p>
+ * Hibernate creates one listener per session, and a session is used by one thread at a time,
+ * so the event in progress is a plain field.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class JdbcPhaseListener implements SessionEventListener {
+
+    private TaskPhaseEvent statement;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statement = TaskPhaseEvent.start(TaskPhase.SQL, "statement");
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        endStatement();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statement = TaskPhaseEvent.start(TaskPhase.SQL, "batch");
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        endStatement();
+    }
+
+    private void endStatement() {
+        if (statement != null) {
+            statement.end(false);
+            statement = null;
+        }
+    }
+}
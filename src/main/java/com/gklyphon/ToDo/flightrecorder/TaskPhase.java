@@ -0,0 +1,26 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+/**
+ * The phases of a task request timed by {@link TaskPhaseEvent}s.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum TaskPhase {
+
+    /** Reading the JSON request body into objects. */
+    DESERIALIZATION,
+
+    /** Bean validation of the request body. */
+    VALIDATION,
+
+    /** A service transaction, from the start of the service method until commit or rollback. */
+    TRANSACTION,
+
+    /** The execution of one JDBC statement or batch. */
+    SQL,
+
+    /** Writing the response body as JSON. */
+    SERIALIZATION
+}
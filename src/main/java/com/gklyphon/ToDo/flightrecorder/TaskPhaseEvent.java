@@ -0,0 +1,64 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event timing one {@link TaskPhase} of a task request.
+ * <p>
+ * Phases are recorded on the request thread, so in a recording they nest inside the
+ * {@link TaskRequestEvent} of the same thread. When no recording enables the event,
+ * {@link #start(TaskPhase, String)} and {@link #end(boolean)} do nothing.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Name("com.gklyphon.ToDo.TaskPhase")
+@Label("Task Phase")
+@Description("One phase of a task request")
+@Category({"ToDo", "Tasks"})
+@StackTrace(false)
+public class TaskPhaseEvent extends Event {
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Detail")
+    private String detail;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param phase  the phase
+     * @param detail what the phase works on, such as a service operation or a body type
+     * @return the started event
+     */
+    public static TaskPhaseEvent start(TaskPhase phase, String detail) {
+        TaskPhaseEvent event = new TaskPhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.name();
+            event.detail = detail;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the phase and commits the event.
+     *
+     * @param failed whether the phase ended with an error or a rollback
+     */
+    public void end(boolean failed) {
+        this.failed = failed;
+        commit();
+    }
+}
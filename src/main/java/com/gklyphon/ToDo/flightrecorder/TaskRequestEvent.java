@@ -0,0 +1,38 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one request to the task endpoints.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Name("com.gklyphon.ToDo.TaskRequest")
+@Label("Task Request")
+@Description("A request to the task endpoints")
+@Category({"ToDo", "Tasks"})
+@StackTrace(false)
+class TaskRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+
+    @Label("Slow")
+    boolean slow;
+}
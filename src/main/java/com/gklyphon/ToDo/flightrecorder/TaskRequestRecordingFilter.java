@@ -0,0 +1,64 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Servlet filter recording a {@link TaskRequestEvent} for every task request, and dumping
+ * the flight recording when a request takes longer than the slow request threshold.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskRequestRecordingFilter extends OncePerRequestFilter {
+
+    private final ContinuousFlightRecorder recorder;
+    private final long slowRequestThresholdNanos;
+
+    /**
+     * Creates a filter.
+     *
+     * @param recorder             the recorder dumped for slow requests
+     * @param slowRequestThreshold the duration above which a request is slow
+     */
+    public TaskRequestRecordingFilter(ContinuousFlightRecorder recorder, Duration slowRequestThreshold) {
+        this.recorder = recorder;
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TaskRequestEvent event = new TaskRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            event.end();
+            boolean slow = elapsed >= slowRequestThresholdNanos;
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.route = route != null ? route.toString() : null;
+                event.status = response.getStatus();
+                event.slow = slow;
+                event.commit();
+            }
+            if (slow) {
+                recorder.dumpSlowRequest(request.getMethod() + " " + (route != null ? route : request.getRequestURI()),
+                        Duration.ofNanos(elapsed));
+            }
+        }
+    }
+}
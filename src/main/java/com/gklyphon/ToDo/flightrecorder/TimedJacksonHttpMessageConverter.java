@@ -0,0 +1,60 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON message converter recording {@link TaskPhase#DESERIALIZATION} and
+ * {@link TaskPhase#SERIALIZATION} events around every body it reads and writes.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    /**
+     * Creates a converter.
+     *
+     * @param objectMapper the mapper reading and writing the bodies
+     */
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.DESERIALIZATION, type.getTypeName());
+        boolean failed = true;
+        try {
+            Object body = super.read(type, contextClass, inputMessage);
+            failed = false;
+            return body;
+        } finally {
+            event.end(failed);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object value = object instanceof MappingJacksonValue wrapper ? wrapper.getValue() : object;
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.SERIALIZATION, value.getClass().getSimpleName());
+        boolean failed = true;
+        try {
+            super.writeInternal(object, type, outputMessage);
+            failed = false;
+        } finally {
+            event.end(failed);
+        }
+    }
+}
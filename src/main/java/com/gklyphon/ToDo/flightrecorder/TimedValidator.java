@@ -0,0 +1,50 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator recording a {@link TaskPhase#VALIDATION} event around every validation it delegates.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    /**
+     * Creates a validator.
+     *
+     * @param delegate the validator doing the validation
+     */
+    public TimedValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.VALIDATION, target.getClass().getSimpleName());
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            event.end(errors.hasErrors());
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.VALIDATION, target.getClass().getSimpleName());
+        try {
+            delegate.validate(target, errors, validationHints);
+        } finally {
+            event.end(errors.hasErrors());
+        }
+    }
+}
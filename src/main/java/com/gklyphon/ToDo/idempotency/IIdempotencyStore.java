@@ -0,0 +1,45 @@
+package com.gklyphon.ToDo.idempotency;
+
+import java.time.Duration;
+
+/**
+ * TTL-bounded store of responses recorded per idempotency key.
+ * <p>
+ * Only one request per key executes at a time: concurrent requests with the same key
+ * wait for the first one to finish and then receive its recorded response.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IIdempotencyStore {
+
+    /**
+     * Claims the given key, waiting for an in-flight request with the same key to finish.
+     *
+     * @param key     the scoped idempotency key
+     * @param timeout the maximum time to wait for an in-flight request
+     * @return the {@link IdempotencyClaim} for the caller
+     * @throws IdempotencyKeyInProgressException if the in-flight request did not finish in time
+     */
+    public IdempotencyClaim claim(String key, Duration timeout);
+
+    /**
+     * Records the response of an owned key and releases any waiting request.
+     *
+     * @param key      the scoped idempotency key
+     * @param token    the token of the owned {@link IdempotencyClaim}
+     * @param response the response to record
+     */
+    public void complete(String key, String token, IdempotentResponse response);
+
+    /**
+     * Releases an owned key without recording a response, so a retry executes again.
+     * Does nothing if the key is no longer held by the claim with the given token.
+     *
+     * @param key   the scoped idempotency key
+     * @param token the token of the owned {@link IdempotencyClaim}
+     */
+    public void release(String key, String token);
+}
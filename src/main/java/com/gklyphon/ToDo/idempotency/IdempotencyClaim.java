@@ -0,0 +1,42 @@
+package com.gklyphon.ToDo.idempotency;
+
+/**
+ * Result of claiming an idempotency key.
+ * <p>
+ * A claim is either owned, meaning the caller must execute the request and then
+ * {@link IIdempotencyStore#complete complete} or {@link IIdempotencyStore#release release}
+ * the key with its token, or it carries the response recorded by an earlier request with the
+ * same key.
+ * </p>
+ *
+ * @param owned    whether the caller owns the key and must execute the request
+ * @param token    the token identifying this claim when the key is owned, so a claim whose lock
+ *                 expired cannot release the key claimed by another request
+ * @param response the recorded response when the key is not owned
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record IdempotencyClaim(boolean owned, String token, IdempotentResponse response) {
+
+    /**
+     * Creates a claim owned by the caller.
+     *
+     * @param token the token identifying the claim
+     * @return an owned {@code IdempotencyClaim}
+     */
+    public static IdempotencyClaim owner(String token) {
+        return new IdempotencyClaim(true, token, null);
+    }
+
+    /**
+     * Creates a claim replaying a recorded response.
+     *
+     * @param response the recorded response
+     * @return a replaying {@code IdempotencyClaim}
+     */
+    public static IdempotencyClaim replay(IdempotentResponse response) {
+        return new IdempotencyClaim(false, null, response);
+    }
+}
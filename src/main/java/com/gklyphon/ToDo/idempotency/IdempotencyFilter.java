@@ -0,0 +1,221 @@
+package com.gklyphon.ToDo.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Servlet filter that makes task creation, updates and batches idempotent through the
+ * {@code Idempotency-Key} request header.
+ * <p>
+ * The first request with a key executes normally and its status and body are recorded in the
+ * {@link IIdempotencyStore}. Retries with the same key receive the recorded response, marked with
+ * the {@code Idempotent-Replayed} header, without reaching the controller; concurrent duplicates
+ * wait for the first request instead of executing twice. Server errors are not recorded, so a
+ * retry after a 5xx executes again. Reusing a key with a different body is rejected with a
+ * 422 (Unprocessable Entity) response.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /** Request header carrying the client-generated idempotency key. */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    /** Response header set on replayed responses. */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String CREATE_PATH = "/v1/tasks/create-task";
+    private static final String BATCH_PATH = "/v1/tasks/batch";
+    private static final String UPDATE_PATH = "/v1/tasks/update-task/";
+
+    private final IIdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTimeout;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param store           the store of recorded responses
+     * @param objectMapper    the mapper used to write error bodies
+     * @param inFlightTimeout how long a duplicate waits for an in-flight request
+     */
+    public IdempotencyFilter(IIdempotencyStore store, ObjectMapper objectMapper, Duration inFlightTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        boolean create = "POST".equals(method) && (path.equals(CREATE_PATH) || path.equals(BATCH_PATH));
+        boolean update = "PUT".equals(method) && path.startsWith(UPDATE_PATH);
+        return !(create || update);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest.body);
+        String key = scopedKey(request, idempotencyKey);
+
+        IdempotencyClaim claim;
+        try {
+            claim = store.claim(key, inFlightTimeout);
+        } catch (IdempotencyKeyInProgressException ex) {
+            writeError(response, HttpStatus.CONFLICT, ex.getMessage());
+            return;
+        }
+
+        if (!claim.owned()) {
+            replay(response, claim.response(), fingerprint);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean recorded = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachingResponse);
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(key, claim.token(), new IdempotentResponse(fingerprint, cachingResponse.getStatus(),
+                        cachingResponse.getContentType(), cachingResponse.getContentAsByteArray()));
+                recorded = true;
+            }
+        } finally {
+            if (!recorded) {
+                store.release(key, claim.token());
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse recorded, String fingerprint)
+            throws IOException {
+        if (!recorded.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used with a different request body.");
+            return;
+        }
+        response.setStatus(recorded.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (recorded.contentType() != null) {
+            response.setContentType(recorded.contentType());
+        }
+        response.setContentLength(recorded.body().length);
+        response.getOutputStream().write(recorded.body());
+    }
+
+    private String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        Principal principal = request.getUserPrincipal();
+        String owner = principal != null ? principal.getName() : request.getRemoteAddr();
+        return owner + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+    }
+
+    private String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, status));
+    }
+
+    /** Request wrapper that reads the body once so it can be hashed and read again downstream. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
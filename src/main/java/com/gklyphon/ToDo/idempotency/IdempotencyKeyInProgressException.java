@@ -0,0 +1,21 @@
+package com.gklyphon.ToDo.idempotency;
+
+/**
+ * Exception thrown when a request with the same idempotency key is still being processed
+ * after the caller has waited for it.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code IdempotencyKeyInProgressException} with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.gklyphon.ToDo.idempotency;
+
+/**
+ * A response recorded for an idempotency key, replayed to retries of the same request.
+ *
+ * @param fingerprint the hash of the request body that produced the response
+ * @param status      the HTTP status code of the response
+ * @param contentType the content type of the response, may be {@code null}
+ * @param body        the raw response body
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
@@ -0,0 +1,128 @@
+package com.gklyphon.ToDo.idempotency;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-memory {@link IIdempotencyStore} for single-node deployments.
+ * <p>
+ * Each key maps to a {@link CompletableFuture} that is completed with the recorded response,
+ * so concurrent requests with the same key simply wait on the future of the first one. Each entry
+ * holds the token of its claim, so only that claim completes or releases it.
+ * Recorded responses expire after the configured TTL and are removed by {@link #evictExpired()}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InMemoryIdempotencyStore implements IIdempotencyStore {
+
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new store.
+     *
+     * @param ttl how long a recorded response is replayed
+     */
+    public InMemoryIdempotencyStore(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public IdempotencyClaim claim(String key, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Entry candidate = new Entry();
+            Entry existing = entries.putIfAbsent(key, candidate);
+            if (existing == null) {
+                return IdempotencyClaim.owner(candidate.token);
+            }
+            if (existing.isExpired(System.nanoTime())) {
+                if (entries.replace(key, existing, candidate)) {
+                    return IdempotencyClaim.owner(candidate.token);
+                }
+                continue;
+            }
+            IdempotentResponse response = await(existing, deadline);
+            if (response != null) {
+                return IdempotencyClaim.replay(response);
+            }
+            // The owner released the key without a response; compete for it again.
+        }
+    }
+
+    @Override
+    public void complete(String key, String token, IdempotentResponse response) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.token.equals(token)) {
+            entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+            entry.future.complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key, String token) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.token.equals(token) && !entry.future.isDone() && entries.remove(key, entry)) {
+            entry.future.complete(null);
+        }
+    }
+
+    /**
+     * Removes the recorded responses whose TTL has elapsed.
+     *
+     * @return the number of removed entries
+     */
+    public int evictExpired() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (var entry : entries.entrySet()) {
+            if (entry.getValue().isExpired(now) && entries.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of keys currently held.
+     *
+     * @return the number of in-flight and recorded keys
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private IdempotentResponse await(Entry entry, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        try {
+            return entry.future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInProgressException("A request with the same idempotency key is in progress.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("Interrupted while waiting for the idempotency key.");
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    /** In-flight or recorded request; expires only once a response has been recorded. */
+    private static final class Entry {
+
+        private final String token = UUID.randomUUID().toString();
+        private final CompletableFuture<IdempotentResponse> future = new CompletableFuture<>();
+        private volatile long expiresAtNanos = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return future.isDone() && now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.gklyphon.ToDo.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis-backed {@link IIdempotencyStore} sharing idempotency keys across nodes.
+ * <p>
+ * A key is claimed with {@code SET NX} holding a pending marker that expires after the lock TTL,
+ * so a crashed owner cannot block the key forever. The marker carries a token unique to the claim,
+ * and a key is released by an atomic Lua compare-and-delete on that marker, so an owner whose lock
+ * expired cannot delete the claim of the request that took the key over. Once the owner records its response the
+ * marker is replaced by the serialized response with the regular TTL. Requests that find the
+ * marker poll the key until the response appears or their timeout elapses.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class RedisIdempotencyStore implements IIdempotencyStore {
+
+    private static final String PENDING_PREFIX = "pending:";
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/idempotency-release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+
+    /**
+     * Creates a new store.
+     *
+     * @param redisTemplate the template used to reach Redis
+     * @param objectMapper  the mapper used to serialize recorded responses
+     * @param keyPrefix     the prefix of the idempotency keys in Redis
+     * @param ttl           how long a recorded response is replayed
+     * @param lockTtl       how long a claim is held before it is considered abandoned
+     * @param pollInterval  how often waiting requests check for the recorded response
+     */
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String keyPrefix,
+                                 Duration ttl, Duration lockTtl, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public IdempotencyClaim claim(String key, Duration timeout) {
+        String redisKey = keyPrefix + key;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(redisKey, PENDING_PREFIX + token, lockTtl);
+            if (Boolean.TRUE.equals(claimed)) {
+                return IdempotencyClaim.owner(token);
+            }
+            String value = redisTemplate.opsForValue().get(redisKey);
+            if (value != null && !value.startsWith(PENDING_PREFIX)) {
+                return IdempotencyClaim.replay(read(value));
+            }
+            if (value == null) {
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IdempotencyKeyInProgressException("A request with the same idempotency key is in progress.");
+            }
+            sleep();
+        }
+    }
+
+    @Override
+    public void complete(String key, String token, IdempotentResponse response) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException ex) {
+            release(key, token);
+            throw new IllegalStateException("Could not serialize idempotent response", ex);
+        }
+    }
+
+    @Override
+    public void release(String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + key), PENDING_PREFIX + token);
+    }
+
+    private IdempotentResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotentResponse.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not deserialize idempotent response", ex);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException("Interrupted while waiting for the idempotency key.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.gklyphon.ToDo.journal;
+
+/**
+ * Defines when the journal forces written records to the storage device.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum FsyncPolicy {
+    /** Never force explicitly; the operating system flushes dirty pages on its own schedule. */
+    NEVER,
+    /** Force at most once per configured interval while there are unflushed records. */
+    PERIODIC,
+    /** Force after every batch of records drained from the queue. */
+    EVERY_BATCH
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.ToDo.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the records of a {@link MutationJournal}, for auditing or replaying mutations.
+ * <p>
+ * Segments are mapped read-only, so a reader can run while the journal is being written;
+ * it sees every record whose length was published before it reached that position.
+ * Since timestamps are non-decreasing, segments that end before the requested range are
+ * skipped without being read, and the scan stops at the first record after the range.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class JournalReader {
+
+    private final Path directory;
+
+    /**
+     * Creates a reader over the segments of the given directory.
+     *
+     * @param directory the journal directory
+     */
+    public JournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Scans the records made within the given time range, in sequence order.
+     *
+     * @param from     the inclusive start of the range
+     * @param to       the exclusive end of the range
+     * @param consumer receives every matching record
+     * @return the number of matching records
+     * @throws IOException if a segment cannot be read
+     */
+    public long scan(Instant from, Instant to, Consumer<JournalRecord> consumer) throws IOException {
+        long fromMicros = ChronoUnit.MICROS.between(Instant.EPOCH, from);
+        long toMicros = ChronoUnit.MICROS.between(Instant.EPOCH, to);
+        List<Path> segments = MutationJournal.listSegments(directory);
+        long matched = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            try (JournalSegment segment = JournalSegment.openForRead(segments.get(i))) {
+                if (segment.baseTimestampMicros() >= toMicros) {
+                    break;
+                }
+                if (i + 1 < segments.size() && nextBaseTimestamp(segments.get(i + 1)) < fromMicros) {
+                    continue;
+                }
+                int position = JournalSegment.HEADER_SIZE;
+                JournalRecord record;
+                while ((record = segment.read(position)) != null) {
+                    if (record.timestampMicros() >= toMicros) {
+                        return matched;
+                    }
+                    if (record.timestampMicros() >= fromMicros) {
+                        consumer.accept(record);
+                        matched++;
+                    }
+                    position = segment.next(position);
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Replays every record of the journal, in sequence order.
+     *
+     * @param consumer receives every record
+     * @return the number of records
+     * @throws IOException if a segment cannot be read
+     */
+    public long replay(Consumer<JournalRecord> consumer) throws IOException {
+        return scan(Instant.EPOCH, Instant.ofEpochSecond(Long.MAX_VALUE / 1_000_000L), consumer);
+    }
+
+    private long nextBaseTimestamp(Path segmentPath) throws IOException {
+        try (JournalSegment segment = JournalSegment.openForRead(segmentPath)) {
+            return segment.baseTimestampMicros();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.gklyphon.ToDo.journal;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+
+/**
+ * A mutation stored in the journal.
+ *
+ * @param sequence        the position of the record in the journal, starting at 1
+ * @param timestampMicros when the mutation was made, in microseconds since the epoch
+ * @param type            the kind of mutation
+ * @param taskId          the identifier of the affected task
+ * @param payload         the JSON snapshot of the task, empty when none was available
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record JournalRecord(long sequence, long timestampMicros, TaskMutationEvent.Type type, long taskId,
+                            byte[] payload) {
+}
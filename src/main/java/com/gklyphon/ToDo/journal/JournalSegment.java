@@ -0,0 +1,227 @@
+package com.gklyphon.ToDo.journal;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size, memory-mapped journal file.
+ * <p>
+ * A segment starts with a header holding a magic number, the format version, the timestamp
+ * and the sequence of its first record. Records follow back to back:
+ * </p>
+ * <pre>
+ * int  length          bytes after this field
+ * long sequence
+ * long timestampMicros
+ * byte type
+ * long taskId
+ * int  payloadLength
+ * byte payload[payloadLength]
+ * int  crc             CRC32C of sequence..payload
+ * </pre>
+ * <p>
+ * The length is written last, so a reader never observes a partially written record; a zero
+ * length marks the end of the written data because the file is zero-filled when created.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+final class JournalSegment implements AutoCloseable {
+
+    static final int MAGIC = 0x544A524E;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_OVERHEAD = 4 + 8 + 8 + 1 + 8 + 4 + 4;
+    static final String SUFFIX = ".journal";
+
+    private static final TaskMutationEvent.Type[] TYPES = TaskMutationEvent.Type.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long baseTimestampMicros;
+    private final long firstSequence;
+    private int writePosition;
+    private long lastSequence;
+    private long lastTimestampMicros;
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a journal segment: " + path);
+        }
+        this.baseTimestampMicros = buffer.getLong(8);
+        this.firstSequence = buffer.getLong(16);
+        this.writePosition = HEADER_SIZE;
+        this.lastSequence = firstSequence - 1;
+        this.lastTimestampMicros = baseTimestampMicros;
+    }
+
+    /**
+     * Creates a new zero-filled segment for records starting at the given sequence.
+     */
+    static JournalSegment create(Path directory, int size, long firstSequence, long baseTimestampMicros)
+            throws IOException {
+        Path path = directory.resolve(fileName(firstSequence));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, baseTimestampMicros);
+        buffer.putLong(16, firstSequence);
+        buffer.force();
+        return new JournalSegment(path, channel, buffer);
+    }
+
+    /**
+     * Opens an existing segment for appending, recovering the write position from its records.
+     * Anything after the last intact record, such as a record torn by a crash, is zeroed.
+     */
+    static JournalSegment openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        JournalSegment segment = new JournalSegment(path, channel, buffer);
+        segment.recover();
+        return segment;
+    }
+
+    /**
+     * Opens an existing segment for reading.
+     */
+    static JournalSegment openForRead(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        return new JournalSegment(path, channel, buffer);
+    }
+
+    static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, SUFFIX);
+    }
+
+    /**
+     * Appends a record if it fits in the remaining space.
+     *
+     * @return {@code true} if the record was written, {@code false} if the segment is full
+     */
+    boolean append(long sequence, long timestampMicros, TaskMutationEvent.Type type, long taskId, byte[] payload) {
+        int length = RECORD_OVERHEAD - 4 + payload.length;
+        int position = writePosition;
+        if ((long) position + 4 + length + 4 > buffer.capacity()) {
+            return false;
+        }
+        int body = position + 4;
+        buffer.putLong(body, sequence);
+        buffer.putLong(body + 8, timestampMicros);
+        buffer.put(body + 16, (byte) type.ordinal());
+        buffer.putLong(body + 17, taskId);
+        buffer.putInt(body + 25, payload.length);
+        buffer.put(body + 29, payload);
+        buffer.putInt(body + 29 + payload.length, crc(body, 29 + payload.length));
+        buffer.putInt(position, length);
+        writePosition = body + length;
+        lastSequence = sequence;
+        lastTimestampMicros = timestampMicros;
+        return true;
+    }
+
+    /**
+     * Reads the record at the given position.
+     *
+     * @return the record, or {@code null} if there is no intact record at that position
+     */
+    JournalRecord read(int position) {
+        if (position + 4 > buffer.capacity()) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        int body = position + 4;
+        if (length < RECORD_OVERHEAD - 4 || (long) body + length > buffer.capacity()) {
+            return null;
+        }
+        int payloadLength = buffer.getInt(body + 25);
+        if (payloadLength < 0 || payloadLength != length - (RECORD_OVERHEAD - 4)) {
+            return null;
+        }
+        if (buffer.getInt(body + 29 + payloadLength) != crc(body, 29 + payloadLength)) {
+            return null;
+        }
+        int typeOrdinal = buffer.get(body + 16);
+        if (typeOrdinal < 0 || typeOrdinal >= TYPES.length) {
+            return null;
+        }
+        byte[] payload = new byte[payloadLength];
+        buffer.get(body + 29, payload);
+        return new JournalRecord(buffer.getLong(body), buffer.getLong(body + 8), TYPES[typeOrdinal],
+                buffer.getLong(body + 17), payload);
+    }
+
+    /**
+     * Returns the position of the record following the one at the given position.
+     */
+    int next(int position) {
+        return position + 4 + buffer.getInt(position);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long baseTimestampMicros() {
+        return baseTimestampMicros;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    long lastTimestampMicros() {
+        return lastTimestampMicros;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void recover() {
+        int position = HEADER_SIZE;
+        JournalRecord record;
+        while ((record = read(position)) != null) {
+            lastSequence = record.sequence();
+            lastTimestampMicros = record.timestampMicros();
+            position = next(position);
+        }
+        writePosition = position;
+        if (position + 4 <= buffer.capacity() && buffer.getInt(position) != 0) {
+            zeroTail(position);
+        }
+    }
+
+    private void zeroTail(int from) {
+        for (int i = from; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    private int crc(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
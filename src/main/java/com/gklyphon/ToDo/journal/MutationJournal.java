@@ -0,0 +1,286 @@
+package com.gklyphon.ToDo.journal;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Append-only binary journal of task mutations, written through memory-mapped segment files.
+ * <p>
+ * Producers only enqueue records on a lock-free queue; a single background writer thread
+ * drains the queue, assigns sequence numbers and copies the records into the active
+ * {@link JournalSegment}, rolling to a new segment when it is full. Producers are slowed
+ * down rather than records dropped when the queue reaches its capacity, so the journal is
+ * a complete audit trail. Durability follows the configured {@link FsyncPolicy}.
+ * The directory is locked while the journal is open, so two processes never append to it.
+ * </p>
+ * <p>
+ * Record timestamps are kept non-decreasing in sequence order, which lets
+ * {@link JournalReader} skip whole segments when scanning a time range.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class MutationJournal implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final int queueCapacity;
+
+    private final ConcurrentLinkedQueue<PendingRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+    private volatile long lastWrittenSequence;
+
+    private JournalSegment active;
+    private boolean dirty;
+    private long lastForceNanos = System.nanoTime();
+
+    /**
+     * Opens the journal in the given directory, recovering the last segment if one exists,
+     * and starts the writer thread.
+     *
+     * @param directory      the directory holding the segment files
+     * @param segmentSize    the size in bytes of every segment file
+     * @param fsyncPolicy    when written records are forced to the storage device
+     * @param fsyncInterval  the interval of {@link FsyncPolicy#PERIODIC}
+     * @param queueCapacity  the number of queued records above which producers are slowed down
+     * @throws IOException if the directory or the last segment cannot be opened
+     * @throws IllegalStateException if another journal holds the directory
+     */
+    public MutationJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval,
+                           int queueCapacity) throws IOException {
+        if (segmentSize <= JournalSegment.HEADER_SIZE + JournalSegment.RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.lockChannel = FileChannel.open(directory.resolve("journal.lock"), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        this.lock = tryLock(lockChannel, directory);
+        this.active = openLastSegment();
+        this.lastWrittenSequence = active.lastSequence();
+        this.writer = Thread.ofPlatform().name("mutation-journal-writer").daemon().unstarted(this::writeLoop);
+        this.writer.start();
+    }
+
+    /**
+     * Enqueues a mutation for the writer thread.
+     *
+     * @param type      the kind of mutation
+     * @param taskId    the identifier of the affected task
+     * @param timestamp when the mutation was made
+     * @param payload   the serialized task snapshot, may be empty
+     * @throws IllegalStateException if the journal is closed
+     */
+    public void append(TaskMutationEvent.Type type, long taskId, Instant timestamp, byte[] payload) {
+        if (payload.length > segmentSize - JournalSegment.HEADER_SIZE - JournalSegment.RECORD_OVERHEAD - 4) {
+            throw new IllegalArgumentException("Journal record does not fit in a segment: " + payload.length);
+        }
+        while (queued.get() >= queueCapacity) {
+            ensureRunning();
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BACKPRESSURE_PARK_NANOS);
+        }
+        ensureRunning();
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, timestamp);
+        queue.offer(new PendingRecord(type, taskId, micros, payload));
+        queued.incrementAndGet();
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Returns a reader over the segments of this journal.
+     *
+     * @return a new {@link JournalReader}
+     */
+    public JournalReader reader() {
+        return new JournalReader(directory);
+    }
+
+    /**
+     * Returns the sequence of the last record copied into a segment.
+     *
+     * @return the last written sequence, {@code 0} if the journal is empty
+     */
+    public long getLastWrittenSequence() {
+        return lastWrittenSequence;
+    }
+
+    /**
+     * Returns the number of records waiting for the writer thread.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Stops accepting records, waits for the writer to drain the queue and forces the active segment.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel, Path directory) throws IOException {
+        try {
+            FileLock fileLock = channel.tryLock();
+            if (fileLock != null) {
+                return fileLock;
+            }
+        } catch (OverlappingFileLockException ex) {
+            // Held by another journal in this JVM.
+        }
+        channel.close();
+        throw new IllegalStateException("Journal directory is in use: " + directory);
+    }
+
+    private void ensureRunning() {
+        if (!running) {
+            throw new IllegalStateException("Mutation journal is closed");
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingRecord record = queue.poll();
+                if (record == null) {
+                    afterBatch();
+                    park();
+                    continue;
+                }
+                write(record);
+                queued.decrementAndGet();
+            }
+            afterBatch();
+            active.force();
+            active.close();
+        } catch (IOException | RuntimeException ex) {
+            running = false;
+            log.error("Mutation journal writer stopped", ex);
+        }
+    }
+
+    private void park() {
+        writerParked = true;
+        if (queue.isEmpty() && running) {
+            LockSupport.parkNanos(this, fsyncPolicy == FsyncPolicy.PERIODIC
+                    ? Math.min(IDLE_PARK_NANOS, fsyncIntervalNanos) : IDLE_PARK_NANOS);
+        }
+        writerParked = false;
+    }
+
+    private void write(PendingRecord record) throws IOException {
+        long sequence = active.lastSequence() + 1;
+        long micros = Math.max(record.timestampMicros, active.lastTimestampMicros());
+        if (!active.append(sequence, micros, record.type, record.taskId, record.payload)) {
+            roll(sequence, micros);
+            active.append(sequence, micros, record.type, record.taskId, record.payload);
+        }
+        dirty = true;
+        lastWrittenSequence = sequence;
+    }
+
+    private void afterBatch() {
+        if (!dirty) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean force = switch (fsyncPolicy) {
+            case EVERY_BATCH -> true;
+            case PERIODIC -> now - lastForceNanos >= fsyncIntervalNanos;
+            case NEVER -> false;
+        };
+        if (force) {
+            active.force();
+            lastForceNanos = now;
+            dirty = false;
+        } else if (fsyncPolicy == FsyncPolicy.NEVER) {
+            dirty = false;
+        }
+    }
+
+    private void roll(long firstSequence, long baseTimestampMicros) throws IOException {
+        JournalSegment previous = active;
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            previous.force();
+        }
+        active = JournalSegment.create(directory, segmentSize, firstSequence, baseTimestampMicros);
+        previous.close();
+        log.debug("Rolled mutation journal to {}", active.path().getFileName());
+    }
+
+    private JournalSegment openLastSegment() throws IOException {
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            return JournalSegment.create(directory, segmentSize, 1L, 0L);
+        }
+        return JournalSegment.openForAppend(segments.getLast());
+    }
+
+    /**
+     * Lists the segment files of a journal directory in sequence order.
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private record PendingRecord(TaskMutationEvent.Type type, long taskId, long timestampMicros, byte[] payload) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.gklyphon.ToDo.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes every committed {@link TaskMutationEvent} to the {@link MutationJournal}.
+ * <p>
+ * The payload is the JSON snapshot of the task after the change, or before it
+ * when the task was removed.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MutationJournalListener {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final MutationJournal journal;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Appends the committed mutation to the journal.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        Task snapshot = event.after() != null ? event.after() : event.before();
+        journal.append(event.type(), event.taskId(), event.timestamp(), serialize(snapshot));
+    }
+
+    private byte[] serialize(Task snapshot) {
+        if (snapshot == null) {
+            return EMPTY;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(snapshot);
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize task {} for the journal: {}", snapshot.getId(), ex.getMessage());
+            return EMPTY;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.gklyphon.ToDo.jsoncache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * A JSON response body made of already encoded UTF-8 segments, written one after the other.
+ *
+ * @param segments the segments of the body, in order
+ * @param length   the total number of bytes
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record EncodedJson(List<byte[]> segments, long length) {
+
+    /**
+     * Writes the segments to a stream.
+     *
+     * @param out the stream receiving the body
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        for (byte[] segment : segments) {
+            out.write(segment);
+        }
+    }
+}
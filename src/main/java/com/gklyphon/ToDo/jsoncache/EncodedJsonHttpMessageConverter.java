@@ -0,0 +1,52 @@
+package com.gklyphon.ToDo.jsoncache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Message converter writing {@link EncodedJson} bodies straight to the response stream,
+ * with their exact content length.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class EncodedJsonHttpMessageConverter extends AbstractHttpMessageConverter<EncodedJson> {
+
+    /**
+     * Creates a converter producing {@code application/json}.
+     */
+    public EncodedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EncodedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected EncodedJson readInternal(Class<? extends EncodedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Encoded JSON bodies cannot be read", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(EncodedJson body, MediaType contentType) {
+        return body.length();
+    }
+
+    @Override
+    protected void writeInternal(EncodedJson body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,238 @@
+package com.gklyphon.ToDo.jsoncache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gklyphon.ToDo.flightrecorder.TaskPhase;
+import com.gklyphon.ToDo.flightrecorder.TaskPhaseEvent;
+import com.gklyphon.ToDo.model.entity.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of the UTF-8 JSON encoding of every task, so unchanged tasks are not serialized again.
+ * <p>
+ * Entries are keyed by task ID and hold the state of the task they were encoded from, which acts
+ * as the version of the entry: a task is served from the cache only if it equals that state, so
+ * an entry encoded from an older read is never served for a newer one. Every committed write
+ * invalidates the entry of its task as well, to release the memory early.
+ * </p>
+ * <p>
+ * The cache is bounded by the total size of the encoded tasks. Above it, entries are evicted
+ * with the CLOCK algorithm: a hand sweeps the entries, sparing once those read since its last pass.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskJsonCache {
+
+    private static final byte[] OPEN_ARRAY = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLOSE_ARRAY = "]".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private Iterator<Map.Entry<Long, Entry>> hand;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param objectMapper  the mapper encoding tasks, as for any other response
+     * @param enabled       whether responses are assembled from the cache
+     * @param maxBytes      the maximum total size of the encoded tasks
+     * @param meterRegistry the registry where the cache metrics are published
+     */
+    public TaskJsonCache(ObjectMapper objectMapper, boolean enabled, long maxBytes, MeterRegistry meterRegistry) {
+        this.writer = objectMapper.writerFor(Task.class);
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("todo.json-cache.requests")
+                .description("Tasks looked up in the JSON cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("todo.json-cache.requests")
+                .description("Tasks looked up in the JSON cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("todo.json-cache.evictions")
+                .description("Tasks evicted from the JSON cache to stay within its size")
+                .register(meterRegistry);
+        Gauge.builder("todo.json-cache.size", entries, Map::size)
+                .description("Tasks held in the JSON cache")
+                .register(meterRegistry);
+        Gauge.builder("todo.json-cache.bytes", bytes, AtomicLong::get)
+                .description("Bytes of encoded tasks held in the JSON cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells whether responses should be assembled from the cache.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the JSON body of one task.
+     *
+     * @param task the task
+     * @return the encoded task
+     */
+    public EncodedJson encode(Task task) {
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.SERIALIZATION, "cached Task");
+        byte[] json = bytes(task);
+        event.end(false);
+        return new EncodedJson(List.of(json), json.length);
+    }
+
+    /**
+     * Returns the JSON array body of several tasks.
+     *
+     * @param tasks the tasks, in response order
+     * @return the encoded array
+     */
+    public EncodedJson encodeAll(List<Task> tasks) {
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.SERIALIZATION, "cached List");
+        List<byte[]> segments = new ArrayList<>(tasks.size() * 2 + 1);
+        long length = OPEN_ARRAY.length + CLOSE_ARRAY.length;
+        segments.add(OPEN_ARRAY);
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                segments.add(SEPARATOR);
+                length += SEPARATOR.length;
+            }
+            byte[] json = bytes(tasks.get(i));
+            segments.add(json);
+            length += json.length;
+        }
+        segments.add(CLOSE_ARRAY);
+        event.end(false);
+        return new EncodedJson(segments, length);
+    }
+
+    /**
+     * Drops the entry of a task.
+     *
+     * @param id the task ID
+     */
+    public void invalidate(Long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            bytes.addAndGet(-removed.json.length);
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void invalidateAll() {
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    /**
+     * Returns the number of cached tasks.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total size of the encoded tasks.
+     *
+     * @return the cached bytes
+     */
+    public long byteSize() {
+        return bytes.get();
+    }
+
+    private byte[] bytes(Task task) {
+        Long id = task.getId();
+        Entry entry = id != null ? entries.get(id) : null;
+        if (entry != null && entry.task.equals(task)) {
+            entry.referenced = true;
+            hits.increment();
+            return entry.json;
+        }
+        misses.increment();
+        byte[] json = serialize(task);
+        if (id != null && json.length <= maxBytes) {
+            Entry previous = entries.put(id, new Entry(task.copy(), json));
+            bytes.addAndGet(json.length - (previous != null ? previous.json.length : 0));
+            evictIfFull();
+        }
+        return json;
+    }
+
+    private byte[] serialize(Task task) {
+        try {
+            return writer.writeValueAsBytes(task);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write task " + task.getId(), ex);
+        }
+    }
+
+    private void evictIfFull() {
+        if (bytes.get() <= maxBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int visited = 0;
+            while (bytes.get() > maxBytes && visited++ < 2 * entries.size() + 1) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<Long, Entry> candidate = hand.next();
+                Entry entry = candidate.getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    bytes.addAndGet(-entry.json.length);
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** The encoding of a task and the state it was encoded from. */
+    private static final class Entry {
+
+        private final Task task;
+        private final byte[] json;
+        private volatile boolean referenced;
+
+        private Entry(Task task, byte[] json) {
+            this.task = task;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.ToDo.jsoncache;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops the cached encoding of tasks once they are written.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RequiredArgsConstructor
+public class TaskJsonCacheSynchronizer {
+
+    private final TaskJsonCache cache;
+
+    /**
+     * Drops the entry of the task changed by a committed mutation.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        cache.invalidate(event.taskId());
+    }
+
+    /**
+     * Drops every entry after tasks were written in bulk.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        cache.invalidateAll();
+    }
+}
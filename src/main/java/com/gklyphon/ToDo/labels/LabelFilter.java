@@ -0,0 +1,192 @@
+package com.gklyphon.ToDo.labels;
+
+import com.gklyphon.ToDo.exception.custom.InvalidFilterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A boolean combination of labels, such as {@code work AND (urgent OR review) AND NOT blocked}.
+ * <p>
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}; parentheses
+ * group sub-expressions. Operators are case-insensitive, so they cannot be used as label names
+ * in a filter. The {@link TaskLabelIndex} evaluates a filter with bitmap operations, and
+ * {@link #matches(Set)} checks a single task against it.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public sealed interface LabelFilter {
+
+    /**
+     * Checks whether a task with the given labels matches the filter.
+     *
+     * @param labels the labels of the task
+     * @return {@code true} if the task matches
+     */
+    boolean matches(Set<String> labels);
+
+    /**
+     * Parses a filter expression.
+     *
+     * @param expression the expression
+     * @return the parsed filter
+     * @throws InvalidFilterException if the expression is malformed
+     */
+    static LabelFilter parse(String expression) {
+        return new Parser(expression).parse();
+    }
+
+    /**
+     * Tasks having a label.
+     *
+     * @param name the label
+     */
+    record Label(String name) implements LabelFilter {
+        @Override
+        public boolean matches(Set<String> labels) {
+            return labels.contains(name);
+        }
+    }
+
+    /**
+     * Tasks matching every operand.
+     *
+     * @param operands at least two filters
+     */
+    record And(List<LabelFilter> operands) implements LabelFilter {
+        @Override
+        public boolean matches(Set<String> labels) {
+            return operands.stream().allMatch(operand -> operand.matches(labels));
+        }
+    }
+
+    /**
+     * Tasks matching at least one operand.
+     *
+     * @param operands at least two filters
+     */
+    record Or(List<LabelFilter> operands) implements LabelFilter {
+        @Override
+        public boolean matches(Set<String> labels) {
+            return operands.stream().anyMatch(operand -> operand.matches(labels));
+        }
+    }
+
+    /**
+     * Tasks not matching the operand.
+     *
+     * @param operand the negated filter
+     */
+    record Not(LabelFilter operand) implements LabelFilter {
+        @Override
+        public boolean matches(Set<String> labels) {
+            return !operand.matches(labels);
+        }
+    }
+
+    /** Recursive-descent parser of filter expressions. */
+    final class Parser {
+
+        private static final int MAX_DEPTH = 32;
+
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+        private int depth;
+
+        private Parser(String expression) {
+            int i = 0;
+            while (i < expression.length()) {
+                char c = expression.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else if (isLabelChar(c)) {
+                    int start = i;
+                    while (i < expression.length() && isLabelChar(expression.charAt(i))) {
+                        i++;
+                    }
+                    tokens.add(expression.substring(start, i));
+                } else {
+                    throw new InvalidFilterException("Unexpected character '" + c + "' in label filter.");
+                }
+            }
+        }
+
+        private LabelFilter parse() {
+            if (tokens.isEmpty()) {
+                throw new InvalidFilterException("Label filter is empty.");
+            }
+            LabelFilter filter = parseOr();
+            if (position < tokens.size()) {
+                throw new InvalidFilterException("Unexpected '" + tokens.get(position) + "' in label filter.");
+            }
+            return filter;
+        }
+
+        private LabelFilter parseOr() {
+            List<LabelFilter> operands = new ArrayList<>(List.of(parseAnd()));
+            while (accept("OR")) {
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.getFirst() : new Or(List.copyOf(operands));
+        }
+
+        private LabelFilter parseAnd() {
+            List<LabelFilter> operands = new ArrayList<>(List.of(parseNot()));
+            while (accept("AND")) {
+                operands.add(parseNot());
+            }
+            return operands.size() == 1 ? operands.getFirst() : new And(List.copyOf(operands));
+        }
+
+        private LabelFilter parseNot() {
+            if (accept("NOT")) {
+                return new Not(parseNot());
+            }
+            if (accept("(")) {
+                if (++depth > MAX_DEPTH) {
+                    throw new InvalidFilterException("Label filter is nested too deeply.");
+                }
+                LabelFilter filter = parseOr();
+                if (!accept(")")) {
+                    throw new InvalidFilterException("Missing ')' in label filter.");
+                }
+                depth--;
+                return filter;
+            }
+            if (position == tokens.size()) {
+                throw new InvalidFilterException("Label filter ends with an operator.");
+            }
+            String token = tokens.get(position);
+            if (token.equals(")") || isOperator(token)) {
+                throw new InvalidFilterException("Expected a label but found '" + token + "' in label filter.");
+            }
+            position++;
+            return new Label(token);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).toUpperCase(Locale.ROOT).equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isOperator(String token) {
+            String upper = token.toUpperCase(Locale.ROOT);
+            return upper.equals("AND") || upper.equals("OR") || upper.equals("NOT");
+        }
+
+        private static boolean isLabelChar(char c) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_';
+        }
+    }
+}
@@ -0,0 +1,549 @@
+package com.gklyphon.ToDo.labels;
+
+import java.util.Arrays;
+
+/**
+ * Compressed bitmap of task IDs, organized like a Roaring bitmap.
+ * <p>
+ * IDs are split into a high part, selecting a container, and their low 16 bits, stored in the
+ * container. A container holding at most {@value #ARRAY_MAX} values is a sorted {@code char}
+ * array; a fuller one is a 65,536-bit bitmap. Sparse labels therefore cost two bytes per task and
+ * dense ones one bit per ID, and set operations work container by container, skipping the high
+ * parts missing from one side.
+ * </p>
+ * <p>
+ * Bitmaps are not thread-safe; the {@link TaskLabelIndex} guards them with a lock. The set
+ * operations return new bitmaps and leave their operands unchanged.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class TaskIdBitmap {
+
+    /** The largest cardinality of an array container. */
+    static final int ARRAY_MAX = 4096;
+
+    private static final int WORDS = 1 << 16 >>> 6;
+
+    private long[] keys;
+    private Container[] containers;
+    private int size;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public TaskIdBitmap() {
+        this(new long[4], new Container[4], 0);
+    }
+
+    private TaskIdBitmap(long[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Adds an ID.
+     *
+     * @param id the ID, not negative
+     * @return {@code true} if the ID was not present
+     */
+    public boolean add(long id) {
+        long key = highBits(id);
+        int index = find(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer(new char[4], 0));
+        }
+        Container container = containers[index];
+        int cardinality = container.cardinality();
+        containers[index] = container.add((char) id);
+        return containers[index].cardinality() > cardinality;
+    }
+
+    /**
+     * Removes an ID.
+     *
+     * @param id the ID
+     * @return {@code true} if the ID was present
+     */
+    public boolean remove(long id) {
+        int index = find(highBits(id));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int cardinality = container.cardinality();
+        Container result = container.remove((char) id);
+        if (result.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = result;
+        }
+        return result.cardinality() < cardinality;
+    }
+
+    /**
+     * Checks whether an ID is present.
+     *
+     * @param id the ID
+     * @return {@code true} if the ID is present
+     */
+    public boolean contains(long id) {
+        int index = find(highBits(id));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    /**
+     * Returns the number of IDs.
+     *
+     * @return the cardinality of the bitmap
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Checks whether the bitmap holds no ID.
+     *
+     * @return {@code true} if the bitmap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of this bitmap.
+     *
+     * @return a new bitmap holding the same IDs
+     */
+    public TaskIdBitmap copy() {
+        TaskIdBitmap copy = new TaskIdBitmap(new long[Math.max(1, size)], new Container[Math.max(1, size)], 0);
+        for (int i = 0; i < size; i++) {
+            copy.appendIfNotEmpty(keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the IDs present in both bitmaps.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap
+     */
+    public TaskIdBitmap and(TaskIdBitmap other) {
+        TaskIdBitmap result = new TaskIdBitmap(new long[Math.max(1, Math.min(size, other.size))],
+                new Container[Math.max(1, Math.min(size, other.size))], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int comparison = Long.compare(keys[i], other.keys[j]);
+            if (comparison < 0) {
+                i++;
+            } else if (comparison > 0) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IDs present in either bitmap.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap
+     */
+    public TaskIdBitmap or(TaskIdBitmap other) {
+        TaskIdBitmap result = new TaskIdBitmap(new long[Math.max(1, size + other.size)],
+                new Container[Math.max(1, size + other.size)], 0);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            int comparison = i == size ? 1 : j == other.size ? -1 : Long.compare(keys[i], other.keys[j]);
+            if (comparison < 0) {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+                i++;
+            } else if (comparison > 0) {
+                result.appendIfNotEmpty(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IDs present in this bitmap but not in the other one.
+     *
+     * @param other the other bitmap
+     * @return a new bitmap
+     */
+    public TaskIdBitmap andNot(TaskIdBitmap other) {
+        TaskIdBitmap result = new TaskIdBitmap(new long[Math.max(1, size)], new Container[Math.max(1, size)], 0);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lowest IDs greater than the given one, in ascending order.
+     *
+     * @param afterId the ID to start after, {@code -1} to start with the lowest ID
+     * @param limit   the maximum number of IDs returned
+     * @return the IDs
+     */
+    public long[] select(long afterId, int limit) {
+        long[] ids = new long[(int) Math.min(limit, cardinality())];
+        int count = 0;
+        long start = afterId + 1;
+        int index = find(highBits(Math.max(0, start)));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (; index < size && count < ids.length; index++) {
+            long base = keys[index] << 16;
+            int from = base >= start ? 0 : (int) (start - base);
+            count = containers[index].select(base, from, ids, count);
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private static long highBits(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative task id: " + id);
+        }
+        return id >>> 16;
+    }
+
+    private int find(long key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private void appendIfNotEmpty(long key, Container container) {
+        if (container.cardinality() > 0) {
+            insertContainer(size, key, container);
+        }
+    }
+
+    /** The low 16 bits of the IDs sharing one high part. */
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        int cardinality();
+
+        boolean contains(char value);
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        Container andNot(Container other);
+
+        Container copy();
+
+        /** Copies the values from {@code from} on, offset by {@code base}, into {@code ids} while it has room. */
+        int select(long base, int from, long[] ids, int count);
+    }
+
+    /** A sorted array of at most {@value #ARRAY_MAX} values. */
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i++];
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] result = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || i < cardinality && values[i] < array.values[j]) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(result, count);
+            return count > ARRAY_MAX ? union.toBitmap() : union;
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        public int select(long base, int from, long[] ids, int count) {
+            int index = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            for (int i = index >= 0 ? index : -index - 1; i < cardinality && count < ids.length; i++) {
+                ids[count++] = base + values[i];
+            }
+            return count;
+        }
+
+        BitmapContainer toBitmap() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+    }
+
+    /** A bitmap of 65,536 bits holding more than {@value #ARRAY_MAX} values. */
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            if (contains(value)) {
+                words[value >>> 6] &= ~(1L << value);
+                cardinality--;
+            }
+            return cardinality > ARRAY_MAX ? this : toArray(words, cardinality);
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            for (int i = 0; i < WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return shrink(result);
+        }
+
+        @Override
+        public Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result[array.values[i] >>> 6] |= 1L << array.values[i];
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            return shrink(result);
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result[array.values[i] >>> 6] &= ~(1L << array.values[i]);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return shrink(result);
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        public int select(long base, int from, long[] ids, int count) {
+            for (int word = from >>> 6; word < WORDS && count < ids.length; word++) {
+                long bits = word == from >>> 6 ? words[word] & (-1L << from) : words[word];
+                while (bits != 0 && count < ids.length) {
+                    ids[count++] = base + ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+            return count;
+        }
+
+        private static Container shrink(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality > ARRAY_MAX ? new BitmapContainer(words, cardinality) : toArray(words, cardinality);
+        }
+
+        private static ArrayContainer toArray(long[] words, int cardinality) {
+            char[] values = new char[Math.max(4, cardinality)];
+            int count = 0;
+            for (int word = 0; word < WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    values[count++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.gklyphon.ToDo.labels;
+
+import com.gklyphon.ToDo.event.MutationStamp;
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index of task labels and completion status.
+ * <p>
+ * The index keeps one {@link TaskIdBitmap} per label, one of the completed tasks and one of all
+ * tasks. A {@link LabelFilter} is answered with bitmap {@code AND}, {@code OR} and {@code ANDNOT}
+ * operations, never by looking at individual tasks: {@code NOT x} is evaluated as
+ * {@code all ANDNOT x}, or as a direct {@code ANDNOT} when it is an operand of an {@code AND}.
+ * </p>
+ * <p>
+ * Writers are excluded while a filter is evaluated; evaluation returns a new bitmap, so the
+ * matching IDs can be read after the lock is released. A writer passing the previous labels of
+ * a task only touches the bitmaps of the labels that changed.
+ * </p>
+ * <p>
+ * The index is reloaded with {@link #beginReplace()} and {@link #replaceAll(long, Iterable)};
+ * a reload raced by a mutation is rejected through a {@link MutationStamp}, so it never installs
+ * a snapshot older than the index.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskLabelIndex {
+
+    private static final TaskIdBitmap EMPTY = new TaskIdBitmap();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, TaskIdBitmap> byLabel = new HashMap<>();
+    private final MutationStamp mutations = new MutationStamp();
+    private TaskIdBitmap all = new TaskIdBitmap();
+    private TaskIdBitmap completed = new TaskIdBitmap();
+
+    /**
+     * Inserts or updates the entry of a task.
+     *
+     * @param id             the task ID
+     * @param complete       whether the task is completed
+     * @param previousLabels the labels the task had, {@code null} when unknown
+     * @param labels         the labels of the task
+     */
+    public void upsert(long id, boolean complete, Set<String> previousLabels, Set<String> labels) {
+        lock.writeLock().lock();
+        try {
+            removeLabels(id, previousLabels, labels);
+            completed.remove(id);
+            add(id, complete, labels);
+            mutations.applied();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entry of a task.
+     *
+     * @param id             the task ID
+     * @param previousLabels the labels the task had, {@code null} when unknown
+     */
+    public void remove(long id, Set<String> previousLabels) {
+        lock.writeLock().lock();
+        try {
+            removeLabels(id, previousLabels, Set.of());
+            all.remove(id);
+            completed.remove(id);
+            mutations.applied();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a mutation as published and not yet applied or rolled back.
+     */
+    public void mutationPending() {
+        mutations.pending();
+    }
+
+    /**
+     * Marks a pending mutation as applied or rolled back.
+     */
+    public void mutationSettled() {
+        mutations.settled();
+    }
+
+    /**
+     * Starts a reload; must be called before the tasks to index are read.
+     *
+     * @return the stamp to pass to {@link #replaceAll(long, Iterable)}
+     */
+    public long beginReplace() {
+        return mutations.begin();
+    }
+
+    /**
+     * Replaces the whole content of the index with the given tasks, unless a mutation raced them.
+     *
+     * @param stamp the stamp returned by {@link #beginReplace()}
+     * @param tasks the tasks to index
+     * @return {@code true} if the content was replaced, {@code false} if the tasks must be read again
+     */
+    public boolean replaceAll(long stamp, Iterable<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            if (!mutations.isUnchangedSince(stamp)) {
+                return false;
+            }
+            byLabel.clear();
+            all = new TaskIdBitmap();
+            completed = new TaskIdBitmap();
+            for (Task task : tasks) {
+                add(task.getId(), task.isComplete(), task.getLabels());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the IDs of the tasks matching a filter and, optionally, a completion status.
+     *
+     * @param filter   the label filter, {@code null} to match every task
+     * @param complete the completion status to match, {@code null} for both
+     * @return a new bitmap of the matching IDs
+     */
+    public TaskIdBitmap find(LabelFilter filter, Boolean complete) {
+        lock.readLock().lock();
+        try {
+            TaskIdBitmap matches = filter != null ? evaluate(filter) : all;
+            if (complete == null) {
+                return matches.copy();
+            }
+            return complete ? matches.and(completed) : matches.andNot(completed);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the tasks per label.
+     *
+     * @return the number of tasks of every label, by label name
+     */
+    public Map<String, Long> labelCounts() {
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new TreeMap<>();
+            byLabel.forEach((label, ids) -> counts.put(label, ids.cardinality()));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return the number of tasks
+     */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return all.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates a filter; the result may be one of the bitmaps of the index and must not be modified.
+     */
+    private TaskIdBitmap evaluate(LabelFilter filter) {
+        return switch (filter) {
+            case LabelFilter.Label label -> byLabel.getOrDefault(label.name(), EMPTY);
+            case LabelFilter.Not not -> all.andNot(evaluate(not.operand()));
+            case LabelFilter.Or or -> {
+                TaskIdBitmap result = new TaskIdBitmap();
+                for (LabelFilter operand : or.operands()) {
+                    result = result.or(evaluate(operand));
+                }
+                yield result;
+            }
+            case LabelFilter.And and -> {
+                List<LabelFilter> negated = new ArrayList<>();
+                TaskIdBitmap result = null;
+                for (LabelFilter operand : and.operands()) {
+                    if (operand instanceof LabelFilter.Not not) {
+                        negated.add(not.operand());
+                    } else {
+                        result = result == null ? evaluate(operand) : result.and(evaluate(operand));
+                    }
+                }
+                if (result == null) {
+                    result = all;
+                }
+                for (LabelFilter operand : negated) {
+                    result = result.andNot(evaluate(operand));
+                }
+                yield result;
+            }
+        };
+    }
+
+    private void add(long id, boolean complete, Set<String> labels) {
+        for (String label : labels) {
+            byLabel.computeIfAbsent(label, key -> new TaskIdBitmap()).add(id);
+        }
+        all.add(id);
+        if (complete) {
+            completed.add(id);
+        }
+    }
+
+    /**
+     * Removes a task from the bitmaps of its previous labels that are not kept, or from every
+     * bitmap when the previous labels are unknown.
+     */
+    private void removeLabels(long id, Set<String> previous, Set<String> kept) {
+        if (previous == null) {
+            byLabel.entrySet().removeIf(entry -> {
+                if (!kept.contains(entry.getKey())) {
+                    entry.getValue().remove(id);
+                }
+                return entry.getValue().isEmpty();
+            });
+            return;
+        }
+        for (String label : previous) {
+            TaskIdBitmap ids = kept.contains(label) ? null : byLabel.get(label);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    byLabel.remove(label);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.gklyphon.ToDo.labels;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.service.ITaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * Keeps the {@link TaskLabelIndex} in sync with the tasks.
+ * <p>
+ * The index is loaded once all singletons are created, before the web server accepts requests,
+ * and every committed {@link TaskMutationEvent} is then applied to it. It is loaded again
+ * after a {@link TasksBulkLoadedEvent}, and periodically, so that mutations whose listeners ran
+ * out of order cannot leave it stale for good.
+ * </p>
+ * <p>
+ * Every mutation is reported to the index as pending from its publication until it is applied
+ * or rolled back, so a reload raced by a mutation is rejected and read again, up to
+ * {@value #RELOAD_ATTEMPTS} times; after that the next scheduled reload repairs the index.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskLabelIndexSynchronizer implements SmartInitializingSingleton {
+
+    private static final int RELOAD_ATTEMPTS = 3;
+
+    private final TaskLabelIndex labelIndex;
+    private final ObjectProvider<ITaskService> taskService;
+
+    /**
+     * Loads every task into the label index.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int attempt = 0; attempt < RELOAD_ATTEMPTS; attempt++) {
+            long stamp = labelIndex.beginReplace();
+            if (labelIndex.replaceAll(stamp, taskService.getObject().getAllTasks())) {
+                log.info("Loaded {} tasks into the label index", labelIndex.size());
+                return;
+            }
+        }
+        log.debug("Label index reload raced by mutations, retrying on schedule");
+    }
+
+    /**
+     * Marks the mutation as pending when it is published, before any other listener runs.
+     *
+     * @param event the published mutation
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaskMutationPublished(TaskMutationEvent event) {
+        labelIndex.mutationPending();
+    }
+
+    /**
+     * Applies the committed mutation to the label index.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        try {
+            Set<String> previousLabels = previousLabels(event);
+            if (event.after() != null) {
+                labelIndex.upsert(event.taskId(), event.after().isComplete(), previousLabels,
+                        event.after().getLabels());
+            } else {
+                labelIndex.remove(event.taskId(), previousLabels);
+            }
+        } finally {
+            labelIndex.mutationSettled();
+        }
+    }
+
+    /**
+     * Clears the pending mark of a rolled back mutation.
+     *
+     * @param event the rolled back mutation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onTaskMutationRolledBack(TaskMutationEvent event) {
+        labelIndex.mutationSettled();
+    }
+
+    /**
+     * Reloads the label index on schedule.
+     */
+    @Scheduled(initialDelayString = "${todo.labels.reload-interval:PT15M}",
+            fixedDelayString = "${todo.labels.reload-interval:PT15M}")
+    public void reloadOnSchedule() {
+        afterSingletonsInstantiated();
+    }
+
+    /**
+     * Reloads the label index after tasks were written in bulk.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        afterSingletonsInstantiated();
+    }
+
+    private static Set<String> previousLabels(TaskMutationEvent event) {
+        if (event.type() == TaskMutationEvent.Type.CREATED) {
+            return Set.of();
+        }
+        Task before = event.before();
+        return before != null ? before.getLabels() : null;
+    }
+}
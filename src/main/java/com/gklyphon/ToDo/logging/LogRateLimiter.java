@@ -0,0 +1,85 @@
+package com.gklyphon.ToDo.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how often a log statement is written, counting the occurrences it suppressed.
+ * <p>
+ * At most a fixed number of occurrences are logged per interval. The next logged occurrence
+ * reports how many were suppressed since the previous one, so the volume stays visible
+ * without paying for every line:
+ * </p>
+ * <pre>
+ * long suppressed = limiter.acquire();
+ * if (suppressed &gt;= 0) {
+ *     log.warn("Something happened{}", LogRateLimiter.summary(suppressed));
+ * }
+ * </pre>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class LogRateLimiter {
+
+    /** Returned by {@link #acquire()} when the occurrence must not be logged. */
+    public static final long SUPPRESSED = -1L;
+
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong windowStart;
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param permitsPerInterval the number of occurrences logged per interval
+     * @param interval           the length of an interval
+     */
+    public LogRateLimiter(int permitsPerInterval, Duration interval) {
+        this(permitsPerInterval, interval, System::nanoTime);
+    }
+
+    LogRateLimiter(int permitsPerInterval, Duration interval, LongSupplier nanoTime) {
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.windowStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * Decides whether an occurrence is logged.
+     *
+     * @return the number of occurrences suppressed since the last logged one, or
+     *         {@link #SUPPRESSED} if this occurrence must not be logged
+     */
+    public long acquire() {
+        long now = nanoTime.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() > permitsPerInterval) {
+            suppressed.increment();
+            return SUPPRESSED;
+        }
+        return suppressed.sumThenReset();
+    }
+
+    /**
+     * Formats the suffix reporting suppressed occurrences.
+     *
+     * @param suppressed the value returned by {@link #acquire()}
+     * @return an empty string when nothing was suppressed, otherwise a short summary
+     */
+    public static String summary(long suppressed) {
+        return suppressed > 0 ? " (" + suppressed + " similar messages suppressed)" : "";
+    }
+}
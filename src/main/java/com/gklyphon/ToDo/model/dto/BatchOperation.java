@@ -0,0 +1,51 @@
+package com.gklyphon.ToDo.model.dto;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import jakarta.validation.Valid;
+
+/**
+ * One operation of a batch request.
+ * <p>
+ * {@code CREATE} takes a {@code task}, {@code UPDATE} an {@code id} and a {@code task},
+ * {@code COMPLETE} an {@code id} and the {@code complete} status, and {@code DELETE} an {@code id}.
+ * </p>
+ *
+ * @param type     the kind of operation
+ * @param id       the ID of the task to change, {@code null} for {@code CREATE}
+ * @param task     the task data of {@code CREATE} and {@code UPDATE}
+ * @param complete the completion status of {@code COMPLETE}
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BatchOperation(Type type, Long id, @Valid Task task, Boolean complete) {
+
+    /**
+     * The kinds of operations, each equivalent to one task endpoint.
+     */
+    public enum Type {
+        CREATE, UPDATE, COMPLETE, DELETE
+    }
+
+    /**
+     * Checks that the operation carries the arguments its type needs.
+     *
+     * @return a description of the problem, {@code null} if the operation is well-formed
+     */
+    public String argumentError() {
+        if (type == null) {
+            return "type must be one of CREATE, UPDATE, COMPLETE or DELETE.";
+        }
+        if (type != Type.CREATE && (id == null || id <= 0)) {
+            return type + " requires an id greater than 0.";
+        }
+        if ((type == Type.CREATE || type == Type.UPDATE) && task == null) {
+            return type + " requires a task.";
+        }
+        if (type == Type.COMPLETE && complete == null) {
+            return "COMPLETE requires the complete status.";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.gklyphon.ToDo.model.dto;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+/**
+ * Result of one operation of a batch request.
+ * <p>
+ * The status is the HTTP status the equivalent single request would have returned:
+ * {@code 201} for a created task, {@code 200} for an updated one, {@code 204} for a deletion and
+ * {@code 404} for a missing task. Operations not applied because another operation of an
+ * all-or-nothing batch failed report {@code 424}.
+ * </p>
+ *
+ * @param index  the position of the operation in the request
+ * @param status the HTTP status of the operation
+ * @param task   the created or updated task, {@code null} otherwise
+ * @param error  the reason the operation failed, {@code null} if it succeeded
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BatchOperationResult(int index, int status, Task task, String error) {
+
+    /**
+     * Creates the result of a successful operation.
+     *
+     * @param index  the position of the operation
+     * @param status the HTTP status of the operation
+     * @param task   the created or updated task, may be {@code null}
+     * @return the result
+     */
+    public static BatchOperationResult succeeded(int index, int status, Task task) {
+        return new BatchOperationResult(index, status, task, null);
+    }
+
+    /**
+     * Creates the result of a failed or skipped operation.
+     *
+     * @param index  the position of the operation
+     * @param status the HTTP status of the operation
+     * @param error  the reason of the failure
+     * @return the result
+     */
+    public static BatchOperationResult failed(int index, int status, String error) {
+        return new BatchOperationResult(index, status, null, error);
+    }
+}
@@ -0,0 +1,69 @@
+package com.gklyphon.ToDo.model.dto;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * An ordered list of task operations executed in one transaction.
+ * <p>
+ * Validated with the {@link Checks} sequence, the number of operations is checked first, so an
+ * oversized batch is rejected before any of its operations is validated.
+ * </p>
+ *
+ * @param mode       how failed operations are handled, {@link Mode#ALL_OR_NOTHING} when absent
+ * @param operations the operations, executed in order
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BatchRequest(
+        Mode mode,
+        @NotEmpty(groups = Bounds.class, message = MAX_OPERATIONS_MESSAGE)
+        @Size(max = BatchRequest.MAX_OPERATIONS, groups = Bounds.class, message = MAX_OPERATIONS_MESSAGE)
+        List<@Valid BatchOperation> operations
+) {
+
+    /** The maximum number of operations accepted by one batch. */
+    public static final int MAX_OPERATIONS = 1000;
+
+    private static final String MAX_OPERATIONS_MESSAGE =
+            "between 1 and " + MAX_OPERATIONS + " operations must be sent.";
+
+    /**
+     * Validation group of the request size.
+     */
+    public interface Bounds {
+    }
+
+    /**
+     * Validation sequence checking the request size before the operations themselves.
+     */
+    @GroupSequence({Bounds.class, Default.class})
+    public interface Checks {
+    }
+
+    /**
+     * How failed operations are handled.
+     */
+    public enum Mode {
+        /** No operation is applied if any operation fails. */
+        ALL_OR_NOTHING,
+        /** Failed operations are reported and the other operations are applied. */
+        PER_OPERATION
+    }
+
+    /**
+     * Returns the requested mode, defaulting to {@link Mode#ALL_OR_NOTHING}.
+     *
+     * @return the mode
+     */
+    public Mode effectiveMode() {
+        return mode != null ? mode : Mode.ALL_OR_NOTHING;
+    }
+}
@@ -0,0 +1,17 @@
+package com.gklyphon.ToDo.model.dto;
+
+import java.util.List;
+
+/**
+ * Results of a batch request.
+ *
+ * @param committed whether the transaction of the batch committed; {@code false} when an
+ *                  all-or-nothing batch applied nothing
+ * @param results   one result per operation, in request order
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record BatchResponse(boolean committed, List<BatchOperationResult> results) {
+}
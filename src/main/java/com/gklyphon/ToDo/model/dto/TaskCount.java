@@ -0,0 +1,17 @@
+package com.gklyphon.ToDo.model.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks sharing a completion status and a due date.
+ *
+ * @param complete the completion status
+ * @param dueTime  the due date, {@code null} for tasks without one
+ * @param count    the number of tasks
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskCount(boolean complete, LocalDate dueTime, long count) {
+}
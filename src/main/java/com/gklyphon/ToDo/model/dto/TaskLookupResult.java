@@ -0,0 +1,28 @@
+package com.gklyphon.ToDo.model.dto;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+/**
+ * Result of looking up one requested task ID.
+ *
+ * @param id    the requested ID
+ * @param found whether a task exists with that ID
+ * @param task  the task, {@code null} when not found
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskLookupResult(Long id, boolean found, Task task) {
+
+    /**
+     * Creates the result for a requested ID.
+     *
+     * @param id   the requested ID
+     * @param task the task found, may be {@code null}
+     * @return the result
+     */
+    public static TaskLookupResult of(Long id, Task task) {
+        return new TaskLookupResult(id, task != null, task);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gklyphon.ToDo.model.dto;
+
+/**
+ * Position of a task in the user-defined order.
+ *
+ * @param id      the task ID
+ * @param sortKey the sort key of the task
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskSortKey(Long id, String sortKey) {
+}
@@ -0,0 +1,85 @@
+package com.gklyphon.ToDo.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.SortNatural;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Represents a completed task moved out of the {@code tasks} table by the archiver.
+ * <p>
+ * This class maps to the {@code tasks_archive} table and keeps the original identifier
+ * and fields of the task, including its sort key so it keeps its place in the user-defined
+ * order when read back, plus the timestamp when it was archived. Its labels are moved
+ * to the {@code tasks_archive_labels} table.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Entity
+@Table(name = "tasks_archive")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedTask {
+    /** The identifier the task had in the {@code tasks} table. */
+    @Id
+    private Long id;
+    /** The name or title of the task. */
+    private String name;
+    /** Indicates whether the task is completed or not. */
+    private boolean complete;
+    /** The due date by which the task should be completed. */
+    private LocalDate dueTime;
+    /** The timestamp when the task was created. */
+    private LocalDateTime createAt;
+    /** The timestamp when the task was last updated. */
+    private LocalDateTime updateAt;
+    /** The sort key the task had in the user-defined order when it was archived. */
+    private String sortKey;
+    /** The timestamp when the task was archived. */
+    private LocalDateTime archivedAt;
+    /** The labels the task had when it was archived. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "tasks_archive_labels", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "label", length = 50, nullable = false)
+    @Fetch(FetchMode.SUBSELECT)
+    @SortNatural
+    private SortedSet<String> labels = new TreeSet<>();
+
+    /**
+     * Creates an archived task without labels.
+     *
+     * @param id         the identifier the task had in the {@code tasks} table
+     * @param name       the name or title of the task
+     * @param complete   whether the task is completed
+     * @param dueTime    the due date of the task
+     * @param createAt   the creation timestamp
+     * @param updateAt   the last update timestamp
+     * @param sortKey    the sort key of the task
+     * @param archivedAt the archive timestamp
+     */
+    public ArchivedTask(Long id, String name, boolean complete, LocalDate dueTime, LocalDateTime createAt,
+                        LocalDateTime updateAt, String sortKey, LocalDateTime archivedAt) {
+        this(id, name, complete, dueTime, createAt, updateAt, sortKey, archivedAt, new TreeSet<>());
+    }
+
+    /**
+     * Converts this archived task back into a {@link Task} for API responses.
+     *
+     * @return a detached {@link Task} with the same data
+     */
+    public Task toTask() {
+        return new Task(id, name, complete, dueTime, createAt, updateAt, sortKey, new TreeSet<>(labels));
+    }
+}
@@ -1,12 +1,18 @@
 package com.gklyphon.ToDo.model.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.SortNatural;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 /**
  * Represents a task entity in the to-do application.
@@ -15,17 +21,28 @@ import java.time.LocalDateTime;
  * contains the relevant fields for tracking tasks, such as name, status,
  * due date, and timestamps for creation and updates.
  * </p>
+ * <p>
+ * Labels are kept in the {@code task_labels} table and loaded with the task; loading
+ * several tasks reads the labels of all of them with one extra query.
+ * </p>
  *
  * @author JFCiscoHuerta
  * @version 1.0
  * @since 28-Oct-2024
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_complete_id", columnList = "complete, id"),
+        @Index(name = "idx_tasks_sort_key_id", columnList = "sort_key, id")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Task {
+
+    /** The syntax of a label: letters, digits, {@code -} and {@code _}. */
+    public static final String LABEL_PATTERN = "[A-Za-z0-9_-]{1,50}";
+
     /** The unique identifier of the task. */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -40,4 +57,39 @@ public class Task {
     private LocalDateTime createAt;
     /** The timestamp when the task was last updated. */
     private LocalDateTime updateAt;
+    /** The fractional index ordering the task in the user-defined list, see {@code FractionalIndex}. */
+    private String sortKey;
+    /** The labels of the task, in alphabetical order. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "task_labels", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "label", length = 50, nullable = false)
+    @Fetch(FetchMode.SUBSELECT)
+    @SortNatural
+    private SortedSet<@Pattern(regexp = LABEL_PATTERN,
+            message = "Labels must be 1 to 50 letters, digits, '-' or '_'.") String> labels = new TreeSet<>();
+
+    /**
+     * Creates a task without sort key or labels; the service assigns a sort key when the task is saved.
+     *
+     * @param id       the unique identifier of the task
+     * @param name     the name or title of the task
+     * @param complete whether the task is completed
+     * @param dueTime  the due date of the task
+     * @param createAt the creation timestamp
+     * @param updateAt the last update timestamp
+     */
+    public Task(Long id, String name, boolean complete, LocalDate dueTime, LocalDateTime createAt,
+                LocalDateTime updateAt) {
+        this(id, name, complete, dueTime, createAt, updateAt, null, new TreeSet<>());
+    }
+
+    /**
+     * Creates a detached copy of this task.
+     *
+     * @return a new {@code Task} with the same field values
+     */
+    public Task copy() {
+        return new Task(id, name, complete, dueTime, createAt, updateAt, sortKey,
+                labels != null ? new TreeSet<>(labels) : new TreeSet<>());
+    }
 }
@@ -0,0 +1,126 @@
+package com.gklyphon.ToDo.model.entity;
+
+import com.gklyphon.ToDo.exception.custom.InvalidFieldException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The fields of a {@link Task} that can be selected in a sparse fieldset.
+ * <p>
+ * Each constant knows its JSON and JPA attribute name and how to set its value on a task,
+ * so a projected query row is turned into a partial task without reflection. The labels are
+ * a collection rather than a column, so they are read with a separate query.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum TaskField {
+
+    ID("id"),
+    NAME("name"),
+    COMPLETE("complete"),
+    DUE_TIME("dueTime"),
+    CREATE_AT("createAt"),
+    UPDATE_AT("updateAt"),
+    SORT_KEY("sortKey"),
+    LABELS("labels");
+
+    /** Every field of a task. */
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+
+    private final String attribute;
+
+    TaskField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    /**
+     * Returns the name of the field in JSON and in JPQL.
+     *
+     * @return the attribute name
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * Checks whether the field is a collection, which cannot be read as a column of a projected row.
+     *
+     * @return {@code true} for the labels
+     */
+    public boolean isCollection() {
+        return this == LABELS;
+    }
+
+    /**
+     * Sets the value of this field on a task.
+     *
+     * @param task  the task to fill
+     * @param value the value read from a projected query row, a collection for a collection field
+     */
+    @SuppressWarnings("unchecked")
+    public void set(Task task, Object value) {
+        switch (this) {
+            case ID -> task.setId((Long) value);
+            case NAME -> task.setName((String) value);
+            case COMPLETE -> task.setComplete((Boolean) value);
+            case DUE_TIME -> task.setDueTime((LocalDate) value);
+            case CREATE_AT -> task.setCreateAt((LocalDateTime) value);
+            case UPDATE_AT -> task.setUpdateAt((LocalDateTime) value);
+            case SORT_KEY -> task.setSortKey((String) value);
+            case LABELS -> task.setLabels(new TreeSet<>((Collection<String>) value));
+        }
+    }
+
+    /**
+     * Returns a bit mask identifying a set of fields, one bit per constant.
+     *
+     * @param fields the fields
+     * @return the mask, lower than {@code 1 << values().length}
+     */
+    public static int mask(Set<TaskField> fields) {
+        int mask = 0;
+        for (TaskField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Parses a comma-separated list of attribute names, such as {@code id,name,complete}.
+     *
+     * @param fields the attribute names
+     * @return the selected fields, never empty
+     * @throws InvalidFieldException if a name is not a task field or no name is given
+     */
+    public static Set<TaskField> parse(String fields) {
+        EnumSet<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String attribute = name.strip();
+            if (!attribute.isEmpty()) {
+                selected.add(fromAttribute(attribute));
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidFieldException("At least one field must be requested.");
+        }
+        return selected;
+    }
+
+    private static TaskField fromAttribute(String attribute) {
+        for (TaskField field : values()) {
+            if (field.attribute.equals(attribute)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldException("Unknown field: " + attribute + ".");
+    }
+}
@@ -0,0 +1,211 @@
+package com.gklyphon.ToDo.ordering;
+
+/**
+ * Generates lexicographic sort keys that can always be placed between two existing keys.
+ * <p>
+ * A key is an integer part followed by an optional fraction, both written with base-62 digits
+ * ordered as in ASCII. The first character of the integer part encodes its length: {@code a}
+ * to {@code z} head integers of 1 to 26 digits, {@code Z} to {@code A} the negative integers of
+ * the same lengths. Appending or prepending a key therefore only increments or decrements the
+ * integer part and keeps keys short, while a key between two others extends the fraction.
+ * A fraction never ends with the digit {@code 0}, so there is always room between two keys.
+ * </p>
+ * <p>
+ * Keys compare with {@link String#compareTo}, which is also the binary ordering of the database.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class FractionalIndex {
+
+    /** The key of the only item of an empty list. */
+    public static final String FIRST = "a0";
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char MAX_DIGIT = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * Returns a key ordered strictly between two keys.
+     *
+     * @param before the key to follow, {@code null} for the start of the list
+     * @param after  the key to precede, {@code null} for the end of the list
+     * @return the new key
+     * @throws IllegalArgumentException if a key is malformed or {@code before} is not lower than {@code after}
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Key " + before + " is not lower than " + after);
+        }
+        if (before == null) {
+            if (after == null) {
+                return FIRST;
+            }
+            String integer = integerPart(after);
+            if (integer.equals(SMALLEST_INTEGER)) {
+                return integer + midpoint("", after.substring(integer.length()));
+            }
+            if (integer.length() < after.length()) {
+                return integer;
+            }
+            String decremented = decrement(integer);
+            if (decremented == null) {
+                throw new IllegalStateException("No key is lower than " + after);
+            }
+            return decremented;
+        }
+        String integer = integerPart(before);
+        String fraction = before.substring(integer.length());
+        if (after == null) {
+            String incremented = increment(integer);
+            return incremented != null ? incremented : integer + midpoint(fraction, null);
+        }
+        String afterInteger = integerPart(after);
+        if (integer.equals(afterInteger)) {
+            return integer + midpoint(fraction, after.substring(afterInteger.length()));
+        }
+        String incremented = increment(integer);
+        if (incremented != null && incremented.compareTo(after) < 0) {
+            return incremented;
+        }
+        return integer + midpoint(fraction, null);
+    }
+
+    /**
+     * Returns a key ordered after the given key, which stays short when called repeatedly.
+     *
+     * @param key the last key, {@code null} for an empty list
+     * @return the next key
+     */
+    public static String after(String key) {
+        return between(key, null);
+    }
+
+    /**
+     * Checks whether a string is a well-formed key.
+     *
+     * @param key the string to check
+     * @return {@code true} if the key can be passed to {@link #between}
+     */
+    public static boolean isValid(String key) {
+        try {
+            validate(key);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the digits ordered between two fractions, {@code a} being lower than {@code b}.
+     * An empty {@code a} stands for zero and a {@code null} {@code b} for one.
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int common = 0;
+            while (common < b.length() && (common < a.length() ? a.charAt(common) : ZERO) == b.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return b.substring(0, common)
+                        + midpoint(a.substring(Math.min(common, a.length())), b.substring(common));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static String increment(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) + 1;
+            if (digit < DIGITS.length()) {
+                digits[i] = DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = ZERO;
+        }
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char next = (char) (head + 1);
+        String zeros = new String(digits);
+        return next > 'a' ? next + zeros + ZERO : next + zeros.substring(1);
+    }
+
+    private static String decrement(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) - 1;
+            if (digit >= 0) {
+                digits[i] = DIGITS.charAt(digit);
+                return head + new String(digits);
+            }
+            digits[i] = MAX_DIGIT;
+        }
+        if (head == 'a') {
+            return "Z" + MAX_DIGIT;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previous = (char) (head - 1);
+        String maxDigits = new String(digits);
+        return previous < 'Z' ? previous + maxDigits + MAX_DIGIT : previous + maxDigits.substring(1);
+    }
+
+    private static String integerPart(String key) {
+        char head = key.charAt(0);
+        int length;
+        if (head >= 'a' && head <= 'z') {
+            length = head - 'a' + 2;
+        } else if (head >= 'A' && head <= 'Z') {
+            length = 'Z' - head + 2;
+        } else {
+            throw new IllegalArgumentException("Invalid key head: " + key);
+        }
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Key is shorter than its integer part: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid key: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid key digit: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Key fraction ends with zero: " + key);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gklyphon.ToDo.ordering;
+
+import com.gklyphon.ToDo.service.ITaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Background job keeping the sort keys of the user-defined order short.
+ * <p>
+ * Repeated moves into the same gap make {@link FractionalIndex} keys grow by about one character
+ * every six moves. The rebalancer periodically checks for keys longer than the configured length,
+ * or tasks without key, and then rewrites the keys in pages of the configured size, one transaction
+ * per page, keeping the order.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskOrderRebalancer {
+
+    private final ITaskService taskService;
+    private final int maxKeyLength;
+    private final int batchSize;
+
+    /**
+     * Rebalances the sort keys if one is missing or too long.
+     */
+    @Scheduled(initialDelayString = "${todo.ordering.initial-delay:PT10S}",
+            fixedDelayString = "${todo.ordering.rebalance-interval:PT5M}")
+    public void rebalanceOnSchedule() {
+        int rebalanced = taskService.rebalanceTaskOrder(maxKeyLength, batchSize);
+        if (rebalanced > 0) {
+            log.info("Rebalanced the sort keys of {} tasks", rebalanced);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.gklyphon.ToDo.ratelimit;
+
+/**
+ * Store of per-client token buckets used to rate limit the task endpoints.
+ * <p>
+ * Implementations may keep the buckets in memory for a single node or in a shared
+ * store for cluster-wide limits.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRateLimitStore {
+
+    /**
+     * Tries to consume one token from the bucket of the given client.
+     *
+     * @param clientKey the key identifying the client
+     * @return the {@link RateLimitDecision} for the request
+     */
+    public RateLimitDecision tryConsume(String clientKey);
+}
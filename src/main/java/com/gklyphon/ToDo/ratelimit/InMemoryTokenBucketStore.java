@@ -0,0 +1,133 @@
+package com.gklyphon.ToDo.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link IRateLimitStore} for single-node deployments.
+ * <p>
+ * Buckets live in a {@link ConcurrentHashMap} and are mutated under one of a fixed
+ * number of stripe locks chosen by the hash of the client key, so unrelated clients
+ * rarely contend and no lock object is allocated per client. Buckets that have not
+ * been used for longer than the idle timeout are removed by {@link #evictIdle()}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InMemoryTokenBucketStore implements IRateLimitStore {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final long idleTimeoutNanos;
+    private final Object[] stripes;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new store.
+     *
+     * @param capacity        the maximum number of tokens of a bucket
+     * @param refillPerSecond the number of tokens added to a bucket every second
+     * @param idleTimeout     how long an unused bucket is kept before it is evicted
+     * @param stripes         the number of stripe locks, rounded up to a power of two
+     */
+    public InMemoryTokenBucketStore(long capacity, double refillPerSecond, Duration idleTimeout, int stripes) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String clientKey) {
+        Object lock = stripeFor(clientKey);
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(clientKey, key -> new Bucket(capacity, System.nanoTime()));
+            synchronized (lock) {
+                if (bucket.evicted) {
+                    continue;
+                }
+                long now = System.nanoTime();
+                bucket.refill(now, capacity, refillPerSecond);
+                bucket.lastAccessNanos = now;
+                boolean allowed = bucket.tokens >= 1;
+                if (allowed) {
+                    bucket.tokens -= 1;
+                }
+                return RateLimitDecision.of(allowed, capacity, bucket.tokens, refillPerSecond);
+            }
+        }
+    }
+
+    /**
+     * Removes the buckets that have not been used for longer than the idle timeout.
+     * <p>
+     * An evicted bucket would be full again by the time it is needed, so dropping it
+     * does not change any client's limit.
+     * </p>
+     *
+     * @return the number of evicted buckets
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (var entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            if (now - bucket.lastAccessNanos < idleTimeoutNanos) {
+                continue;
+            }
+            synchronized (stripeFor(entry.getKey())) {
+                if (now - bucket.lastAccessNanos >= idleTimeoutNanos && buckets.remove(entry.getKey(), bucket)) {
+                    bucket.evicted = true;
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the number of buckets currently held.
+     *
+     * @return the number of tracked clients
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private Object stripeFor(String clientKey) {
+        int hash = clientKey.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    /** Mutable bucket state; only accessed under the stripe lock of its key. */
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+        private volatile long lastAccessNanos;
+        private boolean evicted;
+
+        private Bucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+            this.lastAccessNanos = now;
+        }
+
+        private void refill(long now, long capacity, double refillPerSecond) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed / NANOS_PER_SECOND * refillPerSecond);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.gklyphon.ToDo.ratelimit;
+
+/**
+ * Outcome of a rate limit check for one request.
+ *
+ * @param allowed           whether the request may proceed
+ * @param limit             the capacity of the client's bucket
+ * @param remaining         the tokens left in the bucket after this request
+ * @param resetSeconds      seconds until the bucket is full again
+ * @param retryAfterSeconds seconds until the next request can be admitted, {@code 0} if allowed
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds,
+                                long retryAfterSeconds) {
+
+    /**
+     * Builds a decision from the state of a token bucket.
+     *
+     * @param allowed            whether a token was consumed
+     * @param capacity           the bucket capacity
+     * @param tokens             the tokens left in the bucket
+     * @param refillPerSecond    the refill rate of the bucket
+     * @return the corresponding {@code RateLimitDecision}
+     */
+    public static RateLimitDecision of(boolean allowed, long capacity, double tokens, double refillPerSecond) {
+        long reset = (long) Math.ceil((capacity - tokens) / refillPerSecond);
+        long retryAfter = allowed ? 0 : Math.max(1, (long) Math.ceil((1 - tokens) / refillPerSecond));
+        return new RateLimitDecision(allowed, capacity, (long) Math.floor(tokens), reset, retryAfter);
+    }
+}
@@ -0,0 +1,95 @@
+package com.gklyphon.ToDo.ratelimit;
+
+import com.gklyphon.ToDo.exception.ErrorBodyCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Security filter that applies per-client token bucket rate limiting to the task endpoints.
+ * <p>
+ * Clients are identified by their authenticated principal when there is one, otherwise by the
+ * configured client id header, falling back to the remote address. Every response carries the
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} headers;
+ * limited requests are answered with a 429 (Too Many Requests) and a {@code Retry-After} header.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /** Header carrying the capacity of the client's bucket. */
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    /** Header carrying the tokens left in the client's bucket. */
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    /** Header carrying the seconds until the client's bucket is full again. */
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final String PROTECTED_PATH = "/v1/tasks";
+
+    private final IRateLimitStore store;
+    private final ErrorBodyCache errorBodyCache;
+    private final String clientIdHeader;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param store          the store holding the client buckets
+     * @param errorBodyCache the cache providing the rejection body
+     * @param clientIdHeader the request header identifying anonymous clients, may be empty
+     */
+    public RateLimitFilter(IRateLimitStore store, ErrorBodyCache errorBodyCache, String clientIdHeader) {
+        this.store = store;
+        this.errorBodyCache = errorBodyCache;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PROTECTED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitDecision decision = store.tryConsume(resolveClientKey(request));
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            errorBodyCache.write(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "principal:" + authentication.getName();
+        }
+        if (StringUtils.hasText(clientIdHeader)) {
+            String clientId = request.getHeader(clientIdHeader);
+            if (StringUtils.hasText(clientId)) {
+                return "client:" + clientId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
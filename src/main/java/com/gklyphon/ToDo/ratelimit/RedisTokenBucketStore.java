@@ -0,0 +1,81 @@
+package com.gklyphon.ToDo.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis-backed {@link IRateLimitStore} for cluster-wide limits.
+ * <p>
+ * Each bucket is a Redis hash updated by an atomic Lua script that refills and consumes
+ * tokens in a single round trip, using the Redis server clock so that nodes with skewed
+ * clocks share the same view of the bucket. Keys expire once the bucket would be full again.
+ * If Redis is unavailable requests are allowed, so the limiter never becomes an outage of its own.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class RedisTokenBucketStore implements IRateLimitStore {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final long capacity;
+    private final double refillPerSecond;
+    private final String capacityArg;
+    private final String refillArg;
+    private final String ttlArg;
+
+    /**
+     * Creates a new store.
+     *
+     * @param redisTemplate   the template used to run the script
+     * @param keyPrefix       the prefix of the bucket keys
+     * @param capacity        the maximum number of tokens of a bucket
+     * @param refillPerSecond the number of tokens added to a bucket every second
+     * @param idleTimeout     the minimum time an unused bucket key is kept
+     */
+    public RedisTokenBucketStore(StringRedisTemplate redisTemplate, String keyPrefix, long capacity,
+                                 double refillPerSecond, Duration idleTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        long fillMillis = (long) Math.ceil(capacity / refillPerSecond * 1000);
+        this.capacityArg = String.valueOf(capacity);
+        this.refillArg = String.valueOf(refillPerSecond);
+        this.ttlArg = String.valueOf(Math.max(fillMillis, idleTimeout.toMillis()));
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String clientKey) {
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(keyPrefix + clientKey),
+                    capacityArg, refillArg, ttlArg);
+            if (result == null || result.size() < 2) {
+                return allowWithoutState();
+            }
+            boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+            double tokens = ((Number) result.get(1)).longValue() / 1000d;
+            return RateLimitDecision.of(allowed, capacity, tokens, refillPerSecond);
+        } catch (DataAccessException ex) {
+            log.warn("Rate limit store unavailable, allowing request: {}", ex.getMessage());
+            return allowWithoutState();
+        }
+    }
+
+    private RateLimitDecision allowWithoutState() {
+        return new RateLimitDecision(true, capacity, capacity, 0, 0);
+    }
+}
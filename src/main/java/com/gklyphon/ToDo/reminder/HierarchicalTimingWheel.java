@@ -0,0 +1,209 @@
+package com.gklyphon.ToDo.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding timers with millisecond deadlines.
+ * <p>
+ * Time advances in fixed ticks. Level {@code 0} has one slot per tick for the next 64 ticks;
+ * every slot of level {@code n} covers 64 slots of level {@code n - 1}. A timer is placed in the
+ * lowest level whose range covers its deadline, so scheduling and cancelling cost O(1) whatever
+ * the number of timers. When the level {@code 0} index wraps around, the current slot of the
+ * level above is cascaded: its timers are placed again, closer to their deadline. Eleven levels
+ * cover every {@code long} tick, so no timer ever overflows the wheel.
+ * </p>
+ * <p>
+ * Slots are intrusive doubly linked lists of {@link Timer}s. The wheel is not thread-safe;
+ * its owner serializes scheduling, cancelling and advancing.
+ * </p>
+ *
+ * @param <T> the type of the timer payloads
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private final long tickMillis;
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tickMillis the length of a tick in milliseconds
+     * @param nowMillis  the current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new Timer[LEVELS][SLOTS];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules a timer. A deadline that has already passed expires on the next tick.
+     *
+     * @param deadlineMillis when the timer expires, in milliseconds
+     * @param payload        the value handed back on expiry
+     * @return the timer, used to cancel it
+     */
+    public Timer<T> schedule(long deadlineMillis, T payload) {
+        Timer<T> timer = new Timer<>(deadlineMillis, payload);
+        place(timer, currentTick + 1);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer.
+     *
+     * @param timer the timer returned by {@link #schedule(long, Object)}
+     * @return {@code true} if the timer was pending
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer.level < 0) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time, handing over the payload of every expired timer.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param expired   receives the payloads of the expired timers, in deadline tick order
+     * @return the number of expired timers
+     */
+    public int advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        int count = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            int slot = (int) (currentTick & SLOT_MASK);
+            Timer<T> timer = slots[0][slot];
+            slots[0][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.level = -1;
+                timer.previous = null;
+                timer.next = null;
+                size--;
+                count++;
+                expired.accept(timer.payload);
+                timer = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the number of timers scheduled and not yet expired or cancelled
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer<T> timer = slots[level][slot];
+            slots[level][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.previous = null;
+                timer.next = null;
+                place(timer, currentTick);
+                timer = next;
+            }
+        }
+    }
+
+    private void place(Timer<T> timer, long earliestTick) {
+        long deadlineTick = Math.max(timer.deadlineMillis / tickMillis, earliestTick);
+        long delta = deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) ((deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Timer<T> head = slots[level][slot];
+        timer.level = level;
+        timer.slot = slot;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.level = -1;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * A timer pending in the wheel.
+     *
+     * @param <T> the type of the payload
+     */
+    public static final class Timer<T> {
+
+        private final long deadlineMillis;
+        private final T payload;
+        private int level = -1;
+        private int slot;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(long deadlineMillis, T payload) {
+            this.deadlineMillis = deadlineMillis;
+            this.payload = payload;
+        }
+
+        /**
+         * Returns when the timer expires.
+         *
+         * @return the deadline in milliseconds
+         */
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * Returns the value handed back on expiry.
+         *
+         * @return the payload
+         */
+        public T payload() {
+            return payload;
+        }
+    }
+}
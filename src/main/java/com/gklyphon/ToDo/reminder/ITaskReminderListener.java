@@ -0,0 +1,23 @@
+package com.gklyphon.ToDo.reminder;
+
+/**
+ * Local listener receiving the task reminders.
+ * <p>
+ * Every listener bean gets its own bounded queue and delivery thread, so a slow listener
+ * neither delays the others nor the timing wheel; reminders that do not fit in its queue
+ * are dropped and counted.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskReminderListener {
+
+    /**
+     * Handles a fired reminder.
+     *
+     * @param reminder the reminder
+     */
+    public void onReminder(TaskReminder reminder);
+}
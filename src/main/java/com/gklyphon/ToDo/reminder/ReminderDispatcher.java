@@ -0,0 +1,129 @@
+package com.gklyphon.ToDo.reminder;
+
+import com.gklyphon.ToDo.logging.LogRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Delivers fired reminders to the {@link ITaskReminderListener}s.
+ * <p>
+ * Each listener has a bounded queue drained by its own thread. {@link #dispatch(TaskReminder)}
+ * never blocks: a reminder that does not fit in the queue of a listener is dropped for that
+ * listener and counted. The delay between the scheduled firing time and the delivery to a
+ * listener is recorded as the firing lag.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class ReminderDispatcher implements AutoCloseable {
+
+    private final Clock clock;
+    private final List<Delivery> deliveries = new ArrayList<>();
+    private final Counter fired;
+    private final Timer lag;
+    private final LogRateLimiter failureLog = new LogRateLimiter(10, Duration.ofSeconds(10));
+
+    /**
+     * Creates the dispatcher and starts one delivery thread per listener.
+     *
+     * @param listeners     the listeners receiving the reminders
+     * @param queueCapacity the number of reminders each listener queue holds
+     * @param clock         the clock measuring the firing lag
+     * @param meterRegistry the registry where the reminder metrics are published
+     */
+    public ReminderDispatcher(List<ITaskReminderListener> listeners, int queueCapacity, Clock clock,
+                              MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.fired = Counter.builder("todo.reminders.fired")
+                .description("Task reminders fired by the timing wheel")
+                .register(meterRegistry);
+        this.lag = Timer.builder("todo.reminders.lag")
+                .description("Delay between the scheduled firing time of a reminder and its delivery")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        for (ITaskReminderListener listener : listeners) {
+            deliveries.add(new Delivery(listener, queueCapacity, meterRegistry));
+        }
+    }
+
+    /**
+     * Queues a fired reminder for every listener.
+     *
+     * @param reminder the reminder
+     */
+    public void dispatch(TaskReminder reminder) {
+        fired.increment();
+        for (Delivery delivery : deliveries) {
+            if (!delivery.queue.offer(reminder)) {
+                delivery.dropped.increment();
+            }
+        }
+    }
+
+    /**
+     * Stops the delivery threads; queued reminders are discarded.
+     */
+    @Override
+    public void close() {
+        deliveries.forEach(delivery -> delivery.thread.interrupt());
+    }
+
+    private void deliver(Delivery delivery) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                TaskReminder reminder = delivery.queue.take();
+                lag.record(Duration.between(reminder.fireAt(), clock.instant()));
+                try {
+                    delivery.listener.onReminder(reminder);
+                } catch (RuntimeException ex) {
+                    long suppressed = failureLog.acquire();
+                    if (suppressed != LogRateLimiter.SUPPRESSED) {
+                        log.warn("Reminder listener {} failed for task {}{}", delivery.name, reminder.taskId(),
+                                LogRateLimiter.summary(suppressed), ex);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** The queue and delivery thread of one listener. */
+    private final class Delivery {
+
+        private final ITaskReminderListener listener;
+        private final String name;
+        private final BlockingQueue<TaskReminder> queue;
+        private final Counter dropped;
+        private final Thread thread;
+
+        Delivery(ITaskReminderListener listener, int queueCapacity, MeterRegistry meterRegistry) {
+            this.listener = listener;
+            this.name = listener.getClass().getSimpleName();
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.dropped = Counter.builder("todo.reminders.dropped")
+                    .description("Task reminders dropped because the listener queue was full")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            Gauge.builder("todo.reminders.queued", queue, BlockingQueue::size)
+                    .description("Task reminders waiting for delivery to the listener")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            this.thread = Thread.ofPlatform().name("task-reminder-" + name).daemon()
+                    .start(() -> deliver(this));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.gklyphon.ToDo.reminder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Reminder fired for an open task ahead of, or at, its due date.
+ *
+ * @param taskId   the identifier of the task
+ * @param dueTime  the due date of the task
+ * @param leadTime how long before the start of the due date the reminder fires, zero at the due date
+ * @param fireAt   when the reminder was scheduled to fire
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskReminder(Long taskId, LocalDate dueTime, Duration leadTime, Instant fireAt) {
+}
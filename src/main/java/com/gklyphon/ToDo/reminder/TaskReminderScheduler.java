@@ -0,0 +1,199 @@
+package com.gklyphon.ToDo.reminder;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Schedules the reminders of open tasks on a {@link HierarchicalTimingWheel}.
+ * <p>
+ * An open task with a due date gets one reminder per configured lead time, firing that long
+ * before the start of its due date; reminders whose time has already passed are not scheduled.
+ * Rescheduling a task cancels its previous reminders first, so each task is held at most once.
+ * A ticker thread advances the wheel every tick and hands the expired reminders to the
+ * {@link ReminderDispatcher} once the wheel lock is released.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class TaskReminderScheduler implements AutoCloseable {
+
+    private final long tickMillis;
+    private final List<Duration> leadTimes;
+    private final ZoneId zone;
+    private final Clock clock;
+    private final ReminderDispatcher dispatcher;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, List<HierarchicalTimingWheel.Timer<TaskReminder>>> timersByTask = new HashMap<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-reminder-wheel").daemon().factory());
+
+    private HierarchicalTimingWheel<TaskReminder> wheel;
+
+    /**
+     * Creates a scheduler with an empty wheel.
+     *
+     * @param tick       the resolution of the wheel
+     * @param leadTimes  how long before the start of the due date each reminder fires
+     * @param zone       the time zone in which due dates start
+     * @param clock      the clock driving the wheel
+     * @param dispatcher the dispatcher delivering fired reminders
+     */
+    public TaskReminderScheduler(Duration tick, List<Duration> leadTimes, ZoneId zone, Clock clock,
+                                 ReminderDispatcher dispatcher) {
+        this.tickMillis = tick.toMillis();
+        this.leadTimes = leadTimes.stream().distinct().sorted(Comparator.reverseOrder()).toList();
+        this.zone = zone;
+        this.clock = clock;
+        this.dispatcher = dispatcher;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+    }
+
+    /**
+     * Starts advancing the wheel every tick.
+     */
+    public void start() {
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                tick();
+            } catch (RuntimeException ex) {
+                log.error("Task reminder tick failed", ex);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the reminders of a task, replacing the ones it had.
+     *
+     * @param task the task; only its ID, completion status and due date are read
+     */
+    public void schedule(Task task) {
+        lock.lock();
+        try {
+            cancelLocked(task.getId());
+            scheduleLocked(task.getId(), task.isComplete(), task.getDueTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the reminders of a task.
+     *
+     * @param taskId the identifier of the task
+     */
+    public void cancel(Long taskId) {
+        lock.lock();
+        try {
+            cancelLocked(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces every scheduled reminder with the reminders of the given tasks.
+     *
+     * @param tasks the tasks; only their ID, completion status and due date are read
+     */
+    public void replaceAll(Iterable<Task> tasks) {
+        lock.lock();
+        try {
+            wheel = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+            timersByTask.clear();
+            for (Task task : tasks) {
+                scheduleLocked(task.getId(), task.isComplete(), task.getDueTime());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and dispatches the expired reminders.
+     *
+     * @return the number of reminders fired
+     */
+    public int tick() {
+        List<TaskReminder> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(clock.millis(), reminder -> {
+                List<HierarchicalTimingWheel.Timer<TaskReminder>> timers = timersByTask.get(reminder.taskId());
+                if (timers != null && timers.getLast().payload() == reminder) {
+                    timersByTask.remove(reminder.taskId());
+                }
+                expired.add(reminder);
+            });
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(dispatcher::dispatch);
+        return expired.size();
+    }
+
+    /**
+     * Returns the number of pending reminders.
+     *
+     * @return the number of timers in the wheel
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the ticker and the delivery threads.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        dispatcher.close();
+    }
+
+    private void scheduleLocked(Long taskId, boolean complete, LocalDate dueTime) {
+        if (complete || dueTime == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant dueAt = dueTime.atStartOfDay(zone).toInstant();
+        List<HierarchicalTimingWheel.Timer<TaskReminder>> timers = new ArrayList<>(leadTimes.size());
+        for (Duration leadTime : leadTimes) {
+            Instant fireAt = dueAt.minus(leadTime);
+            if (fireAt.isAfter(now)) {
+                timers.add(wheel.schedule(fireAt.toEpochMilli(), new TaskReminder(taskId, dueTime, leadTime, fireAt)));
+            }
+        }
+        if (!timers.isEmpty()) {
+            timersByTask.put(taskId, timers);
+        }
+    }
+
+    private void cancelLocked(Long taskId) {
+        List<HierarchicalTimingWheel.Timer<TaskReminder>> timers = timersByTask.remove(taskId);
+        if (timers != null) {
+            timers.forEach(wheel::cancel);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.gklyphon.ToDo.reminder;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import com.gklyphon.ToDo.service.ITaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+
+/**
+ * Keeps the {@link TaskReminderScheduler} in sync with the tasks.
+ * <p>
+ * The reminders are loaded once all singletons are created, reading only the columns they
+ * need, and every committed {@link TaskMutationEvent} then reschedules or cancels the
+ * reminders of its task. They are loaded again after a {@link TasksBulkLoadedEvent}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TaskReminderSynchronizer implements SmartInitializingSingleton {
+
+    private final TaskReminderScheduler scheduler;
+    private final ObjectProvider<ITaskService> taskService;
+
+    /**
+     * Schedules the reminders of every task.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        scheduler.replaceAll(taskService.getObject().getAllTasks(
+                EnumSet.of(TaskField.ID, TaskField.COMPLETE, TaskField.DUE_TIME)));
+        log.info("Scheduled {} task reminders", scheduler.size());
+    }
+
+    /**
+     * Applies the committed mutation to the reminders of its task.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        if (event.after() != null) {
+            scheduler.schedule(event.after());
+        } else {
+            scheduler.cancel(event.taskId());
+        }
+    }
+
+    /**
+     * Reloads the reminders after tasks were written in bulk.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        afterSingletonsInstantiated();
+    }
+}
@@ -0,0 +1,49 @@
+package com.gklyphon.ToDo.repository;
+
+import com.gklyphon.ToDo.model.entity.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repository interface for managing {@link ArchivedTask} entities.
+ * <p>
+ * This interface extends {@link JpaRepository}, providing CRUD operations
+ * for the {@code tasks_archive} table, plus a bulk copy from the {@code tasks} table.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Copies the given tasks into the archive table in a single statement.
+     *
+     * @param ids        the identifiers of the tasks to copy
+     * @param archivedAt the archive timestamp to record
+     * @return the number of copied rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive (id, name, complete, due_time, create_at, update_at, sort_key, archived_at) "
+            + "SELECT id, name, complete, due_time, create_at, update_at, sort_key, :archivedAt FROM tasks "
+            + "WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Copies the labels of the given tasks into the archive label table in a single statement.
+     *
+     * @param ids the identifiers of the tasks whose labels are copied
+     * @return the number of copied rows
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive_labels (task_id, label) "
+            + "SELECT task_id, label FROM task_labels WHERE task_id IN (:ids)", nativeQuery = true)
+    int copyLabelsFromTasks(@Param("ids") Collection<Long> ids);
+}
@@ -1,7 +1,17 @@
 package com.gklyphon.ToDo.repository;
 
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.dto.TaskSortKey;
 import com.gklyphon.ToDo.model.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for managing {@link Task} entities.
@@ -19,4 +29,165 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @since 28-Oct-2024
  */
 public interface ITaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Finds the next ids of completed tasks last modified before the cutoff, in id order,
+     * starting after the given id. Used to walk the table in keyset-ordered batches.
+     *
+     * @param afterId the last id of the previous batch, {@code 0} for the first batch
+     * @param cutoff  tasks last modified at or after this timestamp are skipped
+     * @param limit   the maximum number of ids to return
+     * @return the ids of the archivable tasks
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.complete = true AND t.id > :afterId "
+            + "AND COALESCE(t.updateAt, t.createAt) < :cutoff ORDER BY t.id")
+    List<Long> findArchivableIds(@Param("afterId") Long afterId, @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Locks the rows of the given tasks that are still completed and last modified before the cutoff.
+     *
+     * @param ids    the candidate task ids
+     * @param cutoff tasks last modified at or after this timestamp are skipped
+     * @return the ids of the rows that were locked
+     */
+    @Query(value = "SELECT id FROM tasks WHERE id IN (:ids) AND complete = true "
+            + "AND COALESCE(update_at, create_at) < :cutoff FOR UPDATE", nativeQuery = true)
+    List<Long> lockArchivableByIds(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Finds all tasks in the user-defined order, walking the sort key index.
+     *
+     * @return the tasks ordered by sort key then id, tasks without sort key last
+     */
+    @Query("SELECT t FROM Task t ORDER BY t.sortKey ASC NULLS LAST, t.id ASC")
+    List<Task> findAllInOrder();
+
+    /**
+     * Finds the first tasks of the user-defined order, skipping one task.
+     *
+     * @param excludedId the id of the task to skip
+     * @param limit      the maximum number of tasks to return
+     * @return the first tasks ordered by sort key then id
+     */
+    @Query("SELECT t FROM Task t WHERE t.id <> :excludedId ORDER BY t.sortKey ASC NULLS LAST, t.id ASC")
+    List<Task> findFirstInOrder(@Param("excludedId") Long excludedId, Limit limit);
+
+    /**
+     * Finds the tasks following a position of the user-defined order, skipping one task.
+     *
+     * @param sortKey    the sort key of the position
+     * @param afterId    the id of the task at the position, breaking ties between equal sort keys
+     * @param excludedId the id of the task to skip
+     * @param limit      the maximum number of tasks to return
+     * @return the following tasks ordered by sort key then id
+     */
+    @Query("SELECT t FROM Task t WHERE t.id <> :excludedId "
+            + "AND (t.sortKey > :sortKey OR (t.sortKey = :sortKey AND t.id > :afterId)) "
+            + "ORDER BY t.sortKey ASC, t.id ASC")
+    List<Task> findNextInOrder(@Param("sortKey") String sortKey, @Param("afterId") Long afterId,
+                               @Param("excludedId") Long excludedId, Limit limit);
+
+    /**
+     * Finds the tasks sharing a sort key.
+     *
+     * @param sortKey the sort key
+     * @return the tasks with that sort key ordered by id
+     */
+    @Query("SELECT t FROM Task t WHERE t.sortKey = :sortKey ORDER BY t.id ASC")
+    List<Task> findBySortKeyInOrder(@Param("sortKey") String sortKey);
+
+    /**
+     * Finds the IDs of the first tasks without sort key.
+     *
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of tasks without sort key, in ascending order
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.sortKey IS NULL ORDER BY t.id ASC")
+    List<Long> findIdsWithoutSortKey(Limit limit);
+
+    /**
+     * Finds the positions following a position of the user-defined order, skipping tasks without sort key.
+     *
+     * @param sortKey the sort key of the position
+     * @param afterId the id of the task at the position, breaking ties between equal sort keys
+     * @param limit   the maximum number of positions to return
+     * @return the following positions ordered by sort key then id
+     */
+    @Query("SELECT new com.gklyphon.ToDo.model.dto.TaskSortKey(t.id, t.sortKey) FROM Task t "
+            + "WHERE t.sortKey > :sortKey OR (t.sortKey = :sortKey AND t.id > :afterId) "
+            + "ORDER BY t.sortKey ASC, t.id ASC")
+    List<TaskSortKey> findSortKeysAfter(@Param("sortKey") String sortKey, @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    /**
+     * Sets the sort key of a task without loading it.
+     *
+     * @param id      the task ID
+     * @param sortKey the new sort key
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.sortKey = :sortKey WHERE t.id = :id")
+    int updateSortKey(@Param("id") Long id, @Param("sortKey") String sortKey);
+
+    /**
+     * Finds the lowest sort key above the given one.
+     *
+     * @param sortKey the sort key
+     * @return the next sort key, {@code null} when no task has a higher one
+     */
+    @Query("SELECT MIN(t.sortKey) FROM Task t WHERE t.sortKey > :sortKey")
+    String findNextSortKey(@Param("sortKey") String sortKey);
+
+    /**
+     * Finds the highest sort key.
+     *
+     * @return the highest sort key, {@code null} when no task has one
+     */
+    @Query("SELECT MAX(t.sortKey) FROM Task t")
+    String findMaxSortKey();
+
+    /**
+     * Finds the lowest sort key.
+     *
+     * @return the lowest sort key, {@code null} when no task has one
+     */
+    @Query("SELECT MIN(t.sortKey) FROM Task t")
+    String findMinSortKey();
+
+    /**
+     * Counts the tasks with a sort key.
+     *
+     * @return the number of tasks with a sort key
+     */
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.sortKey IS NOT NULL")
+    long countKeyedTasks();
+
+    /**
+     * Counts the tasks with a sort key longer than the given length.
+     *
+     * @param maxLength the longest acceptable sort key
+     * @return the number of tasks with a long sort key
+     */
+    @Query("SELECT COUNT(t) FROM Task t WHERE LENGTH(t.sortKey) > :maxLength")
+    long countLongSortKeys(@Param("maxLength") int maxLength);
+
+    /**
+     * Deletes the labels of the given tasks, ahead of a bulk delete of the tasks themselves.
+     *
+     * @param ids the task ids
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteLabelsByTaskIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts the tasks grouped by completion status and due date.
+     *
+     * @return one {@link TaskCount} per distinct completion status and due date
+     */
+    @Query("SELECT new com.gklyphon.ToDo.model.dto.TaskCount(t.complete, t.dueTime, COUNT(t)) "
+            + "FROM Task t GROUP BY t.complete, t.dueTime")
+    List<TaskCount> countByCompleteAndDueTime();
 }
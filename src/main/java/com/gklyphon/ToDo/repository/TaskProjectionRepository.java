@@ -0,0 +1,137 @@
+package com.gklyphon.ToDo.repository;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Repository reading tasks with only a subset of their columns.
+ * <p>
+ * The JPQL of every field set is built once and kept per field mask. Rows are read as
+ * {@link Tuple}s and turned into detached, partial {@link Task}s through {@link TaskField#set};
+ * the ID is always selected, so results can be matched to requested IDs. When the labels are
+ * selected, they are read for all the tasks with one follow-up query.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Repository
+public class TaskProjectionRepository {
+
+    private static final int SETS = 1 << TaskField.values().length;
+    private static final String FIND_ALL_LABELS = "SELECT t.id, l FROM Task t JOIN t.labels l";
+    private static final String FIND_LABELS_BY_ID = FIND_ALL_LABELS + " WHERE t.id IN :ids";
+
+    private final AtomicReferenceArray<Projection> projections = new AtomicReferenceArray<>(SETS);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Finds all tasks with only the given fields populated.
+     *
+     * @param fields the fields to read
+     * @return the partial tasks
+     */
+    public List<Task> findAll(Set<TaskField> fields) {
+        Projection projection = projection(fields);
+        List<Task> tasks = read(projection, entityManager.createQuery(projection.findAll, Tuple.class)
+                .getResultList());
+        if (projection.labels) {
+            readLabels(tasks, entityManager.createQuery(FIND_ALL_LABELS, Tuple.class).getResultList());
+        }
+        return tasks;
+    }
+
+    /**
+     * Finds the tasks with the given IDs with only the given fields populated.
+     *
+     * @param ids    the task IDs, bound to a single {@code IN} clause
+     * @param fields the fields to read
+     * @return the partial tasks found, in no particular order
+     */
+    public List<Task> findAllById(Collection<Long> ids, Set<TaskField> fields) {
+        Projection projection = projection(fields);
+        List<Task> tasks = read(projection, entityManager.createQuery(projection.findAllById, Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList());
+        if (projection.labels && !tasks.isEmpty()) {
+            readLabels(tasks, entityManager.createQuery(FIND_LABELS_BY_ID, Tuple.class)
+                    .setParameter("ids", ids)
+                    .getResultList());
+        }
+        return tasks;
+    }
+
+    private Projection projection(Set<TaskField> fields) {
+        int mask = TaskField.mask(fields) | 1 << TaskField.ID.ordinal();
+        Projection projection = projections.get(mask);
+        if (projection == null) {
+            projection = new Projection(mask);
+            projections.set(mask, projection);
+        }
+        return projection;
+    }
+
+    private static List<Task> read(Projection projection, List<Tuple> rows) {
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Task task = new Task();
+            for (int i = 0; i < projection.fields.length; i++) {
+                projection.fields[i].set(task, row.get(i));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static void readLabels(List<Task> tasks, List<Tuple> rows) {
+        Map<Long, Task> byId = new HashMap<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            byId.put(task.getId(), task);
+        }
+        for (Tuple row : rows) {
+            Task task = byId.get(row.get(0, Long.class));
+            if (task != null) {
+                task.getLabels().add(row.get(1, String.class));
+            }
+        }
+    }
+
+    /** The selected columns of one field set, whether its labels are read, and its queries. */
+    private static final class Projection {
+
+        private final TaskField[] fields;
+        private final boolean labels;
+        private final String findAll;
+        private final String findAllById;
+
+        Projection(int mask) {
+            List<TaskField> selected = new ArrayList<>();
+            for (TaskField field : TaskField.values()) {
+                if ((mask & (1 << field.ordinal())) != 0 && !field.isCollection()) {
+                    selected.add(field);
+                }
+            }
+            this.fields = selected.toArray(TaskField[]::new);
+            this.labels = (mask & (1 << TaskField.LABELS.ordinal())) != 0;
+            String select = "SELECT " + String.join(", ", selected.stream().map(field -> "t." + field.attribute()).toList())
+                    + " FROM Task t";
+            this.findAll = select;
+            this.findAllById = select + " WHERE t.id IN :ids";
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.gklyphon.ToDo.repository.logstore;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Embedded log-structured store of {@link Task} values.
+ * <p>
+ * Every write appends a record to the active data file and points the in-memory index at it;
+ * a read is a single positional read at the indexed offset. Data files are rolled once they
+ * reach the configured size. Records are framed as:
+ * </p>
+ * <pre>
+ * int  length    bytes after this field
+ * byte op        PUT, DELETE or COMMIT
+ * long id        task ID; for COMMIT, the highest ID issued so far
+ * byte value[]   encoded task, PUT only
+ * int  crc       CRC32C of op..value
+ * </pre>
+ * <p>
+ * On startup the data files are replayed in order to rebuild the index; a torn record at the end
+ * of the last file is truncated away. {@link #compact(int)} rewrites the live records of all closed
+ * files into one file named after the newest of them, so replay order still yields the latest
+ * value of every task. The compacted file is written next to the data files, sealed with a
+ * COMMIT record, and only then are the old files deleted and the compacted file renamed, so a
+ * crash at any point leaves a recoverable directory. Since compaction drops tombstones, the
+ * COMMIT record carries the ID sequence, so IDs of deleted tasks are never issued again.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class LogStructuredTaskStore implements AutoCloseable {
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte COMMIT = 3;
+    private static final int HEADER = 4 + 1 + 8;
+    private static final int FRAME_OVERHEAD = HEADER + 4;
+    private static final String DATA_PREFIX = "data-";
+    private static final String DATA_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".log.compacting";
+    private static final int READ_ATTEMPTS = 3;
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final boolean fsyncOnWrite;
+
+    private final ConcurrentHashMap<Long, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, DataFile> files = new ConcurrentSkipListMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+
+    private DataFile active;
+
+    /**
+     * Opens the store in the given directory, recovering its content from the data files.
+     *
+     * @param directory    the directory holding the data files
+     * @param maxFileSize  the size in bytes after which the active data file is rolled
+     * @param fsyncOnWrite whether every write is forced to the storage device before returning
+     * @throws IOException if the data files cannot be read
+     */
+    public LogStructuredTaskStore(Path directory, long maxFileSize, boolean fsyncOnWrite) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxFileSize = maxFileSize;
+        this.fsyncOnWrite = fsyncOnWrite;
+        finishInterruptedCompactions();
+        List<Path> dataFiles = listFiles(DATA_SUFFIX);
+        for (int i = 0; i < dataFiles.size(); i++) {
+            DataFile file = DataFile.open(dataFiles.get(i), fileId(dataFiles.get(i), DATA_SUFFIX));
+            files.put(file.id, file);
+            replay(file, i == dataFiles.size() - 1);
+        }
+        this.active = files.isEmpty() ? newDataFile(1L) : files.lastEntry().getValue();
+        log.info("Opened log-structured task store with {} tasks in {} files", index.size(), files.size());
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id the unique identifier of the task
+     * @return the task, or an empty {@link Optional} if it does not exist
+     */
+    public Optional<Task> findById(Long id) {
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            Location location = index.get(id);
+            if (location == null) {
+                return Optional.empty();
+            }
+            try {
+                ByteBuffer value = readValue(location);
+                return Optional.of(TaskRecordCodec.decode(value));
+            } catch (ClosedChannelException ex) {
+                // The file was compacted away while reading; the index now points elsewhere.
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        throw new IllegalStateException("Could not read task " + id + " while the store was compacting");
+    }
+
+    /**
+     * Retrieves all tasks, ordered by ID.
+     *
+     * @return a list of all tasks
+     */
+    public List<Task> findAll() {
+        List<Long> ids = new ArrayList<>(index.keySet());
+        ids.sort(null);
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            findById(id).ifPresent(tasks::add);
+        }
+        return tasks;
+    }
+
+    /**
+     * Checks whether a task exists.
+     *
+     * @param id the unique identifier of the task
+     * @return {@code true} if the task exists
+     */
+    public boolean existsById(Long id) {
+        return index.containsKey(id);
+    }
+
+    /**
+     * Returns the number of stored tasks.
+     *
+     * @return the number of tasks
+     */
+    public long count() {
+        return index.size();
+    }
+
+    /**
+     * Stores a task, assigning a new ID when it has none.
+     *
+     * @param task the task to store; its ID is set when it was {@code null}
+     * @return the stored task
+     */
+    public Task save(Task task) {
+        synchronized (writeLock) {
+            if (task.getId() == null) {
+                task.setId(idSequence.incrementAndGet());
+            } else {
+                idSequence.accumulateAndGet(task.getId(), Math::max);
+            }
+            Location location = append(PUT, task.getId(), TaskRecordCodec.encode(task));
+            index.put(task.getId(), location);
+            return task;
+        }
+    }
+
+    /**
+     * Deletes a task by its ID.
+     *
+     * @param id the unique identifier of the task
+     * @return {@code true} if the task existed and was deleted
+     */
+    public boolean deleteById(Long id) {
+        synchronized (writeLock) {
+            if (!index.containsKey(id)) {
+                return false;
+            }
+            append(DELETE, id, new byte[0]);
+            index.remove(id);
+            return true;
+        }
+    }
+
+    /**
+     * Rewrites the live records of all closed data files into a single file and deletes the
+     * originals. Writes keep going to the active file while compaction runs.
+     *
+     * @param minFiles the minimum number of closed files worth compacting
+     * @return the number of data files removed
+     * @throws IOException if the compacted file cannot be written
+     */
+    public int compact(int minFiles) throws IOException {
+        if (!compactionLock.tryLock()) {
+            return 0;
+        }
+        try {
+            synchronized (writeLock) {
+                if (active.size > 0) {
+                    roll();
+                }
+            }
+            List<DataFile> candidates = new ArrayList<>(files.headMap(active.id).values());
+            if (candidates.size() < Math.max(1, minFiles)) {
+                return 0;
+            }
+            long targetId = candidates.getLast().id;
+            Path compactingPath = directory.resolve(fileName(targetId, COMPACTING_SUFFIX));
+            DataFile compacted = DataFile.create(compactingPath, targetId);
+            Map<Long, Location[]> moved = copyLiveRecords(candidates, compacted);
+            compacted.append(frame(COMMIT, idSequence.get(), new byte[0]));
+            compacted.channel.force(true);
+
+            for (Map.Entry<Long, Location[]> entry : moved.entrySet()) {
+                index.replace(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            }
+            files.put(targetId, compacted);
+            for (DataFile candidate : candidates) {
+                files.remove(candidate.id, candidate);
+                candidate.channel.close();
+                Files.delete(candidate.path);
+            }
+            Path finalPath = directory.resolve(fileName(targetId, DATA_SUFFIX));
+            Files.move(compactingPath, finalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            compacted.path = finalPath;
+            log.debug("Compacted {} data files into {}", candidates.size(), finalPath.getFileName());
+            return candidates.size();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of data files, including the active one.
+     *
+     * @return the number of data files
+     */
+    public int fileCount() {
+        return files.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            active.channel.force(true);
+            for (DataFile file : files.values()) {
+                file.channel.close();
+            }
+        }
+    }
+
+    private Map<Long, Location[]> copyLiveRecords(List<DataFile> candidates, DataFile target) throws IOException {
+        Map<Long, Location[]> moved = new HashMap<>();
+        for (Map.Entry<Long, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            if (!candidates.contains(location.file)) {
+                continue;
+            }
+            ByteBuffer record = ByteBuffer.allocate(location.length);
+            readFully(location.file.channel, record, location.offset);
+            record.flip();
+            long offset = target.append(record);
+            moved.put(entry.getKey(), new Location[]{location, new Location(target, offset, location.length)});
+        }
+        return moved;
+    }
+
+    private Location append(byte op, long id, byte[] value) {
+        try {
+            if (active.size >= maxFileSize) {
+                roll();
+            }
+            ByteBuffer record = frame(op, id, value);
+            int length = record.remaining();
+            long offset = active.append(record);
+            if (fsyncOnWrite) {
+                active.channel.force(false);
+            }
+            return new Location(active, offset, length);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void roll() throws IOException {
+        active.channel.force(true);
+        active = newDataFile(active.id + 1);
+    }
+
+    private DataFile newDataFile(long id) throws IOException {
+        DataFile file = DataFile.create(directory.resolve(fileName(id, DATA_SUFFIX)), id);
+        files.put(id, file);
+        return file;
+    }
+
+    private ByteBuffer readValue(Location location) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(location.length);
+        readFully(location.file.channel, record, location.offset);
+        record.flip();
+        record.position(HEADER);
+        record.limit(location.length - 4);
+        return record;
+    }
+
+    private void replay(DataFile file, boolean last) throws IOException {
+        long offset = 0;
+        long size = file.channel.size();
+        ByteBuffer header = ByteBuffer.allocate(4);
+        while (offset + FRAME_OVERHEAD <= size) {
+            header.clear();
+            readFully(file.channel, header, offset);
+            int length = header.getInt(0);
+            if (length < FRAME_OVERHEAD - 4 || offset + 4 + length > size) {
+                break;
+            }
+            ByteBuffer record = ByteBuffer.allocate(4 + length);
+            readFully(file.channel, record, offset);
+            if (!validCrc(record)) {
+                break;
+            }
+            byte op = record.get(4);
+            long id = record.getLong(5);
+            if (op == PUT) {
+                index.put(id, new Location(file, offset, 4 + length));
+                idSequence.accumulateAndGet(id, Math::max);
+            } else if (op == DELETE) {
+                index.remove(id);
+                idSequence.accumulateAndGet(id, Math::max);
+            } else if (op == COMMIT) {
+                idSequence.accumulateAndGet(id, Math::max);
+            }
+            offset += 4 + length;
+        }
+        if (offset < size) {
+            if (!last) {
+                throw new IOException("Corrupt record in " + file.path + " at offset " + offset);
+            }
+            log.warn("Truncating torn record at offset {} of {}", offset, file.path);
+            file.channel.truncate(offset);
+        }
+        file.size = offset;
+    }
+
+    private void finishInterruptedCompactions() throws IOException {
+        for (Path compacting : listFiles(COMPACTING_SUFFIX)) {
+            long targetId = fileId(compacting, COMPACTING_SUFFIX);
+            if (!isSealed(compacting)) {
+                log.warn("Discarding incomplete compaction {}", compacting.getFileName());
+                Files.delete(compacting);
+                continue;
+            }
+            for (Path dataFile : listFiles(DATA_SUFFIX)) {
+                if (fileId(dataFile, DATA_SUFFIX) <= targetId) {
+                    Files.delete(dataFile);
+                }
+            }
+            Files.move(compacting, directory.resolve(fileName(targetId, DATA_SUFFIX)),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Completed interrupted compaction into {}", fileName(targetId, DATA_SUFFIX));
+        }
+    }
+
+    private boolean isSealed(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FRAME_OVERHEAD) {
+                return false;
+            }
+            ByteBuffer record = ByteBuffer.allocate(FRAME_OVERHEAD);
+            readFully(channel, record, size - FRAME_OVERHEAD);
+            return record.getInt(0) == FRAME_OVERHEAD - 4 && record.get(4) == COMMIT && validCrc(record);
+        }
+    }
+
+    private List<Path> listFiles(String suffix) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(DATA_PREFIX) && name.endsWith(suffix);
+                    })
+                    .sorted((a, b) -> Long.compare(fileId(a, suffix), fileId(b, suffix)))
+                    .toList();
+        }
+    }
+
+    private static ByteBuffer frame(byte op, long id, byte[] value) {
+        ByteBuffer record = ByteBuffer.allocate(FRAME_OVERHEAD + value.length);
+        record.putInt(FRAME_OVERHEAD - 4 + value.length);
+        record.put(op);
+        record.putLong(id);
+        record.put(value);
+        record.putInt(crc(record, 4, 1 + 8 + value.length));
+        record.flip();
+        return record;
+    }
+
+    private static boolean validCrc(ByteBuffer record) {
+        int crcOffset = record.capacity() - 4;
+        return record.getInt(crcOffset) == crc(record, 4, crcOffset - 4);
+    }
+
+    private static int crc(ByteBuffer record, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Unexpected end of data file");
+            }
+            current += read;
+        }
+    }
+
+    private static String fileName(long id, String suffix) {
+        return String.format("%s%010d%s", DATA_PREFIX, id, suffix);
+    }
+
+    private static long fileId(Path path, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(DATA_PREFIX.length(), name.length() - suffix.length()));
+    }
+
+    /** Position of the latest record of a task. */
+    private record Location(DataFile file, long offset, int length) {
+    }
+
+    /** An open data file; {@link #size} is only changed under the write lock or during recovery. */
+    private static final class DataFile {
+
+        private final long id;
+        private final FileChannel channel;
+        private volatile Path path;
+        private long size;
+
+        private DataFile(Path path, long id, FileChannel channel) {
+            this.path = path;
+            this.id = id;
+            this.channel = channel;
+        }
+
+        static DataFile create(Path path, long id) throws IOException {
+            return new DataFile(path, id, FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        static DataFile open(Path path, long id) throws IOException {
+            return new DataFile(path, id, FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        long append(ByteBuffer record) throws IOException {
+            long offset = size;
+            long position = offset;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            size = position;
+            return offset;
+        }
+    }
+}
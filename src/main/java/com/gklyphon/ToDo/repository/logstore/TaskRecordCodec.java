@@ -0,0 +1,123 @@
+package com.gklyphon.ToDo.repository.logstore;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Compact binary encoding of {@link Task} values stored in the log-structured store.
+ * <p>
+ * Fields are written in declaration order with fixed widths; a negative name length
+ * and {@code Long.MIN_VALUE} dates stand for absent values. The sort key and the labels
+ * come last and are omitted when absent, so records written before they existed still decode.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+final class TaskRecordCodec {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] encode(Task task) {
+        byte[] name = task.getName() != null ? task.getName().getBytes(StandardCharsets.UTF_8) : null;
+        byte[] sortKey = task.getSortKey() != null ? task.getSortKey().getBytes(StandardCharsets.US_ASCII) : null;
+        List<byte[]> labels = task.getLabels() != null
+                ? task.getLabels().stream().map(label -> label.getBytes(StandardCharsets.UTF_8)).toList()
+                : List.of();
+        int size = 8 + 4 + (name != null ? name.length : 0) + 1 + 8 + 12 + 12;
+        if (sortKey != null || !labels.isEmpty()) {
+            size += 4 + (sortKey != null ? sortKey.length : 0);
+        }
+        if (!labels.isEmpty()) {
+            size += 4 + labels.stream().mapToInt(label -> 4 + label.length).sum();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(task.getId());
+        if (name == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(name.length);
+            buffer.put(name);
+        }
+        buffer.put((byte) (task.isComplete() ? 1 : 0));
+        buffer.putLong(task.getDueTime() != null ? task.getDueTime().toEpochDay() : NO_DATE);
+        putDateTime(buffer, task.getCreateAt());
+        putDateTime(buffer, task.getUpdateAt());
+        if (sortKey != null) {
+            buffer.putInt(sortKey.length);
+            buffer.put(sortKey);
+        } else if (!labels.isEmpty()) {
+            buffer.putInt(-1);
+        }
+        if (!labels.isEmpty()) {
+            buffer.putInt(labels.size());
+            for (byte[] label : labels) {
+                buffer.putInt(label.length);
+                buffer.put(label);
+            }
+        }
+        return buffer.array();
+    }
+
+    static Task decode(ByteBuffer buffer) {
+        Task task = new Task();
+        task.setId(buffer.getLong());
+        int nameLength = buffer.getInt();
+        if (nameLength >= 0) {
+            byte[] name = new byte[nameLength];
+            buffer.get(name);
+            task.setName(new String(name, StandardCharsets.UTF_8));
+        }
+        task.setComplete(buffer.get() == 1);
+        long dueTime = buffer.getLong();
+        task.setDueTime(dueTime != NO_DATE ? LocalDate.ofEpochDay(dueTime) : null);
+        task.setCreateAt(getDateTime(buffer));
+        task.setUpdateAt(getDateTime(buffer));
+        if (buffer.hasRemaining()) {
+            int sortKeyLength = buffer.getInt();
+            if (sortKeyLength >= 0) {
+                byte[] sortKey = new byte[sortKeyLength];
+                buffer.get(sortKey);
+                task.setSortKey(new String(sortKey, StandardCharsets.US_ASCII));
+            }
+        }
+        if (buffer.hasRemaining()) {
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] label = new byte[buffer.getInt()];
+                buffer.get(label);
+                task.getLabels().add(new String(label, StandardCharsets.UTF_8));
+            }
+        }
+        return task;
+    }
+
+    private static void putDateTime(ByteBuffer buffer, LocalDateTime value) {
+        if (value == null) {
+            buffer.putLong(NO_DATE);
+            buffer.putInt(0);
+            return;
+        }
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(value.getNano());
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (seconds == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
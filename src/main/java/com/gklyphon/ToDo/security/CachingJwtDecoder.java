@@ -0,0 +1,116 @@
+package com.gklyphon.ToDo.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link JwtDecoder} remembering the tokens it has already verified.
+ * <p>
+ * A token is verified by the delegate decoder, which checks its signature and claims, the
+ * first time it is seen. The decoded token is then kept until it expires, so later requests
+ * carrying the same token skip the signature check. Only tokens with an expiry are kept.
+ * </p>
+ * <p>
+ * The cache holds at most a fixed number of tokens. When it is full, expired tokens are purged,
+ * at most once per second; if it is still full, an arbitrary token is evicted.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final BooleanSupplier enabled;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Jwt> verified = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates a decoder.
+     *
+     * @param delegate      the decoder verifying tokens not in the cache
+     * @param maxSize       the maximum number of tokens kept
+     * @param enabled       whether the cache is used, read on every call
+     * @param clock         the clock deciding when a token has expired
+     * @param meterRegistry the registry where the cache counters are published
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, BooleanSupplier enabled, Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.hits = Counter.builder("todo.security.token.cache")
+                .description("Bearer tokens looked up in the verified-token cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("todo.security.token.cache")
+                .description("Bearer tokens looked up in the verified-token cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (!enabled.getAsBoolean()) {
+            return delegate.decode(token);
+        }
+        Instant now = clock.instant();
+        Jwt jwt = verified.get(token);
+        if (jwt != null) {
+            if (jwt.getExpiresAt().isAfter(now)) {
+                hits.increment();
+                return jwt;
+            }
+            verified.remove(token, jwt);
+        }
+        misses.increment();
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(now)) {
+            makeRoom(now);
+            verified.put(token, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Returns the number of tokens kept.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return verified.size();
+    }
+
+    private void makeRoom(Instant now) {
+        if (verified.size() < maxSize) {
+            return;
+        }
+        long last = lastPurgeMillis.get();
+        if (now.toEpochMilli() - last >= PURGE_INTERVAL_MILLIS && lastPurgeMillis.compareAndSet(last, now.toEpochMilli())) {
+            verified.values().removeIf(jwt -> !jwt.getExpiresAt().isAfter(now));
+        }
+        Iterator<String> tokens = verified.keySet().iterator();
+        while (verified.size() >= maxSize && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
+}
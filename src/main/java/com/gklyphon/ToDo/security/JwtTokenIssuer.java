@@ -0,0 +1,60 @@
+package com.gklyphon.ToDo.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Issues HMAC-signed bearer tokens accepted by the task API.
+ * <p>
+ * Tokens are signed with HS256 using the same key as the decoder, so any instance sharing
+ * the configured secret accepts them.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class JwtTokenIssuer {
+
+    private final JwtEncoder encoder;
+    private final Clock clock;
+
+    /**
+     * Creates an issuer.
+     *
+     * @param key   the HMAC key signing the tokens
+     * @param clock the clock setting the issue and expiry times
+     */
+    public JwtTokenIssuer(SecretKey key, Clock clock) {
+        this.encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        this.clock = clock;
+    }
+
+    /**
+     * Issues a token for a client.
+     *
+     * @param subject the client the token identifies
+     * @param ttl     how long the token is valid
+     * @return the signed token
+     */
+    public String issue(String subject, Duration ttl) {
+        Instant now = clock.instant();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(subject)
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
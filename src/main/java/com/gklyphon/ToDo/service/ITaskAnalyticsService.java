@@ -0,0 +1,34 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.analytics.DueWeekCompletion;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for analytics queries over all tasks.
+ * <p>
+ * Queries are answered from an in-memory column store rather than the database.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskAnalyticsService {
+
+    /**
+     * Computes the number of tasks and completed tasks per due week.
+     *
+     * @return one entry per week holding tasks, ordered by week
+     */
+    public List<DueWeekCompletion> getCompletionByDueWeek();
+
+    /**
+     * Counts the open tasks due before the given day.
+     *
+     * @param today the current day
+     * @return the number of overdue tasks
+     */
+    public long countOverdue(LocalDate today);
+}
@@ -0,0 +1,44 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for archiving completed {@link Task} entities and reading them back.
+ * <p>
+ * Archived tasks are moved from the {@code tasks} table into {@code tasks_archive}
+ * to keep the hot table and its indexes small.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskArchiveService {
+
+    /**
+     * Moves completed tasks last modified before the cutoff into the archive.
+     *
+     * @param cutoff tasks modified at or after this timestamp are kept
+     * @return the number of archived tasks
+     */
+    public int archiveCompletedTasks(LocalDateTime cutoff);
+
+    /**
+     * Retrieves all tasks, including the archived ones.
+     *
+     * @return a list of active and archived {@link Task} entities
+     */
+    public List<Task> getAllTasksIncludingArchived();
+
+    /**
+     * Retrieves a task by its ID, looking into the archive when it is not active.
+     *
+     * @param id the unique identifier of the task
+     * @return the {@link Task} entity if found
+     * @throws com.gklyphon.ToDo.exception.custom.ElementNotFoundException if no task is found with the given ID
+     */
+    public Task getTaskByIdIncludingArchived(Long id);
+}
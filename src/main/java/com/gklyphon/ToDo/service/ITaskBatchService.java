@@ -0,0 +1,22 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.dto.BatchResponse;
+
+/**
+ * Service interface for executing several task operations in one transaction.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskBatchService {
+
+    /**
+     * Executes the operations of a batch in order, in one transaction.
+     *
+     * @param request the well-formed operations and the error mode
+     * @return one result per operation
+     */
+    public BatchResponse executeBatch(BatchRequest request);
+}
@@ -0,0 +1,38 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for querying tasks by their labels.
+ * <p>
+ * Filters are answered from an in-memory bitmap index rather than the database.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskLabelService {
+
+    /**
+     * Finds the tasks matching a label filter, in ascending ID order.
+     *
+     * @param filter   the label filter expression, e.g. {@code work AND NOT blocked};
+     *                 {@code null} to match every task
+     * @param complete the completion status to match, {@code null} for both
+     * @param afterId  the ID to start after, {@code 0} for the first page
+     * @param limit    the maximum number of tasks returned
+     * @return the matching tasks
+     */
+    public List<Task> findTasksByLabels(String filter, Boolean complete, long afterId, int limit);
+
+    /**
+     * Counts the tasks per label.
+     *
+     * @return the number of tasks of every label, ordered by label
+     */
+    public Map<String, Long> getLabelCounts();
+}
@@ -1,8 +1,12 @@
 package com.gklyphon.ToDo.service;
 
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
 import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Service interface for managing {@link Task} entities.
@@ -26,6 +30,14 @@ public interface ITaskService {
      */
     public List<Task> getAllTasks();
 
+    /**
+     * Retrieves all tasks, reading only the given fields where the storage allows it.
+     *
+     * @param fields the fields the caller needs
+     * @return a list of tasks, in which fields that were not requested may be unset
+     */
+    public List<Task> getAllTasks(Set<TaskField> fields);
+
     /**
      * Retrieves a specific task by its ID.
      *
@@ -35,6 +47,15 @@ public interface ITaskService {
      */
     public Task getTaskById(Long id);
 
+    /**
+     * Retrieves several tasks by their IDs at once, reading only the given fields where the storage allows it.
+     *
+     * @param ids    the identifiers of the tasks, duplicates allowed
+     * @param fields the fields the caller needs
+     * @return one {@link TaskLookupResult} per requested ID, in request order
+     */
+    public List<TaskLookupResult> getTasksByIds(List<Long> ids, Set<TaskField> fields);
+
     /**
      * Saves a new task to the database.
      *
@@ -70,4 +91,39 @@ public interface ITaskService {
      * @throws com.gklyphon.ToDo.exception.custom.ElementNotFoundException if no task is found with the given ID
      */
     public Task updateTaskComplete(Long id, boolean complete);
+
+    /**
+     * Retrieves all tasks in the user-defined order, by sort key then ID.
+     * Tasks without sort key come last.
+     *
+     * @return a list of all tasks in order
+     */
+    public List<Task> getTasksInOrder();
+
+    /**
+     * Moves a task right after another task in the user-defined order, changing only the sort key of the moved task.
+     *
+     * @param id      the unique identifier of the task to move
+     * @param afterId the unique identifier of the task to follow, {@code null} to move the task first
+     * @return the moved {@link Task} entity
+     * @throws com.gklyphon.ToDo.exception.custom.ElementNotFoundException if either task is not found
+     */
+    public Task moveTask(Long id, Long afterId);
+
+    /**
+     * Assigns new, short sort keys to all tasks, keeping their order, when a key is longer than the
+     * given length, and appends the tasks without sort key after the highest key.
+     *
+     * @param maxKeyLength the longest sort key left in place
+     * @param batchSize    the number of tasks given a new key in one transaction
+     * @return the number of tasks given a new sort key, {@code 0} when no rebalancing was needed
+     */
+    public int rebalanceTaskOrder(int maxKeyLength, int batchSize);
+
+    /**
+     * Counts the tasks grouped by completion status and due date.
+     *
+     * @return one {@link TaskCount} per distinct completion status and due date
+     */
+    public List<TaskCount> countTasksByStatusAndDueDate();
 }
@@ -0,0 +1,25 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.stats.TaskStatisticsSnapshot;
+
+/**
+ * Service interface for the task statistics shown on dashboards.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface ITaskStatisticsService {
+
+    /**
+     * Retrieves the current task statistics without querying the database.
+     *
+     * @return the task statistics
+     */
+    public TaskStatisticsSnapshot getStatistics();
+
+    /**
+     * Replaces the incrementally maintained counters with counts taken from the task storage.
+     */
+    public void reconcile();
+}
@@ -0,0 +1,346 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import com.gklyphon.ToDo.ordering.FractionalIndex;
+import com.gklyphon.ToDo.repository.logstore.LogStructuredTaskStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Implementation of the {@link ITaskService} interface backed by the embedded
+ * {@link LogStructuredTaskStore}, active with the {@code logstore} profile.
+ * <p>
+ * It behaves like {@link TaskServiceImpl}, including the published {@link TaskMutationEvent}s,
+ * but a lookup by ID is a hash lookup and a single file read instead of a database query.
+ * </p>
+ * <p>
+ * The store has no secondary index, so the user-defined order is read by sorting all tasks.
+ * The highest sort key is kept in memory, so appending a task does not scan the store.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@Profile("logstore")
+@RequiredArgsConstructor
+public class LogStoreTaskServiceImpl implements ITaskService {
+
+    private static final Comparator<Task> ORDER = Comparator
+            .comparing(Task::getSortKey, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Task::getId);
+
+    private final LogStructuredTaskStore taskStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private String maxSortKey;
+    private boolean maxSortKeyLoaded;
+
+    /**
+     * Retrieves all tasks from the store, ordered by ID.
+     *
+     * @return a list of all {@link Task} entities
+     */
+    @Override
+    public List<Task> getAllTasks() {
+        return taskStore.findAll();
+    }
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param id the unique identifier of the task
+     * @return the {@link Task} entity
+     * @throws ElementNotFoundException if no task is found with the given ID
+     */
+    @Override
+    public Task getTaskById(Long id) {
+        return taskStore.findById(id).orElseThrow(
+                () -> new ElementNotFoundException("Task", id));
+    }
+
+    /**
+     * Retrieves all tasks. Records are stored whole, so every field is read.
+     *
+     * @param fields the fields the caller needs
+     * @return a list of all {@link Task} entities
+     */
+    @Override
+    public List<Task> getAllTasks(Set<TaskField> fields) {
+        return getAllTasks();
+    }
+
+    /**
+     * Retrieves several tasks by their IDs from the in-memory index of the store.
+     * Records are stored whole, so every field is read.
+     *
+     * @param ids    the identifiers of the tasks, duplicates allowed
+     * @param fields the fields the caller needs
+     * @return one {@link TaskLookupResult} per requested ID, in request order
+     */
+    @Override
+    public List<TaskLookupResult> getTasksByIds(List<Long> ids, Set<TaskField> fields) {
+        return ids.stream().map(id -> TaskLookupResult.of(id, taskStore.findById(id).orElse(null))).toList();
+    }
+
+    /**
+     * Saves a new task to the store with the current timestamp.
+     *
+     * @param task the {@link Task} entity to be saved
+     * @return the saved {@link Task} entity
+     */
+    @Override
+    public Task saveTask(Task task) {
+        task.setCreateAt(LocalDateTime.now());
+        task.setLabels(new TreeSet<>(labelsOf(task)));
+        task.setSortKey(nextSortKey());
+        Task savedTask = taskStore.save(task);
+        eventPublisher.publishEvent(TaskMutationEvent.created(savedTask));
+        return savedTask;
+    }
+
+    /**
+     * Deletes a task by its ID if it exists.
+     *
+     * @param id the unique identifier of the task to be deleted
+     * @return {@code true} if the task was deleted, {@code false} if not found
+     */
+    @Override
+    public boolean deleteTaskById(Long id) {
+        Optional<Task> before = taskStore.findById(id);
+        if (before.isEmpty() || !taskStore.deleteById(id)) {
+            return false;
+        }
+        eventPublisher.publishEvent(TaskMutationEvent.removed(TaskMutationEvent.Type.DELETED, id, before.get()));
+        return true;
+    }
+
+    /**
+     * Updates an existing task's data.
+     *
+     * @param id the unique identifier of the task to be updated
+     * @param task the updated task data
+     * @return the updated {@link Task} entity
+     * @throws ElementNotFoundException if no task is found with the given ID
+     */
+    @Override
+    public Task updateTask(Long id, Task task) {
+        Task originalTask = getTaskById(id);
+        Task before = originalTask.copy();
+        originalTask.setName(task.getName());
+        originalTask.setComplete(task.isComplete());
+        originalTask.setDueTime(task.getDueTime());
+        originalTask.getLabels().retainAll(labelsOf(task));
+        originalTask.getLabels().addAll(labelsOf(task));
+        originalTask.setUpdateAt(LocalDateTime.now());
+        Task updatedTask = taskStore.save(originalTask);
+        eventPublisher.publishEvent(TaskMutationEvent.changed(TaskMutationEvent.Type.UPDATED, before, updatedTask));
+        return updatedTask;
+    }
+
+    /**
+     * Updates the completion status of a task.
+     *
+     * @param id the unique identifier of the task
+     * @param complete the new completion status
+     * @return the updated {@link Task} entity
+     * @throws ElementNotFoundException if no task is found with the given ID
+     */
+    @Override
+    public Task updateTaskComplete(Long id, boolean complete) {
+        Task originalTask = getTaskById(id);
+        Task before = originalTask.copy();
+        originalTask.setComplete(complete);
+        originalTask.setUpdateAt(LocalDateTime.now());
+        Task updatedTask = taskStore.save(originalTask);
+        eventPublisher.publishEvent(
+                TaskMutationEvent.changed(TaskMutationEvent.Type.COMPLETION_CHANGED, before, updatedTask));
+        return updatedTask;
+    }
+
+    /**
+     * Retrieves all tasks in the user-defined order by sorting the whole store.
+     *
+     * @return a list of all tasks in order
+     */
+    @Override
+    public List<Task> getTasksInOrder() {
+        List<Task> tasks = taskStore.findAll();
+        tasks.sort(ORDER);
+        return tasks;
+    }
+
+    /**
+     * Moves a task right after another task by giving it a sort key between that task and the
+     * next one. When the neighbors have equal keys, only the tasks sharing that key are given
+     * distinct keys first; shortening keys is left to {@link #rebalanceTaskOrder}. A task moved
+     * after a task without key is appended after the highest key.
+     *
+     * @param id      the unique identifier of the task to move
+     * @param afterId the unique identifier of the task to follow, {@code null} to move the task first
+     * @return the moved {@link Task} entity
+     * @throws ElementNotFoundException if either task is not found
+     */
+    @Override
+    public Task moveTask(Long id, Long afterId) {
+        Task task = getTaskById(id);
+        if (id.equals(afterId)) {
+            return task;
+        }
+        Task[] neighbors = neighbors(id, afterId);
+        Task previous = neighbors[0];
+        Task next = neighbors[1];
+        String sortKey;
+        if (previous != null && previous.getSortKey() == null) {
+            sortKey = nextSortKey();
+        } else {
+            if (previous != null && next != null && previous.getSortKey().equals(next.getSortKey())) {
+                spreadEqualKeys(previous.getSortKey());
+                neighbors = neighbors(id, afterId);
+                previous = neighbors[0];
+                next = neighbors[1];
+            }
+            sortKey = FractionalIndex.between(
+                    previous != null ? previous.getSortKey() : null,
+                    next != null ? next.getSortKey() : null);
+        }
+        Task before = task.copy();
+        task.setSortKey(sortKey);
+        task.setUpdateAt(LocalDateTime.now());
+        Task movedTask = taskStore.save(task);
+        synchronized (this) {
+            if (maxSortKeyLoaded && (maxSortKey == null || movedTask.getSortKey().compareTo(maxSortKey) > 0)) {
+                maxSortKey = movedTask.getSortKey();
+            }
+        }
+        eventPublisher.publishEvent(TaskMutationEvent.changed(TaskMutationEvent.Type.MOVED, before, movedTask));
+        return movedTask;
+    }
+
+    /**
+     * Rewrites the sort keys of all tasks when a key is missing or too long. The store has no
+     * transactions holding locks, so all tasks are rewritten at once and the batch size is unused.
+     *
+     * @param maxKeyLength the longest sort key left in place
+     * @param batchSize    unused
+     * @return the number of tasks given a new sort key, {@code 0} when no rebalancing was needed
+     */
+    @Override
+    public int rebalanceTaskOrder(int maxKeyLength, int batchSize) {
+        boolean unbalanced = taskStore.findAll().stream()
+                .anyMatch(task -> task.getSortKey() == null || task.getSortKey().length() > maxKeyLength);
+        return unbalanced ? rebalance() : 0;
+    }
+
+    /**
+     * Counts the tasks grouped by completion status and due date by scanning the store.
+     *
+     * @return one {@link TaskCount} per distinct completion status and due date
+     */
+    @Override
+    public List<TaskCount> countTasksByStatusAndDueDate() {
+        Map<Boolean, Map<LocalDate, Long>> counts = new HashMap<>();
+        for (Task task : taskStore.findAll()) {
+            counts.computeIfAbsent(task.isComplete(), complete -> new HashMap<>())
+                    .merge(task.getDueTime(), 1L, Long::sum);
+        }
+        return counts.entrySet().stream()
+                .flatMap(byStatus -> byStatus.getValue().entrySet().stream()
+                        .map(byDueTime -> new TaskCount(byStatus.getKey(), byDueTime.getKey(), byDueTime.getValue())))
+                .toList();
+    }
+
+    private static Set<String> labelsOf(Task task) {
+        return task.getLabels() != null ? task.getLabels() : Set.of();
+    }
+
+    private synchronized String nextSortKey() {
+        if (!maxSortKeyLoaded) {
+            maxSortKey = taskStore.findAll().stream()
+                    .map(Task::getSortKey)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            maxSortKeyLoaded = true;
+        }
+        maxSortKey = FractionalIndex.after(maxSortKey);
+        return maxSortKey;
+    }
+
+    /**
+     * Returns the tasks around the position following {@code afterId}, ignoring the moved task.
+     */
+    private Task[] neighbors(Long movedId, Long afterId) {
+        List<Task> tasks = getTasksInOrder();
+        tasks.removeIf(task -> task.getId().equals(movedId));
+        int position = 0;
+        if (afterId != null) {
+            while (position < tasks.size() && !tasks.get(position).getId().equals(afterId)) {
+                position++;
+            }
+            if (position == tasks.size()) {
+                throw new ElementNotFoundException("Task", afterId);
+            }
+            position++;
+        }
+        return new Task[] {
+                position > 0 ? tasks.get(position - 1) : null,
+                position < tasks.size() ? tasks.get(position) : null
+        };
+    }
+
+    /**
+     * Gives distinct keys to the tasks sharing a sort key, in ID order: the first one keeps the key
+     * and the others get keys up to the next sort key.
+     */
+    private synchronized void spreadEqualKeys(String sortKey) {
+        List<Task> tasks = getTasksInOrder();
+        List<Task> run = tasks.stream().filter(task -> sortKey.equals(task.getSortKey())).toList();
+        String key = sortKey;
+        String bound = tasks.stream()
+                .map(Task::getSortKey)
+                .filter(taskKey -> taskKey != null && taskKey.compareTo(sortKey) > 0)
+                .findFirst()
+                .orElse(null);
+        for (Task task : run.subList(1, run.size())) {
+            key = FractionalIndex.between(key, bound);
+            task.setSortKey(key);
+            taskStore.save(task);
+        }
+        if (maxSortKeyLoaded && (maxSortKey == null || key.compareTo(maxSortKey) > 0)) {
+            maxSortKey = key;
+        }
+    }
+
+    private synchronized int rebalance() {
+        List<Task> tasks = getTasksInOrder();
+        String sortKey = null;
+        for (Task task : tasks) {
+            sortKey = FractionalIndex.after(sortKey);
+            task.setSortKey(sortKey);
+            taskStore.save(task);
+        }
+        maxSortKey = sortKey;
+        maxSortKeyLoaded = true;
+        return tasks.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.analytics.DueWeekCompletion;
+import com.gklyphon.ToDo.analytics.TaskColumnStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the {@link ITaskAnalyticsService} interface.
+ * <p>
+ * This service answers analytics queries with parallel scans of the {@link TaskColumnStore}.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskAnalyticsServiceImpl implements ITaskAnalyticsService {
+
+    private final TaskColumnStore columnStore;
+
+    /**
+     * Computes the number of tasks and completed tasks per due week.
+     *
+     * @return one entry per week holding tasks, ordered by week
+     */
+    @Override
+    public List<DueWeekCompletion> getCompletionByDueWeek() {
+        return columnStore.completionByDueWeek();
+    }
+
+    /**
+     * Counts the open tasks due before the given day.
+     *
+     * @param today the current day
+     * @return the number of overdue tasks
+     */
+    @Override
+    public long countOverdue(LocalDate today) {
+        return columnStore.countOverdue(today);
+    }
+}
@@ -0,0 +1,144 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.config.archive.TaskArchiveProperties;
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.entity.ArchivedTask;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.repository.IArchivedTaskRepository;
+import com.gklyphon.ToDo.repository.ITaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link ITaskArchiveService} interface.
+ * <p>
+ * Archival walks the completed tasks in keyset-ordered batches. Each batch runs in its own
+ * short transaction that locks the rows still completed and older than the cutoff, so a task
+ * changed since it was selected is kept, then copies them and their labels with {@code INSERT ... SELECT}
+ * statements and removes them with {@code DELETE} statements, so locks are never held for long. An
+ * {@link TaskMutationEvent.Type#ARCHIVED} event is published for every moved task. The archiver
+ * pauses between batches to avoid starving foreground traffic.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskArchiveServiceImpl implements ITaskArchiveService {
+
+    private final ITaskRepository taskRepository;
+    private final IArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskArchiveProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Archives the completed tasks older than the configured minimum age.
+     */
+    @Scheduled(initialDelayString = "${todo.archive.initial-delay:PT5M}",
+            fixedDelayString = "${todo.archive.interval:PT1H}")
+    public void archiveOnSchedule() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int archived = archiveCompletedTasks(LocalDateTime.now().minus(properties.getMinAge()));
+        if (archived > 0) {
+            log.info("Archived {} completed tasks", archived);
+        }
+    }
+
+    /**
+     * Moves completed tasks last modified before the cutoff into the archive, batch by batch.
+     *
+     * @param cutoff tasks modified at or after this timestamp are kept
+     * @return the number of archived tasks
+     */
+    @Override
+    public int archiveCompletedTasks(LocalDateTime cutoff) {
+        long afterId = 0L;
+        int archived = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = taskRepository.findArchivableIds(afterId, cutoff, Limit.of(properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.getLast();
+            Integer moved = transactionTemplate.execute(status -> moveBatch(ids, cutoff));
+            archived += moved != null ? moved : 0;
+            if (ids.size() < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Retrieves all tasks, including the archived ones.
+     *
+     * @return a list of active and archived {@link Task} entities
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getAllTasksIncludingArchived() {
+        List<Task> tasks = new ArrayList<>(taskRepository.findAll());
+        archivedTaskRepository.findAll().forEach(archived -> tasks.add(archived.toTask()));
+        return tasks;
+    }
+
+    /**
+     * Retrieves a task by its ID, looking into the archive when it is not active.
+     *
+     * @param id the unique identifier of the task
+     * @return the {@link Task} entity
+     * @throws ElementNotFoundException if no task is found with the given ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Task getTaskByIdIncludingArchived(Long id) {
+        return taskRepository.findById(id)
+                .or(() -> archivedTaskRepository.findById(id).map(ArchivedTask::toTask))
+                .orElseThrow(() -> new ElementNotFoundException("Task", id));
+    }
+
+    private int moveBatch(List<Long> candidateIds, LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.lockArchivableByIds(candidateIds, cutoff);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Task> snapshots = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Task::copy));
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        archivedTaskRepository.copyLabelsFromTasks(ids);
+        taskRepository.deleteLabelsByTaskIds(ids);
+        taskRepository.deleteAllByIdInBatch(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(
+                TaskMutationEvent.removed(TaskMutationEvent.Type.ARCHIVED, id, snapshots.get(id))));
+        return ids.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
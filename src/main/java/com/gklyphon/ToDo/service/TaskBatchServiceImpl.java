@@ -0,0 +1,132 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.dto.BatchOperation;
+import com.gklyphon.ToDo.model.dto.BatchOperationResult;
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.dto.BatchResponse;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Implementation of the {@link ITaskBatchService} interface.
+ * <p>
+ * The whole batch runs in one transaction and every operation goes through the
+ * {@link ITaskService}, so it publishes the same mutation events as the single endpoints; they
+ * are delivered once the batch commits. Updates and deletions are flushed together at commit,
+ * where Hibernate sends them as JDBC batches.
+ * </p>
+ * <p>
+ * Operations on missing tasks are detected up front with one lookup of every referenced ID,
+ * following the deletions made earlier in the batch. In {@link BatchRequest.Mode#ALL_OR_NOTHING}
+ * mode such a failure means nothing is applied; in {@link BatchRequest.Mode#PER_OPERATION} mode
+ * only the failed operations are left out. A failure while applying the operations, such as a
+ * database error or a task deleted concurrently, rolls back the whole batch in both modes and
+ * is reported like the failure of a single request. The log-store backend does not take part in
+ * the transaction, so there such a failure leaves the operations before it applied.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBatchServiceImpl implements ITaskBatchService {
+
+    private final ITaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Executes the operations of a batch in order, in one transaction.
+     *
+     * @param request the well-formed operations and the error mode
+     * @return one result per operation
+     */
+    @Override
+    public BatchResponse executeBatch(BatchRequest request) {
+        List<BatchOperation> operations = request.operations();
+        BatchOperationResult[] results = new BatchOperationResult[operations.size()];
+        Boolean committed = transactionTemplate.execute(status -> {
+            rejectMissingTasks(operations, results);
+            if (request.effectiveMode() == BatchRequest.Mode.ALL_OR_NOTHING
+                    && Arrays.stream(results).anyMatch(Objects::nonNull)) {
+                skipRemaining(results);
+                return false;
+            }
+            for (int i = 0; i < operations.size(); i++) {
+                if (results[i] == null) {
+                    results[i] = apply(i, operations.get(i));
+                }
+            }
+            return true;
+        });
+        return new BatchResponse(Boolean.TRUE.equals(committed), List.of(results));
+    }
+
+    private void rejectMissingTasks(List<BatchOperation> operations, BatchOperationResult[] results) {
+        List<Long> ids = operations.stream()
+                .filter(operation -> operation.type() != BatchOperation.Type.CREATE)
+                .map(BatchOperation::id)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>();
+        for (TaskLookupResult lookup : taskService.getTasksByIds(ids, EnumSet.of(TaskField.ID))) {
+            if (lookup.found()) {
+                existing.add(lookup.id());
+            }
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            if (operation.type() == BatchOperation.Type.CREATE) {
+                continue;
+            }
+            if (!existing.contains(operation.id())) {
+                results[i] = BatchOperationResult.failed(i, HttpStatus.NOT_FOUND.value(),
+                        new ElementNotFoundException("Task", operation.id()).getMessage());
+            } else if (operation.type() == BatchOperation.Type.DELETE) {
+                existing.remove(operation.id());
+            }
+        }
+    }
+
+    private static void skipRemaining(BatchOperationResult[] results) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = BatchOperationResult.failed(i, HttpStatus.FAILED_DEPENDENCY.value(),
+                        "Not applied because another operation of the batch failed.");
+            }
+        }
+    }
+
+    private BatchOperationResult apply(int index, BatchOperation operation) {
+        return switch (operation.type()) {
+            case CREATE -> BatchOperationResult.succeeded(index, HttpStatus.CREATED.value(),
+                    taskService.saveTask(operation.task()));
+            case UPDATE -> BatchOperationResult.succeeded(index, HttpStatus.OK.value(),
+                    taskService.updateTask(operation.id(), operation.task()));
+            case COMPLETE -> BatchOperationResult.succeeded(index, HttpStatus.OK.value(),
+                    taskService.updateTaskComplete(operation.id(), operation.complete()));
+            case DELETE -> {
+                if (!taskService.deleteTaskById(operation.id())) {
+                    throw new ElementNotFoundException("Task", operation.id());
+                }
+                yield BatchOperationResult.succeeded(index, HttpStatus.NO_CONTENT.value(), null);
+            }
+        };
+    }
+}
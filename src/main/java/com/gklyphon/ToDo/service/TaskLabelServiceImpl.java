@@ -0,0 +1,68 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.labels.LabelFilter;
+import com.gklyphon.ToDo.labels.TaskLabelIndex;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of the {@link ITaskLabelService} interface.
+ * <p>
+ * This service selects the matching task IDs with bitmap operations on the
+ * {@link TaskLabelIndex} and loads only the requested page of tasks. The index is updated after
+ * commit, so the loaded tasks are checked against the filter again and tasks changed in the
+ * meantime are left out of the page.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskLabelServiceImpl implements ITaskLabelService {
+
+    private final TaskLabelIndex labelIndex;
+    private final ITaskService taskService;
+
+    /**
+     * Finds the tasks matching a label filter, in ascending ID order.
+     *
+     * @param filter   the label filter expression, {@code null} to match every task
+     * @param complete the completion status to match, {@code null} for both
+     * @param afterId  the ID to start after, {@code 0} for the first page
+     * @param limit    the maximum number of tasks returned
+     * @return the matching tasks
+     */
+    @Override
+    public List<Task> findTasksByLabels(String filter, Boolean complete, long afterId, int limit) {
+        LabelFilter parsed = filter != null ? LabelFilter.parse(filter) : null;
+        long[] ids = labelIndex.find(parsed, complete).select(afterId, limit);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return taskService.getTasksByIds(Arrays.stream(ids).boxed().toList(), TaskField.ALL).stream()
+                .filter(TaskLookupResult::found)
+                .map(TaskLookupResult::task)
+                .filter(task -> parsed == null || parsed.matches(task.getLabels()))
+                .filter(task -> complete == null || task.isComplete() == complete)
+                .toList();
+    }
+
+    /**
+     * Counts the tasks per label.
+     *
+     * @return the number of tasks of every label, ordered by label
+     */
+    @Override
+    public Map<String, Long> getLabelCounts() {
+        return labelIndex.labelCounts();
+    }
+}
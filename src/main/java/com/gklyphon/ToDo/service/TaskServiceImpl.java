@@ -1,20 +1,69 @@
 package com.gklyphon.ToDo.service;
 
+import com.gklyphon.ToDo.concurrent.SingleFlight;
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
 import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.flightrecorder.TaskPhase;
+import com.gklyphon.ToDo.flightrecorder.TaskPhaseEvent;
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.dto.TaskSortKey;
 import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import com.gklyphon.ToDo.ordering.FractionalIndex;
 import com.gklyphon.ToDo.repository.ITaskRepository;
+import com.gklyphon.ToDo.repository.TaskProjectionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.Optional;
 
 /**
  * Implementation of the {@link ITaskService} interface.
  * <p>
  * This service provides transactional operations for managing {@link Task} entities,
  * including creating, updating, retrieving, and deleting tasks from the repository.
+ * Every change publishes a {@link TaskMutationEvent} for listeners such as the audit journal.
+ * </p>
+ * <p>
+ * Concurrent reads of the same task, and concurrent reads of all tasks, are coalesced with a
+ * {@link SingleFlight}: one caller runs the query and the others share its result. A committed
+ * change detaches the load in flight, so readers arriving after it never receive older data.
+ * Reads made inside a caller's transaction are not coalesced, since they may see its uncommitted changes.
+ * </p>
+ * <p>
+ * Reads restricted to a subset of {@link TaskField}s select only those columns, plus the ID,
+ * through the {@link TaskProjectionRepository}.
+ * </p>
+ * <p>
+ * The user-defined order is kept with {@link FractionalIndex} sort keys: a new task is appended
+ * after the highest key and a moved task gets a key between its new neighbors, so a move updates
+ * a single row. Concurrent writers may produce equal keys, ordered by ID; a move next to them
+ * first spreads that run of equal keys up to the next key, leaving the other rows untouched.
+ * Tasks without key follow every keyed task; a task moved after one of them is appended after
+ * the highest key, since keys are only assigned to them by {@link #rebalanceTaskOrder}, which
+ * works in pages of one short transaction each.
+ * </p>
+ * <p>
+ * Transactional operations record a {@link TaskPhaseEvent} for the flight recorder, timed from the
+ * start of the operation until its transaction commits or rolls back.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -22,34 +71,89 @@ import java.util.List;
  * @since 28-Oct-2024
  */
 @Service
+@Profile("!logstore")
 @RequiredArgsConstructor
 public class TaskServiceImpl implements ITaskService {
 
+    /** The number of IDs bound to one {@code IN} query of a multi-get. */
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
     private final ITaskRepository taskRepository;
+    private final TaskProjectionRepository taskProjectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final SingleFlight<Long, Task> taskLoads = new SingleFlight<>();
+    private final SingleFlight<Integer, List<Task>> allTasksLoads = new SingleFlight<>();
 
     /**
      * Retrieves all tasks from the database.
+     * <p>The returned list may be shared with concurrent callers and cannot be modified.</p>
      *
      * @return a list of all {@link Task} entities
      */
     @Override
-    @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+        return getAllTasks(TaskField.ALL);
+    }
+
+    /**
+     * Retrieves all tasks from the database, selecting only the given columns unless all are requested.
+     * <p>The returned list may be shared with concurrent callers and cannot be modified.</p>
+     *
+     * @param fields the fields the caller needs
+     * @return a list of tasks, in which fields that were not requested are unset
+     */
+    @Override
+    public List<Task> getAllTasks(Set<TaskField> fields) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return findAllTasks(fields);
+        }
+        return allTasksLoads.execute(TaskField.mask(fields),
+                () -> Collections.unmodifiableList(findAllTasks(fields)));
     }
 
     /**
      * Retrieves a task by its ID.
+     * <p>The returned task may be shared with concurrent callers and must not be modified.</p>
      *
      * @param id the unique identifier of the task
      * @return the {@link Task} entity
      * @throws ElementNotFoundException if no task is found with the given ID
      */
     @Override
-    @Transactional(readOnly = true)
     public Task getTaskById(Long id) {
-        return taskRepository.findById(id).orElseThrow(
-                () -> new ElementNotFoundException("Task with id: " + id + " not found."));
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return findTask(id);
+        }
+        return taskLoads.execute(id, () -> findTask(id));
+    }
+
+    /**
+     * Retrieves several tasks by their IDs in one read-only transaction. Distinct IDs are
+     * loaded with {@code IN} queries of at most {@link #LOOKUP_CHUNK_SIZE} IDs each, selecting
+     * only the given columns unless all are requested.
+     *
+     * @param ids    the identifiers of the tasks, duplicates allowed
+     * @param fields the fields the caller needs
+     * @return one {@link TaskLookupResult} per requested ID, in request order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskLookupResult> getTasksByIds(List<Long> ids, Set<TaskField> fields) {
+        recordTransaction("getTasksByIds");
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, Task> tasks = HashMap.newHashMap(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(distinctIds.size(), from + LOOKUP_CHUNK_SIZE));
+            List<Task> found = fields.containsAll(TaskField.ALL)
+                    ? taskRepository.findAllById(chunk)
+                    : taskProjectionRepository.findAllById(chunk, fields);
+            for (Task task : found) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        return ids.stream().map(id -> TaskLookupResult.of(id, tasks.get(id))).toList();
     }
 
     /**
@@ -61,8 +165,13 @@ public class TaskServiceImpl implements ITaskService {
     @Override
     @Transactional
     public Task saveTask(Task task) {
+        recordTransaction("saveTask");
         task.setCreateAt(LocalDateTime.now());
-        return taskRepository.save(task);
+        task.setLabels(new TreeSet<>(labelsOf(task)));
+        task.setSortKey(FractionalIndex.after(taskRepository.findMaxSortKey()));
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskMutationEvent.created(savedTask));
+        return savedTask;
     }
 
     /**
@@ -74,10 +183,14 @@ public class TaskServiceImpl implements ITaskService {
     @Override
     @Transactional
     public boolean deleteTaskById(Long id) {
-        if (!taskRepository.existsById(id)) {
+        recordTransaction("deleteTaskById");
+        Optional<Task> task = taskRepository.findById(id);
+        if (task.isEmpty()) {
             return false;
         }
+        Task before = task.get().copy();
         taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskMutationEvent.removed(TaskMutationEvent.Type.DELETED, id, before));
         return true;
     }
 
@@ -92,12 +205,18 @@ public class TaskServiceImpl implements ITaskService {
     @Override
     @Transactional
     public Task updateTask(Long id, Task task) {
-        Task originalTask = getTaskById(id);
+        recordTransaction("updateTask");
+        Task originalTask = findTask(id);
+        Task before = originalTask.copy();
         originalTask.setName(task.getName());
         originalTask.setComplete(task.isComplete());
         originalTask.setDueTime(task.getDueTime());
+        originalTask.getLabels().retainAll(labelsOf(task));
+        originalTask.getLabels().addAll(labelsOf(task));
         originalTask.setUpdateAt(LocalDateTime.now());
-        return taskRepository.save(originalTask);
+        Task updatedTask = taskRepository.save(originalTask);
+        eventPublisher.publishEvent(TaskMutationEvent.changed(TaskMutationEvent.Type.UPDATED, before, updatedTask));
+        return updatedTask;
     }
 
     /**
@@ -111,9 +230,243 @@ public class TaskServiceImpl implements ITaskService {
     @Override
     @Transactional
     public Task updateTaskComplete(Long id, boolean complete) {
-        Task originalTask = getTaskById(id);
+        recordTransaction("updateTaskComplete");
+        Task originalTask = findTask(id);
+        Task before = originalTask.copy();
         originalTask.setComplete(complete);
         originalTask.setUpdateAt(LocalDateTime.now());
-        return taskRepository.save(originalTask);
+        Task updatedTask = taskRepository.save(originalTask);
+        eventPublisher.publishEvent(
+                TaskMutationEvent.changed(TaskMutationEvent.Type.COMPLETION_CHANGED, before, updatedTask));
+        return updatedTask;
+    }
+
+    /**
+     * Retrieves all tasks in the user-defined order with one query walking the sort key index.
+     *
+     * @return a list of all tasks in order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getTasksInOrder() {
+        return taskRepository.findAllInOrder();
+    }
+
+    /**
+     * Moves a task right after another task by giving it a sort key between that task and the
+     * next one. When the neighbors have equal keys, only the tasks sharing that key are given
+     * distinct keys first; shortening keys is left to {@link #rebalanceTaskOrder}. A task moved
+     * after a task without key is appended after the highest key.
+     *
+     * @param id      the unique identifier of the task to move
+     * @param afterId the unique identifier of the task to follow, {@code null} to move the task first
+     * @return the moved {@link Task} entity
+     * @throws ElementNotFoundException if either task is not found
+     */
+    @Override
+    @Transactional
+    public Task moveTask(Long id, Long afterId) {
+        recordTransaction("moveTask");
+        Task task = findTask(id);
+        if (id.equals(afterId)) {
+            return task;
+        }
+        Task previous = afterId != null ? findTask(afterId) : null;
+        String sortKey;
+        if (previous != null && previous.getSortKey() == null) {
+            sortKey = FractionalIndex.after(taskRepository.findMaxSortKey());
+        } else {
+            Task next = findNext(previous, id);
+            if (previous != null && next != null && previous.getSortKey().equals(next.getSortKey())) {
+                spreadEqualKeys(previous.getSortKey());
+                next = findNext(previous, id);
+            }
+            sortKey = FractionalIndex.between(previous != null ? previous.getSortKey() : null,
+                    next != null ? next.getSortKey() : null);
+        }
+        Task before = task.copy();
+        task.setSortKey(sortKey);
+        task.setUpdateAt(LocalDateTime.now());
+        Task movedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskMutationEvent.changed(TaskMutationEvent.Type.MOVED, before, movedTask));
+        return movedTask;
+    }
+
+    /**
+     * Assigns short sort keys in keyset-ordered pages, one short transaction per page, so row locks
+     * are never held on more than one page and no page loads more than its own rows.
+     * <p>
+     * When a key is longer than the given length, every keyed task gets a new key, in order, from a
+     * run of consecutive integers of the {@link FractionalIndex} below the lowest current key: the
+     * rewritten tasks stay ahead of those not reached yet, so the order holds between pages. The
+     * tasks without key are then appended after the highest key, in ID order.
+     * </p>
+     *
+     * @param maxKeyLength the longest sort key left in place
+     * @param batchSize    the number of tasks given a new key in one transaction
+     * @return the number of tasks given a new sort key, {@code 0} when no rebalancing was needed
+     */
+    @Override
+    public int rebalanceTaskOrder(int maxKeyLength, int batchSize) {
+        int rebalanced = 0;
+        if (taskRepository.countLongSortKeys(maxKeyLength) > 0) {
+            rebalanced += rewriteSortKeys(batchSize);
+        }
+        while (true) {
+            List<Long> ids = taskRepository.findIdsWithoutSortKey(Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return rebalanced;
+            }
+            transactionTemplate.execute(status ->
+                    assignSortKeys(ids, FractionalIndex.after(taskRepository.findMaxSortKey())));
+            rebalanced += ids.size();
+        }
+    }
+
+    /**
+     * Counts the tasks grouped by completion status and due date with a single aggregate query.
+     *
+     * @return one {@link TaskCount} per distinct completion status and due date
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskCount> countTasksByStatusAndDueDate() {
+        return taskRepository.countByCompleteAndDueTime();
+    }
+
+    /**
+     * Detaches the loads in flight that may predate a committed change, so later readers query again.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        taskLoads.forget(event.taskId());
+        allTasksLoads.forgetAll();
+    }
+
+    /**
+     * Detaches every load in flight after a bulk load of tasks.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        taskLoads.forgetAll();
+        allTasksLoads.forgetAll();
+    }
+
+    private Task findNext(Task previous, Long movedId) {
+        List<Task> next = previous == null
+                ? taskRepository.findFirstInOrder(movedId, Limit.of(1))
+                : previous.getSortKey() == null
+                ? List.of()
+                : taskRepository.findNextInOrder(previous.getSortKey(), previous.getId(), movedId, Limit.of(1));
+        return next.isEmpty() ? null : next.getFirst();
+    }
+
+    /**
+     * Gives every keyed task, in order, a new key below the lowest current key, page by page.
+     * Only as many keys as tasks counted up front are handed out, so the new keys stay below
+     * the keys of the tasks not reached yet.
+     */
+    private int rewriteSortKeys(int batchSize) {
+        String lowest = taskRepository.findMinSortKey();
+        long remaining = taskRepository.countKeyedTasks();
+        if (lowest == null) {
+            return 0;
+        }
+        String sortKey = lowest;
+        for (long i = 0; i < remaining; i++) {
+            sortKey = FractionalIndex.between(null, sortKey);
+        }
+        TaskSortKey cursor = new TaskSortKey(0L, lowest);
+        int rewritten = 0;
+        while (remaining > 0) {
+            List<TaskSortKey> page = taskRepository.findSortKeysAfter(cursor.sortKey(), cursor.id(),
+                    Limit.of((int) Math.min(batchSize, remaining)));
+            if (page.isEmpty()) {
+                break;
+            }
+            String firstKey = sortKey;
+            sortKey = transactionTemplate.execute(status ->
+                    assignSortKeys(page.stream().map(TaskSortKey::id).toList(), firstKey));
+            cursor = page.getLast();
+            remaining -= page.size();
+            rewritten += page.size();
+        }
+        return rewritten;
+    }
+
+    /**
+     * Assigns consecutive keys to the given tasks, starting with the given key.
+     *
+     * @return the key following the last assigned one
+     */
+    private String assignSortKeys(List<Long> ids, String sortKey) {
+        recordTransaction("rebalanceTaskOrder");
+        for (Long id : ids) {
+            taskRepository.updateSortKey(id, sortKey);
+            sortKey = FractionalIndex.after(sortKey);
+        }
+        forgetLoadsAfterCommit();
+        return sortKey;
+    }
+
+    /**
+     * Gives distinct keys to the tasks sharing a sort key, in ID order: the first one keeps the key
+     * and the others get keys up to the next sort key.
+     */
+    private void spreadEqualKeys(String sortKey) {
+        List<Task> run = taskRepository.findBySortKeyInOrder(sortKey);
+        String key = sortKey;
+        String bound = taskRepository.findNextSortKey(sortKey);
+        for (Task task : run.subList(1, run.size())) {
+            key = FractionalIndex.between(key, bound);
+            task.setSortKey(key);
+        }
+        forgetLoadsAfterCommit();
+    }
+
+    private void forgetLoadsAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    taskLoads.forgetAll();
+                    allTasksLoads.forgetAll();
+                }
+            });
+        }
+    }
+
+    private List<Task> findAllTasks(Set<TaskField> fields) {
+        return fields.containsAll(TaskField.ALL)
+                ? taskRepository.findAll()
+                : taskProjectionRepository.findAll(fields);
+    }
+
+    private static Set<String> labelsOf(Task task) {
+        return task.getLabels() != null ? task.getLabels() : Set.of();
+    }
+
+    private Task findTask(Long id) {
+        return taskRepository.findById(id).orElseThrow(
+                () -> new ElementNotFoundException("Task", id));
+    }
+
+    private static void recordTransaction(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TaskPhaseEvent event = TaskPhaseEvent.start(TaskPhase.TRANSACTION, operation);
+        if (event.isEnabled()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    event.end(status != STATUS_COMMITTED);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.event.TasksBulkLoadedEvent;
+import com.gklyphon.ToDo.stats.TaskStatistics;
+import com.gklyphon.ToDo.stats.TaskStatisticsListener;
+import com.gklyphon.ToDo.stats.TaskStatisticsSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the {@link ITaskStatisticsService} interface.
+ * <p>
+ * Reads are answered from the {@link TaskStatistics} counters. The counters are reconciled
+ * with one aggregate query through {@link ITaskService} at startup, on schedule, after a
+ * bulk load, and soon after a mutation the {@link TaskStatisticsListener} could not apply.
+ * Counts raced by mutations are taken again, up to {@value #RECONCILE_ATTEMPTS} times; after
+ * that another reconciliation is requested.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatisticsServiceImpl implements ITaskStatisticsService, SmartInitializingSingleton {
+
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    private final TaskStatistics statistics;
+    private final TaskStatisticsListener listener;
+    private final ITaskService taskService;
+
+    /**
+     * Retrieves the current task statistics without querying the database.
+     *
+     * @return the task statistics
+     */
+    @Override
+    public TaskStatisticsSnapshot getStatistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Replaces the incrementally maintained counters with counts taken from the task storage.
+     */
+    @Override
+    public void reconcile() {
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            long stamp = statistics.beginReconcile();
+            if (statistics.completeReconcile(stamp, taskService.countTasksByStatusAndDueDate())) {
+                return;
+            }
+        }
+        log.debug("Task statistics reconciliation raced by mutations, retrying later");
+        listener.requestReconcile();
+    }
+
+    /**
+     * Loads the counters before the web server accepts requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    /**
+     * Reconciles the counters on schedule.
+     */
+    @Scheduled(initialDelayString = "${todo.stats.reconcile-interval:PT15M}",
+            fixedDelayString = "${todo.stats.reconcile-interval:PT15M}")
+    public void reconcileOnSchedule() {
+        listener.takeReconcileRequest();
+        reconcile();
+    }
+
+    /**
+     * Reconciles the counters when a mutation could not be applied incrementally.
+     */
+    @Scheduled(fixedDelayString = "${todo.stats.requested-reconcile-delay:PT10S}")
+    public void reconcileOnRequest() {
+        if (listener.takeReconcileRequest()) {
+            log.debug("Reconciling task statistics after an unapplied mutation");
+            reconcile();
+        }
+    }
+
+    /**
+     * Reconciles the counters after tasks were written in bulk.
+     *
+     * @param event the bulk load
+     */
+    @EventListener
+    public void onTasksBulkLoaded(TasksBulkLoadedEvent event) {
+        reconcile();
+    }
+}
@@ -0,0 +1,193 @@
+package com.gklyphon.ToDo.stats;
+
+import com.gklyphon.ToDo.event.MutationStamp;
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.entity.Task;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Task counters maintained incrementally from task mutations.
+ * <p>
+ * Counters are {@link LongAdder}s, so concurrent writers update separate cells instead of
+ * contending on one value, and a read only sums a few cells. Open tasks are also counted per
+ * due day; when the day changes, the open tasks due on the days that passed are added to the
+ * overdue counter, so the overdue count is never computed by scanning.
+ * </p>
+ * <p>
+ * {@link #beginReconcile()} and {@link #completeReconcile(long, List)} replace the counters with
+ * counts taken from the source of truth. A mutation may be committed before those counts are
+ * taken but applied after, so it cannot be told whether the counts include it; counts raced
+ * by a mutation are therefore rejected through a {@link MutationStamp}, and the caller takes
+ * them again.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TaskStatistics {
+
+    private final Clock clock;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final MutationStamp mutations = new MutationStamp();
+
+    private volatile Counters counters = new Counters();
+    private volatile LocalDate today;
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param clock the clock deciding which tasks are overdue
+     */
+    public TaskStatistics(Clock clock) {
+        this.clock = clock;
+        this.today = LocalDate.now(clock);
+    }
+
+    /**
+     * Counts a task in, or out when {@code sign} is negative.
+     *
+     * @param task the task
+     * @param sign {@code 1} to add the task, {@code -1} to remove it
+     */
+    public void apply(Task task, int sign) {
+        lock.readLock().lock();
+        try {
+            counters.apply(task.isComplete(), task.getDueTime(), sign, today);
+            mutations.applied();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a mutation as published and not yet applied or rolled back.
+     */
+    public void mutationPending() {
+        mutations.pending();
+    }
+
+    /**
+     * Marks a pending mutation as applied or rolled back.
+     */
+    public void mutationSettled() {
+        mutations.settled();
+    }
+
+    /**
+     * Starts a reconciliation; must be called before the reconciliation counts are taken.
+     *
+     * @return the stamp to pass to {@link #completeReconcile(long, List)}
+     */
+    public long beginReconcile() {
+        return mutations.begin();
+    }
+
+    /**
+     * Replaces the counters with the given counts, unless a mutation raced them.
+     *
+     * @param stamp  the stamp returned by {@link #beginReconcile()}
+     * @param counts the task counts taken from the source of truth
+     * @return {@code true} if the counters were replaced, {@code false} if the counts must be taken again
+     */
+    public boolean completeReconcile(long stamp, List<TaskCount> counts) {
+        lock.writeLock().lock();
+        try {
+            if (!mutations.isUnchangedSince(stamp)) {
+                return false;
+            }
+            rollOver();
+            Counters fresh = new Counters();
+            for (TaskCount count : counts) {
+                fresh.apply(count.complete(), count.dueTime(), count.count(), today);
+            }
+            counters = fresh;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the current statistics.
+     *
+     * @return a snapshot of the counters
+     */
+    public TaskStatisticsSnapshot snapshot() {
+        if (!today.equals(LocalDate.now(clock))) {
+            lock.writeLock().lock();
+            try {
+                rollOver();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        Counters current = counters;
+        long total = current.total.sum();
+        long completed = current.completed.sum();
+        Map<String, Long> histogram = new TreeMap<>();
+        current.byDueMonth.forEach((month, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                histogram.put(month.toString(), value);
+            }
+        });
+        return new TaskStatisticsSnapshot(total, completed, total - completed, current.overdue.sum(),
+                current.withoutDueDate.sum(), histogram);
+    }
+
+    private void rollOver() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.isAfter(today)) {
+            counters.rollOver(today, now);
+        }
+        today = now;
+    }
+
+    /** One set of counters; all of them are adjusted together for every task. */
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder overdue = new LongAdder();
+        private final LongAdder withoutDueDate = new LongAdder();
+        private final ConcurrentHashMap<LocalDate, LongAdder> openByDueDay = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<YearMonth, LongAdder> byDueMonth = new ConcurrentHashMap<>();
+
+        void apply(boolean complete, LocalDate dueTime, long delta, LocalDate today) {
+            total.add(delta);
+            if (complete) {
+                completed.add(delta);
+            }
+            if (dueTime == null) {
+                withoutDueDate.add(delta);
+                return;
+            }
+            byDueMonth.computeIfAbsent(YearMonth.from(dueTime), month -> new LongAdder()).add(delta);
+            if (!complete) {
+                openByDueDay.computeIfAbsent(dueTime, day -> new LongAdder()).add(delta);
+                if (dueTime.isBefore(today)) {
+                    overdue.add(delta);
+                }
+            }
+        }
+
+        void rollOver(LocalDate from, LocalDate to) {
+            openByDueDay.forEach((day, count) -> {
+                if (!day.isBefore(from) && day.isBefore(to)) {
+                    overdue.add(count.sum());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.gklyphon.ToDo.stats;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies every committed {@link TaskMutationEvent} to the {@link TaskStatistics}.
+ * <p>
+ * The task is counted out with its state before the change and counted in with its state
+ * after it. When the state before the change is unknown the counters cannot be corrected,
+ * so an early reconciliation is requested instead.
+ * </p>
+ * <p>
+ * Every mutation is reported to the statistics as pending from its publication until it is
+ * applied or rolled back, so a reconciliation can tell that it may have raced it.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RequiredArgsConstructor
+public class TaskStatisticsListener {
+
+    private final TaskStatistics statistics;
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+
+    /**
+     * Marks the mutation as pending when it is published, before any other listener runs.
+     *
+     * @param event the published mutation
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaskMutationPublished(TaskMutationEvent event) {
+        statistics.mutationPending();
+    }
+
+    /**
+     * Applies the committed mutation to the statistics.
+     *
+     * @param event the committed mutation
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskMutation(TaskMutationEvent event) {
+        try {
+            if (event.type() != TaskMutationEvent.Type.CREATED) {
+                if (event.before() == null) {
+                    reconcileRequested.set(true);
+                    return;
+                }
+                statistics.apply(event.before(), -1);
+            }
+            if (event.after() != null) {
+                statistics.apply(event.after(), 1);
+            }
+        } finally {
+            statistics.mutationSettled();
+        }
+    }
+
+    /**
+     * Clears the pending mark of a rolled back mutation.
+     *
+     * @param event the rolled back mutation
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onTaskMutationRolledBack(TaskMutationEvent event) {
+        statistics.mutationSettled();
+    }
+
+    /**
+     * Requests a reconciliation, e.g. after one was raced by mutations.
+     */
+    public void requestReconcile() {
+        reconcileRequested.set(true);
+    }
+
+    /**
+     * Returns and clears whether a mutation could not be applied since the last call.
+     *
+     * @return {@code true} if the statistics should be reconciled
+     */
+    public boolean takeReconcileRequest() {
+        return reconcileRequested.getAndSet(false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.gklyphon.ToDo.stats;
+
+import java.util.Map;
+
+/**
+ * Point-in-time view of the task statistics.
+ *
+ * @param total          the number of tasks
+ * @param completed      the number of completed tasks
+ * @param open           the number of open tasks
+ * @param overdue        the number of open tasks whose due date has passed
+ * @param withoutDueDate the number of tasks without due date
+ * @param dueHistogram   the number of tasks per due month ({@code yyyy-MM}), in month order
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public record TaskStatisticsSnapshot(long total, long completed, long open, long overdue, long withoutDueDate,
+                                     Map<String, Long> dueHistogram) {
+}
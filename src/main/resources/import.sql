@@ -1,5 +1,5 @@
-INSERT INTO tasks (name, due_date, complete, create_at, update_at) VALUES ('Complete Java project', '2024-11-01', false, '2024-10-27', '2024-10-27');
-INSERT INTO tasks (name, due_date, complete, create_at, update_at) VALUES ('Write unit tests', '2024-10-30', false, '2024-10-27', '2024-10-27');
-INSERT INTO tasks (name, due_date, complete, create_at, update_at) VALUES ('Update documentation', '2024-10-29', true, '2024-10-20', '2024-10-21');
-INSERT INTO tasks (name, due_date, complete, create_at, update_at) VALUES ('Review pull requests', '2024-10-28', false, '2024-10-27', '2024-10-27');
-INSERT INTO tasks (name, due_date, complete, create_at, update_at) VALUES ('Refactor code', '2024-11-05', false, '2024-10-27', '2024-10-27');
+INSERT INTO tasks (name, due_time, complete, create_at, update_at) VALUES ('Complete Java project', '2024-11-01', false, '2024-10-27', '2024-10-27');
+INSERT INTO tasks (name, due_time, complete, create_at, update_at) VALUES ('Write unit tests', '2024-10-30', false, '2024-10-27', '2024-10-27');
+INSERT INTO tasks (name, due_time, complete, create_at, update_at) VALUES ('Update documentation', '2024-10-29', true, '2024-10-20', '2024-10-21');
+INSERT INTO tasks (name, due_time, complete, create_at, update_at) VALUES ('Review pull requests', '2024-10-28', false, '2024-10-27', '2024-10-27');
+INSERT INTO tasks (name, due_time, complete, create_at, update_at) VALUES ('Refactor code', '2024-11-05', false, '2024-10-27', '2024-10-27');
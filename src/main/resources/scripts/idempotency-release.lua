@@ -0,0 +1,8 @@
+-- Atomic compare-and-delete used by RedisIdempotencyStore to release a claimed key.
+-- KEYS[1]: idempotency key
+-- ARGV[1]: pending marker written by the claim being released
+-- Returns 1 if the key was deleted, 0 if it holds a response or another claim's marker.
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
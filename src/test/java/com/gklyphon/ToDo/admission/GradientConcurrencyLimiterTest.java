@@ -0,0 +1,69 @@
+package com.gklyphon.ToDo.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link GradientConcurrencyLimiter} class.
+ * <p>
+ * This class tests admission by priority and how the limit reacts to dropped requests.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class GradientConcurrencyLimiterTest {
+
+    /**
+     * Test for rejecting requests over the limit.
+     * <p>
+     * This test verifies that reads are admitted up to the limit and rejected afterwards.
+     * </p>
+     */
+    @Test
+    void shouldRejectReadsOverTheLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 10, 0.2, 1.5, 0.9, 0.5, 100);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.READ).isPresent());
+        }
+        assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.READ).isEmpty());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    /**
+     * Test for prioritizing reads over writes.
+     * <p>
+     * This test verifies that writes are shed once their share of the limit is used while reads are still admitted.
+     * </p>
+     */
+    @Test
+    void shouldShedWritesBeforeReads() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 10, 0.2, 1.5, 0.9, 0.5, 100);
+        assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.WRITE).isPresent());
+        assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.WRITE).isPresent());
+        assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.WRITE).isEmpty());
+        assertTrue(limiter.tryAcquire(GradientConcurrencyLimiter.Priority.READ).isPresent());
+    }
+
+    /**
+     * Test for reducing the limit on dropped requests.
+     * <p>
+     * This test verifies that a dropped request releases its slot and lowers the limit.
+     * </p>
+     */
+    @Test
+    void shouldReduceLimitWhenRequestIsDropped() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 1, 10, 0.2, 1.5, 0.5, 1.0, 100);
+        Optional<GradientConcurrencyLimiter.Token> token = limiter.tryAcquire(GradientConcurrencyLimiter.Priority.READ);
+        assertTrue(token.isPresent());
+        token.get().onDropped();
+        assertAll(() -> {
+            assertEquals(5, limiter.getLimit());
+            assertEquals(0, limiter.getInFlight());
+        });
+    }
+}
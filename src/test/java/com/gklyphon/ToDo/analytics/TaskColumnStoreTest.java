@@ -0,0 +1,157 @@
+package com.gklyphon.ToDo.analytics;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskColumnStore} class.
+ * <p>
+ * This class tests the aggregate queries against a plain map of the same tasks after
+ * random inserts, updates and removals spanning several chunks and buffer growths.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskColumnStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    /**
+     * Test for the aggregate queries.
+     * <p>
+     * This test verifies that counts and the per-week histogram match those computed from the
+     * expected tasks.
+     * </p>
+     */
+    @Test
+    void shouldMatchExpectedAggregatesAfterRandomMutations() {
+        TaskColumnStore store = new TaskColumnStore(64, 128);
+        Map<Long, ExpectedTask> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + random.nextInt(3_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(id) != null, store.remove(id));
+            } else {
+                boolean complete = random.nextBoolean();
+                LocalDate dueTime = random.nextInt(10) == 0 ? null : TODAY.plusDays(random.nextInt(200) - 100);
+                store.upsert(id, complete, dueTime);
+                expected.put(id, new ExpectedTask(complete, dueTime));
+            }
+        }
+
+        Map<LocalDate, long[]> expectedWeeks = new TreeMap<>();
+        for (ExpectedTask task : expected.values()) {
+            if (task.dueTime() != null) {
+                LocalDate weekStart = task.dueTime().minusDays(task.dueTime().getDayOfWeek().getValue() - 1);
+                long[] counts = expectedWeeks.computeIfAbsent(weekStart, week -> new long[2]);
+                counts[0]++;
+                counts[1] += task.complete() ? 1 : 0;
+            }
+        }
+        List<DueWeekCompletion> weeks = store.completionByDueWeek();
+
+        assertAll(() -> {
+            assertEquals(expected.size(), store.size());
+            assertEquals(expected.values().stream().filter(ExpectedTask::complete).count(), store.countCompleted());
+            assertEquals(expected.values().stream()
+                    .filter(task -> !task.complete() && task.dueTime() != null && task.dueTime().isBefore(TODAY))
+                    .count(), store.countOverdue(TODAY));
+            assertEquals(expectedWeeks.size(), weeks.size());
+            for (DueWeekCompletion week : weeks) {
+                long[] counts = expectedWeeks.get(week.weekStart());
+                assertNotNull(counts, "Unexpected week " + week.weekStart());
+                assertEquals(counts[0], week.total());
+                assertEquals(counts[1], week.completed());
+            }
+        });
+    }
+
+    /**
+     * Test for due dates spread over the whole supported range.
+     * <p>
+     * This test verifies that only the weeks holding tasks are returned, in order, for due
+     * dates thousands of years apart.
+     * </p>
+     */
+    @Test
+    void shouldCountWeeksOfWidelySpreadDueDates() {
+        TaskColumnStore store = new TaskColumnStore(64, 64);
+        for (long id = 1; id <= 200; id++) {
+            store.upsert(id, id % 2 == 0, id % 2 == 0 ? LocalDate.of(1, 1, 1) : LocalDate.of(9999, 12, 31));
+        }
+
+        List<DueWeekCompletion> weeks = store.completionByDueWeek();
+
+        assertAll(() -> {
+            assertEquals(2, weeks.size());
+            assertEquals(LocalDate.of(1, 1, 1), weeks.get(0).weekStart());
+            assertEquals(100, weeks.get(0).total());
+            assertEquals(100, weeks.get(0).completed());
+            assertEquals(LocalDate.of(9999, 12, 27), weeks.get(1).weekStart());
+            assertEquals(0, weeks.get(1).completed());
+        });
+    }
+
+    /**
+     * Test for an empty store.
+     * <p>
+     * This test verifies that queries on an empty store return empty results.
+     * </p>
+     */
+    @Test
+    void shouldReturnEmptyResultsWhenStoreIsEmpty() {
+        TaskColumnStore store = new TaskColumnStore(64, 64);
+        store.upsert(1L, true, null);
+        store.remove(1L);
+        assertAll(() -> {
+            assertEquals(0, store.size());
+            assertEquals(0, store.countCompleted());
+            assertTrue(store.completionByDueWeek().isEmpty());
+        });
+    }
+
+    private record ExpectedTask(boolean complete, LocalDate dueTime) {
+    }
+
+    /**
+     * Test for a reload raced by mutations.
+     * <p>
+     * This test verifies that a reload is rejected when a mutation was applied while its tasks
+     * were read or is still pending, so the store never goes back to an older snapshot.
+     * </p>
+     */
+    @Test
+    void shouldRejectReloadRacedByMutations() {
+        TaskColumnStore store = new TaskColumnStore(64, 64);
+        List<Task> snapshot = List.of(new Task(1L, "Task", false, null, null, null));
+
+        long stamp = store.beginReplace();
+        store.upsert(2L, true, null);
+        boolean appliedMeanwhile = store.replaceAll(stamp, snapshot);
+
+        store.mutationPending();
+        boolean pending = store.replaceAll(store.beginReplace(), snapshot);
+        store.mutationSettled();
+        boolean settled = store.replaceAll(store.beginReplace(), snapshot);
+
+        assertAll(() -> {
+            assertFalse(appliedMeanwhile);
+            assertFalse(pending);
+            assertTrue(settled);
+            assertEquals(1, store.size());
+            assertEquals(0, store.countCompleted());
+        });
+    }
+}
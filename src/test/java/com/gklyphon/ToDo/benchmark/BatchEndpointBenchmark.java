@@ -0,0 +1,132 @@
+package com.gklyphon.ToDo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.model.dto.BatchOperation;
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.service.ITaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+/**
+ * Time of a sequence of task operations sent as individual requests compared with the same
+ * sequence sent as one {@code POST /v1/tasks/batch} request.
+ * <p>
+ * Run with {@code mvn test -Dtest=BatchEndpointBenchmark -Dbenchmark=true}; the mean time per
+ * sequence of both variants and the speedup are printed to the console. Every sequence creates,
+ * updates, completes and deletes {@value #PER_TYPE} tasks each. Requests go through the full
+ * filter chain and controller with MockMvc; the database is the in-memory H2 instance, so commits
+ * are cheaper than on a database writing to disk. Rate limiting and admission control are disabled.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootTest(properties = {"todo.rate-limit.enabled=false", "todo.admission.enabled=false"})
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchEndpointBenchmark {
+
+    private static final int PER_TYPE = 5;
+    private static final int WARMUP = 200;
+    private static final int SEQUENCES = 1_000;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ITaskService taskService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void compareBatchWithIndividualRequests() throws Exception {
+        long[] individualIds = populate((WARMUP + SEQUENCES) * PER_TYPE);
+        long[] batchIds = populate((WARMUP + SEQUENCES) * PER_TYPE);
+        long[] targets = populate(PER_TYPE);
+
+        for (int i = 0; i < WARMUP; i++) {
+            runIndividually(sequence(individualIds, targets, i));
+            runAsBatch(sequence(batchIds, targets, i));
+        }
+        long individual = 0;
+        long batch = 0;
+        for (int i = WARMUP; i < WARMUP + SEQUENCES; i++) {
+            long start = System.nanoTime();
+            runIndividually(sequence(individualIds, targets, i));
+            individual += System.nanoTime() - start;
+            start = System.nanoTime();
+            runAsBatch(sequence(batchIds, targets, i));
+            batch += System.nanoTime() - start;
+        }
+        System.out.printf("%d operations as individual requests %,10d ns/sequence%n", 4 * PER_TYPE, individual / SEQUENCES);
+        System.out.printf("%d operations as one batch request   %,10d ns/sequence%n", 4 * PER_TYPE, batch / SEQUENCES);
+        System.out.printf("speedup %.1fx%n", (double) individual / batch);
+    }
+
+    private long[] populate(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = taskService.saveTask(new Task(null, "Task " + i, false, null, null, null)).getId();
+        }
+        return ids;
+    }
+
+    private static List<BatchOperation> sequence(long[] deletable, long[] targets, int index) {
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < PER_TYPE; i++) {
+            operations.add(new BatchOperation(BatchOperation.Type.CREATE, null,
+                    new Task(null, "Created " + index, false, null, null, null), null));
+            operations.add(new BatchOperation(BatchOperation.Type.UPDATE, targets[i],
+                    new Task(null, "Updated " + index, false, null, null, null), null));
+            operations.add(new BatchOperation(BatchOperation.Type.COMPLETE, targets[i], null, index % 2 == 0));
+            operations.add(new BatchOperation(BatchOperation.Type.DELETE, deletable[index * PER_TYPE + i], null, null));
+        }
+        return operations;
+    }
+
+    private void runIndividually(List<BatchOperation> operations) throws Exception {
+        for (BatchOperation operation : operations) {
+            MockHttpServletRequestBuilder request = switch (operation.type()) {
+                case CREATE -> MockMvcRequestBuilders.post("/v1/tasks/create-task")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(operation.task()));
+                case UPDATE -> MockMvcRequestBuilders.put("/v1/tasks/update-task/" + operation.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(operation.task()));
+                case COMPLETE -> MockMvcRequestBuilders.put("/v1/tasks/update-complete-task/" + operation.id())
+                        .param("complete", operation.complete().toString());
+                case DELETE -> MockMvcRequestBuilders.delete("/v1/tasks/delete-task/" + operation.id());
+            };
+            int status = mockMvc.perform(request.with(jwt())).andReturn().getResponse().getStatus();
+            if (status >= 300) {
+                throw new IllegalStateException(operation.type() + " failed with " + status);
+            }
+        }
+    }
+
+    private void runAsBatch(List<BatchOperation> operations) throws Exception {
+        int status = mockMvc.perform(MockMvcRequestBuilders.post("/v1/tasks/batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(new BatchRequest(null, operations))))
+                .andReturn().getResponse().getStatus();
+        if (status != 200) {
+            throw new IllegalStateException("Batch failed with " + status);
+        }
+    }
+}
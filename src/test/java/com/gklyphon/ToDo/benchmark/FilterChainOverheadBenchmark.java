@@ -0,0 +1,82 @@
+package com.gklyphon.ToDo.benchmark;
+
+import com.gklyphon.ToDo.config.security.TokenSecurityProperties;
+import com.gklyphon.ToDo.security.JwtTokenIssuer;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the security filter chain for an authenticated task request, with
+ * and without the verified-token cache.
+ * <p>
+ * Run with {@code mvn test -Dtest=FilterChainOverheadBenchmark -Dbenchmark=true}; the filters of
+ * the chain and the mean time spent in it per request are printed to the console. Requests go
+ * through the {@link FilterChainProxy} only, ending in a no-op chain, so the controller is not
+ * measured. Rate limiting and admission control are disabled.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootTest(properties = {"todo.rate-limit.enabled=false", "todo.admission.enabled=false"})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FilterChainOverheadBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int REQUESTS = 200_000;
+    private static final FilterChain NO_OP = (request, response) -> { };
+
+    @Autowired
+    FilterChainProxy filterChainProxy;
+
+    @Autowired
+    JwtTokenIssuer tokenIssuer;
+
+    @Autowired
+    TokenSecurityProperties properties;
+
+    @Test
+    void measureFilterChainOverhead() throws Exception {
+        for (SecurityFilterChain chain : filterChainProxy.getFilterChains()) {
+            chain.getFilters().forEach(filter -> System.out.println("filter " + filter.getClass().getSimpleName()));
+        }
+        String token = tokenIssuer.issue("benchmark", Duration.ofHours(1));
+        boolean cacheEnabled = properties.isTokenCacheEnabled();
+        try {
+            for (boolean mode : new boolean[]{false, true}) {
+                properties.setTokenCacheEnabled(mode);
+                run(token, WARMUP);
+                System.out.printf("filter chain tokenCache=%-5s %,8d ns/request%n", mode,
+                        run(token, REQUESTS) / REQUESTS);
+            }
+        } finally {
+            properties.setTokenCacheEnabled(cacheEnabled);
+        }
+    }
+
+    private long run(String token, int requests) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/tasks/1");
+            request.setServletPath("/v1/tasks/1");
+            request.addHeader("Authorization", "Bearer " + token);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filterChainProxy.doFilter(request, response, NO_OP);
+            if (response.getStatus() != 200) {
+                throw new IllegalStateException("Request rejected with " + response.getStatus());
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
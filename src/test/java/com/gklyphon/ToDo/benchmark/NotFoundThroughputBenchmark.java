@@ -0,0 +1,90 @@
+package com.gklyphon.ToDo.benchmark;
+
+import com.gklyphon.ToDo.config.error.ErrorHandlingProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Throughput comparison of {@code GET /v1/tasks/{id}} for missing tasks with the detailed
+ * error handling and with the low-cost one.
+ * <p>
+ * Run with {@code mvn test -Dtest=NotFoundThroughputBenchmark -Dbenchmark=true}; the requests
+ * per second of both modes are printed to the console. Rate limiting and admission control are
+ * disabled so only the error path is measured.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootTest(properties = {"todo.rate-limit.enabled=false", "todo.admission.enabled=false"})
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NotFoundThroughputBenchmark {
+
+    private static final int THREADS = 8;
+    private static final long WARMUP_MILLIS = 5_000;
+    private static final long MEASURE_MILLIS = 10_000;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ErrorHandlingProperties properties;
+
+    @Test
+    void compareNotFoundThroughput() throws Exception {
+        boolean lowCost = properties.isLowCost();
+        try {
+            for (boolean mode : new boolean[]{false, true}) {
+                properties.setLowCost(mode);
+                run(WARMUP_MILLIS);
+                System.out.printf("GET /v1/tasks/{missing} lowCost=%-5s %,10.0f req/s%n", mode,
+                        run(MEASURE_MILLIS) * 1000.0 / MEASURE_MILLIS);
+            }
+        } finally {
+            properties.setLowCost(lowCost);
+        }
+    }
+
+    private long run(long millis) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(executor.submit(() -> {
+                    long requests = 0;
+                    while (System.nanoTime() < deadline) {
+                        long id = 1_000_000 + ThreadLocalRandom.current().nextLong(1_000_000);
+                        mockMvc.perform(get("/v1/tasks/{id}", id).with(jwt()));
+                        requests++;
+                    }
+                    return requests;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                total += worker.get();
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
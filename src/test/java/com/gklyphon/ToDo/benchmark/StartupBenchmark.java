@@ -0,0 +1,121 @@
+package com.gklyphon.ToDo.benchmark;
+
+import com.gklyphon.ToDo.security.JwtTokenIssuer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Startup benchmark comparing the standard jar with the fast-startup mode (Spring AOT plus AppCDS).
+ * <p>
+ * Every run starts a fresh JVM and measures the time until the first successful {@code GET /v1/tasks}.
+ * Build the artifacts with {@code mvn -Pfast-startup -DskipTests package}, then run
+ * {@code mvn test -Dtest=StartupBenchmark -Dbenchmark=true}; {@code -Dstartup.runs} sets the runs per mode.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path FAST_STARTUP = TARGET.resolve("fast-startup");
+    private static final String JAR = "ToDo-0.0.1-SNAPSHOT.jar";
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final byte[] secret = new SecureRandom().generateSeed(32);
+    private final String token = new JwtTokenIssuer(new SecretKeySpec(secret, "HmacSHA256"), Clock.systemUTC())
+            .issue("startup-benchmark", Duration.ofHours(1));
+
+    @Test
+    void compareTimeToFirstRequest() throws Exception {
+        Path archive = FAST_STARTUP.resolve("application.jsa");
+        assumeTrue(Files.exists(archive), "Build with -Pfast-startup first");
+        int runs = Integer.getInteger("startup.runs", 5);
+
+        long[] standard = new long[runs];
+        long[] optimized = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            standard[run] = timeToFirstRequest(List.of("-jar", TARGET.resolve(JAR).toString()));
+            optimized[run] = timeToFirstRequest(List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=error",
+                    "-Dspring.aot.enabled=true", "-jar", FAST_STARTUP.resolve(JAR).toString()));
+        }
+        report("standard", standard);
+        report("fast-startup", optimized);
+    }
+
+    private long timeToFirstRequest(List<String> jvmArguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("--server.port=" + port);
+        command.add("--todo.journal.directory=" + Files.createTempDirectory("startup-benchmark"));
+        command.add("--todo.security.jwt-secret=" + Base64.getEncoder().encodeToString(secret));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/tasks"))
+                .header("Authorization", "Bearer " + token).GET().build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return System.nanoTime() - start;
+                    }
+                } catch (ConnectException ex) {
+                    // Not listening yet.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful response within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void report(String mode, long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        System.out.printf("time to first GET /v1/tasks %-12s median=%6dms min=%6dms max=%6dms%n", mode,
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length / 2]), TimeUnit.NANOSECONDS.toMillis(sorted[0]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+    }
+}
@@ -0,0 +1,91 @@
+package com.gklyphon.ToDo.benchmark;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.repository.logstore.LogStructuredTaskStore;
+import com.gklyphon.ToDo.repository.TaskProjectionRepository;
+import com.gklyphon.ToDo.service.ITaskService;
+import com.gklyphon.ToDo.service.LogStoreTaskServiceImpl;
+import com.gklyphon.ToDo.service.TaskServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency comparison of {@link ITaskService#getTaskById(Long)} on the JPA backend and on the
+ * embedded log-structured store.
+ * <p>
+ * Run with {@code mvn test -Dtest=TaskLookupLatencyBenchmark -Dbenchmark=true}; the percentiles
+ * of both backends are printed to the console.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@Import({TaskServiceImpl.class, TaskProjectionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskLookupLatencyBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int WARMUP = 50_000;
+    private static final int SAMPLES = 200_000;
+
+    @Autowired
+    TaskServiceImpl jpaTaskService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareGetTaskByIdLatency() throws Exception {
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 64L * 1024 * 1024, false)) {
+            ITaskService logStoreTaskService = new LogStoreTaskServiceImpl(store, event -> { });
+            long[] jpaIds = populate(jpaTaskService);
+            long[] logStoreIds = populate(logStoreTaskService);
+            report("jpa", measure(jpaTaskService, jpaIds));
+            report("logstore", measure(logStoreTaskService, logStoreIds));
+        }
+    }
+
+    private static long[] populate(ITaskService taskService) {
+        long[] ids = new long[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            ids[i] = taskService.saveTask(new Task(null, "Task " + i, i % 3 == 0, LocalDate.now(), null, null)).getId();
+        }
+        return ids;
+    }
+
+    private static long[] measure(ITaskService taskService, long[] ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < WARMUP; i++) {
+            taskService.getTaskById(ids[random.nextInt(ids.length)]);
+        }
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long id = ids[random.nextInt(ids.length)];
+            long start = System.nanoTime();
+            taskService.getTaskById(id);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static void report(String backend, long[] sorted) {
+        System.out.printf("getTaskById %-8s p50=%6.1fus p99=%7.1fus p99.9=%7.1fus max=%8.1fus%n", backend,
+                sorted[sorted.length / 2] / 1000.0, sorted[(int) (sorted.length * 0.99)] / 1000.0,
+                sorted[(int) (sorted.length * 0.999)] / 1000.0, sorted[sorted.length - 1] / 1000.0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.gklyphon.ToDo.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SingleFlight} class.
+ * <p>
+ * This class tests that concurrent callers of a key share one load, its result and its
+ * failure, and that finished or forgotten loads leave no entry behind.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    /**
+     * Test for coalescing concurrent calls.
+     * <p>
+     * This test verifies that callers arriving while a load is in flight receive its result without loading again.
+     * </p>
+     */
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = callConcurrently(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return "task";
+        });
+        waitForCoalescedCalls(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("task", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+        executor.shutdown();
+    }
+
+    /**
+     * Test for sharing a failure.
+     * <p>
+     * This test verifies that every caller of a failed load receives the exception thrown by the loader.
+     * </p>
+     */
+    @Test
+    void shouldShareFailureBetweenConcurrentCallers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("missing");
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = callConcurrently(() -> {
+            await(release);
+            throw failure;
+        });
+        waitForCoalescedCalls(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Exception ex = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(0, singleFlight.inFlight());
+        executor.shutdown();
+    }
+
+    /**
+     * Test for forgetting a load.
+     * <p>
+     * This test verifies that a caller arriving after {@link SingleFlight#forget(Object)} starts a new load.
+     * </p>
+     */
+    @Test
+    void shouldStartNewLoadAfterForget() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> stale = executor.submit(() -> singleFlight.execute(1L, () -> {
+            await(release);
+            return "before";
+        }));
+        while (singleFlight.inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        singleFlight.forget(1L);
+
+        assertEquals("after", singleFlight.execute(1L, () -> "after"));
+        release.countDown();
+        assertEquals("before", stale.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlight());
+        assertEquals(0, singleFlight.coalescedCalls());
+        executor.shutdown();
+    }
+
+    private List<Future<String>> callConcurrently(Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        }
+        return results;
+    }
+
+    private void waitForCoalescedCalls(int calls) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.coalescedCalls() < calls && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(calls, singleFlight.coalescedCalls());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,7 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gklyphon.ToDo.Data;
 import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.labels.TaskLabelIndex;
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
 import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
 import com.gklyphon.ToDo.service.TaskServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +20,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
-import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +55,9 @@ class TaskRestControllerTest {
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    TaskLabelIndex taskLabelIndex;
+
     String API_URL = "/v1/tasks";
     ObjectMapper objectMapper;
 
@@ -69,9 +83,10 @@ class TaskRestControllerTest {
      */
     @Test
     void shouldReturnAllTasks() throws Exception {
-        when(taskService.getAllTasks()).thenReturn(Data.TASKS);
+        when(taskService.getAllTasks(TaskField.ALL)).thenReturn(Data.TASKS);
         mockMvc.perform(
                 MockMvcRequestBuilders.get(API_URL)
+                        .with(jwt())
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isOk())
@@ -89,11 +104,67 @@ class TaskRestControllerTest {
     void shouldReturnNoContentWhenAllTasksCalled() throws Exception {
         mockMvc.perform(
                 MockMvcRequestBuilders.get(API_URL)
+                        .with(jwt())
                         .contentType(MediaType.APPLICATION_JSON)
         )
                 .andExpect(status().isNoContent());
     }
 
+    /**
+     * Test for retrieving several tasks by their IDs.
+     * <p>
+     * This test verifies that the API returns one result per requested ID, in request order,
+     * with status OK (200), and rejects an invalid ID with status Bad Request (400).
+     * </p>
+     */
+    @Test
+    void shouldReturnTasksByIds() throws Exception {
+        when(taskService.getTasksByIds(List.of(3L, 1L), TaskField.ALL)).thenReturn(
+                List.of(TaskLookupResult.of(3L, null), TaskLookupResult.of(1L, Data.TASK)));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL).param("ids", "3,1")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].found").value(false))
+                .andExpect(jsonPath("$[1].task.name").value("Buy Milk"));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL).param("ids", "1,0")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test for retrieving tasks with a sparse fieldset.
+     * <p>
+     * This test verifies that only the requested fields are serialized, and that an unknown
+     * field is rejected with status Bad Request (400).
+     * </p>
+     */
+    @Test
+    void shouldReturnRequestedFieldsOnly() throws Exception {
+        when(taskService.getAllTasks(EnumSet.of(TaskField.ID, TaskField.NAME))).thenReturn(Data.TASKS);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL).param("fields", "id,name")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Buy Milk"))
+                .andExpect(jsonPath("$[0].complete").doesNotExist())
+                .andExpect(jsonPath("$[0].createAt").doesNotExist());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL).param("fields", "id,owner")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Test for retrieving a task by its ID.
      * <p>
@@ -106,6 +177,7 @@ class TaskRestControllerTest {
         when(taskService.getTaskById(anyLong())).thenReturn(Data.TASK);
         mockMvc.perform(
                         MockMvcRequestBuilders.get(API_URL + "/1")
+                                .with(jwt())
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isOk())
@@ -123,6 +195,7 @@ class TaskRestControllerTest {
         doThrow(ElementNotFoundException.class).when(taskService).getTaskById(1000L);
         mockMvc.perform(
                         MockMvcRequestBuilders.get(API_URL + "/1000")
+                                .with(jwt())
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isNotFound());
@@ -141,7 +214,7 @@ class TaskRestControllerTest {
                 MockMvcRequestBuilders.post(API_URL + "/create-task")
                         .content(objectMapper.writeValueAsString(Data.TASK))
                         .contentType(MediaType.APPLICATION_JSON)
-                        .with(csrf())
+                        .with(jwt())
         )
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1))
@@ -149,6 +222,38 @@ class TaskRestControllerTest {
                 .andExpect(jsonPath("$.complete").value(false));
     }
 
+    /**
+     * Test for retrying a task creation with the same idempotency key.
+     * <p>
+     * This test verifies that the retry replays the recorded Created (201) response
+     * without creating the task a second time.
+     * </p>
+     */
+    @Test
+    void shouldReplayCreatedTaskWhenIdempotencyKeyIsReused() throws Exception {
+        when(taskService.saveTask(any(Task.class))).thenReturn(Data.TASK);
+        String content = objectMapper.writeValueAsString(Data.TASK);
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create-task")
+                        .header("Idempotency-Key", "create-buy-milk")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt())
+        )
+                .andExpect(status().isCreated());
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create-task")
+                        .header("Idempotency-Key", "create-buy-milk")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt())
+        )
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(1));
+        verify(taskService, times(1)).saveTask(any(Task.class));
+    }
+
     /**
      * Test for deleting a task.
      * <p>
@@ -161,7 +266,7 @@ class TaskRestControllerTest {
         mockMvc.perform(
                 MockMvcRequestBuilders.delete(API_URL + "/delete-task/1")
                         .contentType(MediaType.APPLICATION_JSON)
-                        .with(csrf())
+                        .with(jwt())
         )
                 .andExpect(status().isNoContent());
     }
@@ -178,7 +283,7 @@ class TaskRestControllerTest {
         mockMvc.perform(
                         MockMvcRequestBuilders.delete(API_URL + "/delete-task/1")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .with(csrf())
+                                .with(jwt())
                 )
                 .andExpect(status().isNotFound());
     }
@@ -197,7 +302,7 @@ class TaskRestControllerTest {
                         MockMvcRequestBuilders.put(API_URL + "/update-task/1")
                                 .content(objectMapper.writeValueAsString(Data.TASK))
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .with(csrf())
+                                .with(jwt())
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
@@ -218,7 +323,7 @@ class TaskRestControllerTest {
                         MockMvcRequestBuilders.put(API_URL + "/update-complete-task/1")
                                 .param("complete","true")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .with(csrf())
+                                .with(jwt())
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(2))
@@ -226,4 +331,182 @@ class TaskRestControllerTest {
                 .andExpect(jsonPath("$.complete").value(true));
     }
 
-}
\ No newline at end of file
+    /**
+     * Test for moving a task in the user-defined order.
+     * <p>
+     * This test verifies that the API passes the task to follow to the service and returns
+     * the moved task with status OK (200).
+     * </p>
+     */
+    @Test
+    void shouldReturnTaskWhenMoveTaskCalled() throws Exception {
+        when(taskService.moveTask(2L, 1L)).thenReturn(Data.TASK2);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.put(API_URL + "/move-task/2")
+                                .param("after", "1")
+                                .with(jwt())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(2));
+        verify(taskService).moveTask(2L, 1L);
+    }
+
+    /**
+     * Test for retrieving tasks in the user-defined order.
+     * <p>
+     * This test verifies that the API returns the tasks in the order given by the service.
+     * </p>
+     */
+    @Test
+    void shouldReturnTasksInOrder() throws Exception {
+        when(taskService.getTasksInOrder()).thenReturn(List.of(Data.TASK2, Data.TASK));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/ordered")
+                                .with(jwt())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    /**
+     * Test for filtering tasks by labels.
+     * <p>
+     * This test verifies that only the tasks matching the filter are loaded and returned.
+     * </p>
+     */
+    @Test
+    void shouldReturnTasksMatchingLabelFilter() throws Exception {
+        Task task = new Task(7L, "Review PR", false, null, null, null);
+        task.setLabels(new TreeSet<>(Set.of("work", "review")));
+        taskLabelIndex.upsert(7L, false, Set.of(), task.getLabels());
+        taskLabelIndex.upsert(8L, false, Set.of(), Set.of("work", "blocked"));
+        when(taskService.getTasksByIds(List.of(7L), TaskField.ALL)).thenReturn(List.of(TaskLookupResult.of(7L, task)));
+        try {
+            mockMvc.perform(
+                            MockMvcRequestBuilders.get(API_URL + "/filter")
+                                    .param("labels", "work AND NOT blocked")
+                                    .with(jwt())
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(7))
+                    .andExpect(jsonPath("$[0].labels[0]").value("review"));
+        } finally {
+            taskLabelIndex.replaceAll(taskLabelIndex.beginReplace(), List.of());
+        }
+    }
+
+    /**
+     * Test for filtering tasks with a malformed label filter.
+     * <p>
+     * This test verifies that the API responds with status Bad Request (400).
+     * </p>
+     */
+    @Test
+    void shouldReturnBadRequestWhenLabelFilterMalformed() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/filter")
+                                .param("labels", "work AND (urgent")
+                                .with(jwt())
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test for executing a batch of operations.
+     * <p>
+     * This test verifies that the operations are applied in order and that one result is
+     * returned per operation.
+     * </p>
+     */
+    @Test
+    void shouldReturnResultsWhenBatchCalled() throws Exception {
+        Task created = new Task(3L, "Buy Milk", false, null, null, null);
+        when(taskService.getTasksByIds(List.of(1L), EnumSet.of(TaskField.ID)))
+                .thenReturn(List.of(TaskLookupResult.of(1L, Data.TASK)));
+        when(taskService.saveTask(any(Task.class))).thenReturn(created);
+        when(taskService.deleteTaskById(1L)).thenReturn(true);
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/batch")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {"operations": [
+                                          {"type": "CREATE", "task": {"name": "Buy Milk", "complete": false}},
+                                          {"type": "DELETE", "id": 1}
+                                        ]}""")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].task.id").value(3))
+                .andExpect(jsonPath("$.results[1].status").value(204));
+        verify(taskService).deleteTaskById(1L);
+    }
+
+    /**
+     * Test for executing a batch with a malformed operation.
+     * <p>
+     * This test verifies that the API responds with status Bad Request (400) and applies no operation.
+     * </p>
+     */
+    @Test
+    void shouldReturnBadRequestWhenBatchOperationMalformed() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/batch")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {"operations": [
+                                          {"type": "CREATE", "task": {"name": "Buy Milk"}},
+                                          {"type": "COMPLETE", "id": 1}
+                                        ]}""")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0]").value("operations[1]: COMPLETE requires the complete status."));
+        verify(taskService, never()).saveTask(any());
+    }
+
+    /**
+     * Test for executing a batch with too many operations.
+     * <p>
+     * This test verifies that the API responds with status Bad Request (400) reporting only the
+     * size of the batch, without validating its operations.
+     * </p>
+     */
+    @Test
+    void shouldReturnBadRequestWhenBatchTooLarge() throws Exception {
+        String operation = "{\"type\": \"CREATE\", "
+                + "\"task\": {\"name\": \"Buy Milk\", \"labels\": [\"not a label!\"]}}";
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/batch")
+                                .with(jwt())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"operations\": [" + String.join(",",
+                                        Collections.nCopies(BatchRequest.MAX_OPERATIONS + 1, operation)) + "]}")
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0]").value("operations: between 1 and 1000 operations must be sent."));
+        verify(taskService, never()).saveTask(any());
+    }
+
+    /**
+     * Test for calling the API without a bearer token.
+     * <p>
+     * This test verifies that the API rejects the request with status Unauthorized (401)
+     * and never reaches the service.
+     * </p>
+     */
+    @Test
+    void shouldReturnUnauthorizedWhenTokenMissing() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isUnauthorized());
+        verify(taskService, never()).getAllTasks(TaskField.ALL);
+    }
+
+}
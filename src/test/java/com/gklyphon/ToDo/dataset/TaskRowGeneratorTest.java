@@ -0,0 +1,76 @@
+package com.gklyphon.ToDo.dataset;
+
+import com.gklyphon.ToDo.config.dataset.DatasetProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskRowGenerator} class.
+ * <p>
+ * This class tests that generated rows follow the configured distributions and that the
+ * same seed generates the same rows.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskRowGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+    private static final int ROWS = 100_000;
+
+    /**
+     * Test for the configured distributions.
+     * <p>
+     * This test verifies the shares of completed tasks and tasks without due date, and that
+     * every due date falls inside the configured range.
+     * </p>
+     */
+    @Test
+    void shouldFollowConfiguredDistributions() {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setCompletedRatio(0.25);
+        properties.setWithoutDueDateRatio(0.2);
+        properties.setDueDaysBefore(10);
+        properties.setDueDaysAfter(30);
+        TaskRowGenerator generator = new TaskRowGenerator(properties, TODAY);
+
+        int completed = 0;
+        int withoutDueDate = 0;
+        for (int i = 0; i < ROWS; i++) {
+            TaskRowGenerator.TaskRow row = generator.next();
+            completed += row.complete() ? 1 : 0;
+            if (row.dueTime() == null) {
+                withoutDueDate++;
+            } else {
+                assertFalse(row.dueTime().isBefore(TODAY.minusDays(10)));
+                assertFalse(row.dueTime().isAfter(TODAY.plusDays(30)));
+            }
+            assertFalse(row.createAt().toLocalDate().isAfter(TODAY));
+            assertNotNull(row.name());
+        }
+
+        assertEquals(0.25, (double) completed / ROWS, 0.01);
+        assertEquals(0.2, (double) withoutDueDate / ROWS, 0.01);
+    }
+
+    /**
+     * Test for reproducibility.
+     * <p>
+     * This test verifies that two generators with the same seed generate the same rows.
+     * </p>
+     */
+    @Test
+    void shouldGenerateSameRowsForSameSeed() {
+        DatasetProperties properties = new DatasetProperties();
+        TaskRowGenerator first = new TaskRowGenerator(properties, TODAY);
+        TaskRowGenerator second = new TaskRowGenerator(properties, TODAY);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.gklyphon.ToDo.flightrecorder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ContinuousFlightRecorder} class.
+ * <p>
+ * This class tests that dumps hold the task events, that slow requests are dumped at most
+ * once per interval and that only the most recent dumps are kept.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class ContinuousFlightRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContinuousFlightRecorder recorder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        recorder = new ContinuousFlightRecorder(directory, "default", Duration.ofMinutes(5), 16L * 1024 * 1024, 2,
+                Duration.ofHours(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    /**
+     * Test for dumping the recording.
+     * <p>
+     * This test verifies that a dump holds the task phase events committed before it.
+     * </p>
+     */
+    @Test
+    void shouldDumpTaskPhaseEvents() throws Exception {
+        TaskPhaseEvent.start(TaskPhase.TRANSACTION, "updateTask").end(false);
+
+        Path file = recorder.dump("manual");
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.gklyphon.ToDo.TaskPhase")
+                && "updateTask".equals(event.getString("detail"))));
+    }
+
+    /**
+     * Test for slow requests close together.
+     * <p>
+     * This test verifies that only the first of several slow requests within the interval is dumped.
+     * </p>
+     */
+    @Test
+    void shouldDumpSlowRequestsOncePerInterval() throws Exception {
+        recorder.dumpSlowRequest("PUT /v1/tasks/update-task/{id}", Duration.ofMillis(800));
+        recorder.dumpSlowRequest("PUT /v1/tasks/update-task/{id}", Duration.ofMillis(900));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (recorder.listDumps().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        recorder.close();
+        assertEquals(1, recorder.listDumps().size());
+        assertEquals(1.0, meterRegistry.get("todo.flight-recorder.dumps.skipped").counter().count());
+    }
+
+    /**
+     * Test for the number of kept dumps.
+     * <p>
+     * This test verifies that older dumps are deleted beyond the maximum, and that dumps are
+     * only resolved by a valid name.
+     * </p>
+     */
+    @Test
+    void shouldKeepMostRecentDumps() throws Exception {
+        recorder.dump("manual");
+        recorder.dump("manual");
+        Path last = recorder.dump("manual");
+
+        List<FlightRecordingDump> dumps = recorder.listDumps();
+        assertEquals(2, dumps.size());
+        assertEquals(last.getFileName().toString(), dumps.getLast().name());
+        assertEquals(last, recorder.findDump(last.getFileName().toString()).orElseThrow());
+        assertTrue(recorder.findDump("../" + last.getFileName()).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.gklyphon.ToDo.journal;
+
+import com.gklyphon.ToDo.event.TaskMutationEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MutationJournal} and {@link JournalReader} classes.
+ * <p>
+ * This class tests writing records across segment rolls, scanning them by time range
+ * and resuming the sequence after the journal is reopened.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class MutationJournalTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test for scanning records by time range.
+     * <p>
+     * This test writes enough records to roll several small segments and verifies that
+     * a range scan returns exactly the records inside the range, in order.
+     * </p>
+     */
+    @Test
+    void shouldScanRecordsByTimeRangeAcrossSegments() throws Exception {
+        Instant base = Instant.parse("2026-01-01T00:00:00Z");
+        try (MutationJournal journal = new MutationJournal(directory, 512, FsyncPolicy.EVERY_BATCH,
+                Duration.ofMillis(10), 16)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(TaskMutationEvent.Type.UPDATED, i, base.plusSeconds(i),
+                        ("{\"id\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        assertTrue(MutationJournal.listSegments(directory).size() > 1);
+        List<JournalRecord> records = new ArrayList<>();
+        long matched = new JournalReader(directory).scan(base.plusSeconds(10), base.plusSeconds(20), records::add);
+
+        assertAll(() -> {
+            assertEquals(10, matched);
+            assertEquals(10L, records.getFirst().taskId());
+            assertEquals(19L, records.getLast().taskId());
+            assertEquals(11L, records.getFirst().sequence());
+            assertEquals("{\"id\":10}", new String(records.getFirst().payload(), StandardCharsets.UTF_8));
+        });
+    }
+
+    /**
+     * Test for reopening a journal.
+     * <p>
+     * This test verifies that a reopened journal continues the sequence after the last written record.
+     * </p>
+     */
+    @Test
+    void shouldContinueSequenceWhenReopened() throws Exception {
+        try (MutationJournal journal = new MutationJournal(directory, 4096, FsyncPolicy.NEVER,
+                Duration.ofSeconds(1), 16)) {
+            journal.append(TaskMutationEvent.Type.CREATED, 1L, Instant.now(), new byte[0]);
+            journal.append(TaskMutationEvent.Type.DELETED, 1L, Instant.now(), new byte[0]);
+        }
+        try (MutationJournal journal = new MutationJournal(directory, 4096, FsyncPolicy.NEVER,
+                Duration.ofSeconds(1), 16)) {
+            assertEquals(2L, journal.getLastWrittenSequence());
+            journal.append(TaskMutationEvent.Type.CREATED, 2L, Instant.now(), new byte[0]);
+        }
+
+        List<JournalRecord> records = new ArrayList<>();
+        assertEquals(3, new JournalReader(directory).replay(records::add));
+        assertEquals(TaskMutationEvent.Type.CREATED, records.getLast().type());
+        assertEquals(3L, records.getLast().sequence());
+    }
+}
@@ -0,0 +1,112 @@
+package com.gklyphon.ToDo.jsoncache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.ToDo.config.jackson.JacksonConfig;
+import com.gklyphon.ToDo.model.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskJsonCache} class.
+ * <p>
+ * This class tests that cached bodies match the regular serialization, that a changed task is
+ * never served from an older entry, and that the cache stays within its size.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskJsonCache cache = new TaskJsonCache(objectMapper, true, 1024, meterRegistry);
+
+    /**
+     * Test for encoding tasks.
+     * <p>
+     * This test verifies that single and list bodies are byte for byte the regular serialization,
+     * and that the second encoding of a task is a cache hit.
+     * </p>
+     */
+    @Test
+    void shouldMatchRegularSerialization() throws Exception {
+        Task first = task(1L, "Buy Milk");
+        Task second = task(2L, "Walk the dog");
+
+        assertEquals(objectMapper.writeValueAsString(first), body(cache.encode(first)));
+        assertEquals(objectMapper.writeValueAsString(List.of(first, second)), body(cache.encodeAll(List.of(first, second))));
+        assertEquals("[]", body(cache.encodeAll(List.of())));
+        assertEquals(1.0, meterRegistry.get("todo.json-cache.requests").tag("result", "hit").counter().count());
+    }
+
+    /**
+     * Test for a changed task.
+     * <p>
+     * This test verifies that a task differing from the cached state is encoded again, even
+     * without invalidation.
+     * </p>
+     */
+    @Test
+    void shouldEncodeChangedTaskAgain() throws Exception {
+        Task task = task(1L, "Buy Milk");
+        cache.encode(task);
+        Task changed = task.copy();
+        changed.setComplete(true);
+
+        assertEquals(objectMapper.writeValueAsString(changed), body(cache.encode(changed)));
+        assertEquals(0.0, meterRegistry.get("todo.json-cache.requests").tag("result", "hit").counter().count());
+    }
+
+    /**
+     * Test for invalidation.
+     * <p>
+     * This test verifies that invalidated entries are dropped along with their bytes.
+     * </p>
+     */
+    @Test
+    void shouldDropInvalidatedEntries() {
+        cache.encode(task(1L, "Buy Milk"));
+        cache.encode(task(2L, "Walk the dog"));
+
+        cache.invalidate(1L);
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.byteSize());
+    }
+
+    /**
+     * Test for the maximum size.
+     * <p>
+     * This test verifies that the cached bytes never exceed the maximum size after an insertion.
+     * </p>
+     */
+    @Test
+    void shouldStayWithinMaximumSize() {
+        for (long id = 1; id <= 100; id++) {
+            cache.encode(task(id, "Task " + id));
+            assertTrue(cache.byteSize() <= 1024);
+        }
+        assertTrue(meterRegistry.get("todo.json-cache.evictions").counter().count() > 0);
+    }
+
+    private static String body(EncodedJson json) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        assertEquals(json.length(), out.size());
+        return out.toString();
+    }
+
+    private static Task task(Long id, String name) {
+        return new Task(id, name, false, LocalDate.of(2026, 10, 30), LocalDateTime.of(2026, 10, 19, 9, 0), null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.gklyphon.ToDo.labels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskIdBitmap} class.
+ * <p>
+ * This class tests the bitmap against a sorted set of the same IDs, with enough IDs per
+ * container to convert between array and bitmap containers in both directions.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskIdBitmapTest {
+
+    /**
+     * Test for adding and removing IDs.
+     * <p>
+     * This test verifies that membership, cardinality and ordered selection match the expected set
+     * while containers grow past and shrink below the array limit.
+     * </p>
+     */
+    @Test
+    void shouldMatchExpectedSetAfterRandomMutations() {
+        TaskIdBitmap bitmap = new TaskIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 60_000; i++) {
+            long id = randomId(random);
+            if (i > 40_000 && random.nextInt(3) > 0) {
+                assertEquals(expected.remove(id), bitmap.remove(id));
+            } else {
+                assertEquals(expected.add(id), bitmap.add(id));
+            }
+        }
+
+        assertAll(() -> {
+            assertEquals(expected.size(), bitmap.cardinality());
+            assertArrayEquals(toArray(expected, -1, Integer.MAX_VALUE), bitmap.select(-1, Integer.MAX_VALUE));
+            assertArrayEquals(toArray(expected, 70_000, 50), bitmap.select(70_000, 50));
+            for (long id = 0; id < 200_000; id += 7) {
+                assertEquals(expected.contains(id), bitmap.contains(id));
+            }
+        });
+    }
+
+    /**
+     * Test for the set operations.
+     * <p>
+     * This test verifies that {@code and}, {@code or} and {@code andNot} match the set operations
+     * of the expected sets and leave their operands unchanged.
+     * </p>
+     */
+    @Test
+    void shouldMatchExpectedSetOperations() {
+        Random random = new Random(7);
+        TaskIdBitmap left = new TaskIdBitmap();
+        TaskIdBitmap right = new TaskIdBitmap();
+        TreeSet<Long> expectedLeft = new TreeSet<>();
+        TreeSet<Long> expectedRight = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            long id = randomId(random);
+            left.add(id);
+            expectedLeft.add(id);
+            id = randomId(random);
+            right.add(id);
+            expectedRight.add(id);
+        }
+
+        TreeSet<Long> and = new TreeSet<>(expectedLeft);
+        and.retainAll(expectedRight);
+        TreeSet<Long> or = new TreeSet<>(expectedLeft);
+        or.addAll(expectedRight);
+        TreeSet<Long> andNot = new TreeSet<>(expectedLeft);
+        andNot.removeAll(expectedRight);
+
+        assertAll(() -> {
+            assertArrayEquals(toArray(and, -1, Integer.MAX_VALUE), left.and(right).select(-1, Integer.MAX_VALUE));
+            assertArrayEquals(toArray(or, -1, Integer.MAX_VALUE), left.or(right).select(-1, Integer.MAX_VALUE));
+            assertArrayEquals(toArray(andNot, -1, Integer.MAX_VALUE), left.andNot(right).select(-1, Integer.MAX_VALUE));
+            assertEquals(and.size(), left.and(right).cardinality());
+            assertEquals(expectedLeft.size(), left.cardinality());
+            assertEquals(expectedRight.size(), right.cardinality());
+        });
+    }
+
+    /**
+     * Test for adding a negative ID.
+     * <p>
+     * This test verifies that an {@link IllegalArgumentException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldRejectNegativeIds() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskIdBitmap().add(-1));
+    }
+
+    /**
+     * Draws IDs from a dense range, filling bitmap containers, and a sparse one, filling array containers.
+     */
+    private static long randomId(Random random) {
+        return random.nextBoolean() ? random.nextInt(131_072) : 1L << 32 | random.nextInt(1 << 20);
+    }
+
+    private static long[] toArray(TreeSet<Long> ids, long afterId, int limit) {
+        return ids.tailSet(afterId, false).stream().limit(limit).mapToLong(Long::longValue).toArray();
+    }
+}
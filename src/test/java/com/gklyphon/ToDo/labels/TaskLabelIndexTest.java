@@ -0,0 +1,155 @@
+package com.gklyphon.ToDo.labels;
+
+import com.gklyphon.ToDo.exception.custom.InvalidFilterException;
+import com.gklyphon.ToDo.model.entity.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskLabelIndex} class.
+ * <p>
+ * This class tests that filters evaluated with bitmap operations select the same tasks as
+ * {@link LabelFilter#matches(Set)} applied to every task, and that malformed filters are rejected.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskLabelIndexTest {
+
+    private static final List<String> LABELS = List.of("work", "home", "urgent", "review", "blocked");
+
+    /**
+     * Test for finding tasks by label filter.
+     * <p>
+     * This test verifies that every filter, with and without a completion status, matches the
+     * tasks selected one by one after random upserts and removals, with and without the
+     * previous labels of the tasks.
+     * </p>
+     */
+    @Test
+    void shouldMatchExpectedTasksAfterRandomMutations() {
+        TaskLabelIndex index = new TaskLabelIndex();
+        Map<Long, Set<String>> labels = new HashMap<>();
+        Map<Long, Boolean> completed = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            Set<String> previous = random.nextInt(4) == 0 ? null : labels.getOrDefault(id, Set.of());
+            if (random.nextInt(5) == 0) {
+                index.remove(id, previous);
+                labels.remove(id);
+                completed.remove(id);
+            } else {
+                Set<String> taskLabels = new TreeSet<>();
+                for (String label : LABELS) {
+                    if (random.nextInt(3) == 0) {
+                        taskLabels.add(label);
+                    }
+                }
+                boolean complete = random.nextBoolean();
+                index.upsert(id, complete, previous, taskLabels);
+                labels.put(id, taskLabels);
+                completed.put(id, complete);
+            }
+        }
+
+        List<String> filters = List.of("work", "missing", "NOT work", "work AND urgent",
+                "work and (urgent or review) and not blocked", "NOT (home OR blocked) AND NOT review",
+                "urgent OR NOT work", "NOT NOT home");
+        assertAll(() -> {
+            assertEquals(labels.size(), index.size());
+            for (String expression : filters) {
+                LabelFilter filter = LabelFilter.parse(expression);
+                for (Boolean complete : new Boolean[]{null, true, false}) {
+                    long[] expected = labels.keySet().stream().sorted()
+                            .filter(id -> filter.matches(labels.get(id)))
+                            .filter(id -> complete == null || completed.get(id) == complete)
+                            .mapToLong(Long::longValue).toArray();
+                    assertArrayEquals(expected, index.find(filter, complete).select(0, Integer.MAX_VALUE),
+                            expression + " complete=" + complete);
+                }
+            }
+            assertEquals(labels.values().stream().filter(set -> set.contains("work")).count(),
+                    index.labelCounts().get("work"));
+        });
+    }
+
+    /**
+     * Test for parsing filters.
+     * <p>
+     * This test verifies operator precedence and case-insensitive operators.
+     * </p>
+     */
+    @Test
+    void shouldParseFiltersWithPrecedence() {
+        LabelFilter.Label a = new LabelFilter.Label("a");
+        LabelFilter.Label b = new LabelFilter.Label("b");
+        LabelFilter.Label c = new LabelFilter.Label("c");
+        assertAll(() -> {
+            assertEquals(new LabelFilter.Or(List.of(a, new LabelFilter.And(List.of(b, c)))),
+                    LabelFilter.parse("a OR b AND c"));
+            assertEquals(new LabelFilter.And(List.of(new LabelFilter.Or(List.of(a, b)), new LabelFilter.Not(c))),
+                    LabelFilter.parse("(a or b) and not c"));
+        });
+    }
+
+    /**
+     * Test for parsing malformed filters.
+     * <p>
+     * This test verifies that an {@link InvalidFilterException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldRejectMalformedFilters() {
+        assertAll(() -> {
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse(""));
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse("a AND"));
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse("(a OR b"));
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse("a b"));
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse("a & b"));
+            assertThrows(InvalidFilterException.class, () -> LabelFilter.parse("(".repeat(40) + "a" + ")".repeat(40)));
+        });
+    }
+
+    /**
+     * Test for a reload raced by mutations.
+     * <p>
+     * This test verifies that a reload is rejected when a mutation was applied while its tasks
+     * were read or is still pending, so the index never goes back to an older snapshot.
+     * </p>
+     */
+    @Test
+    void shouldRejectReloadRacedByMutations() {
+        TaskLabelIndex index = new TaskLabelIndex();
+        Task task = new Task(1L, "Task", false, null, null, null);
+        task.setLabels(new TreeSet<>(Set.of("work")));
+        List<Task> snapshot = List.of(task);
+
+        long stamp = index.beginReplace();
+        index.upsert(2L, true, Set.of(), Set.of("home"));
+        boolean appliedMeanwhile = index.replaceAll(stamp, snapshot);
+
+        index.mutationPending();
+        boolean pending = index.replaceAll(index.beginReplace(), snapshot);
+        index.mutationSettled();
+        boolean settled = index.replaceAll(index.beginReplace(), snapshot);
+
+        assertAll(() -> {
+            assertFalse(appliedMeanwhile);
+            assertFalse(pending);
+            assertTrue(settled);
+            assertEquals(1, index.size());
+            assertEquals(Map.of("work", 1L), index.labelCounts());
+        });
+    }
+}
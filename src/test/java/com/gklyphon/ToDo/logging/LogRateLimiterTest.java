@@ -0,0 +1,70 @@
+package com.gklyphon.ToDo.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LogRateLimiter} class.
+ * <p>
+ * This class tests that occurrences beyond the permits of an interval are suppressed and
+ * reported by the next logged occurrence.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class LogRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofSeconds(10), nanoTime::get);
+
+    /**
+     * Test for the permits of an interval.
+     * <p>
+     * This test verifies that only the permitted number of occurrences are logged within one interval.
+     * </p>
+     */
+    @Test
+    void shouldSuppressOccurrencesBeyondPermits() {
+        assertEquals(0, limiter.acquire());
+        assertEquals(0, limiter.acquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.acquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.acquire());
+    }
+
+    /**
+     * Test for the next interval.
+     * <p>
+     * This test verifies that permits are restored once the interval has passed and that the
+     * first logged occurrence reports the suppressed ones.
+     * </p>
+     */
+    @Test
+    void shouldReportSuppressedOccurrencesInNextInterval() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(3, limiter.acquire());
+        assertEquals(0, limiter.acquire());
+        assertEquals(LogRateLimiter.SUPPRESSED, limiter.acquire());
+    }
+
+    /**
+     * Test for the summary suffix.
+     * <p>
+     * This test verifies that the suffix is empty when nothing was suppressed.
+     * </p>
+     */
+    @Test
+    void shouldFormatSummary() {
+        assertEquals("", LogRateLimiter.summary(0));
+        assertEquals(" (3 similar messages suppressed)", LogRateLimiter.summary(3));
+    }
+}
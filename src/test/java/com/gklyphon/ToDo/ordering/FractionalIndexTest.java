@@ -0,0 +1,131 @@
+package com.gklyphon.ToDo.ordering;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FractionalIndex} class.
+ * <p>
+ * This class tests that generated keys sort between their neighbors, stay short when appended
+ * or prepended, and that malformed keys are rejected.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class FractionalIndexTest {
+
+    /**
+     * Test for appending and prepending keys.
+     * <p>
+     * This test verifies that repeated appends and prepends produce increasing or decreasing
+     * keys that grow only logarithmically.
+     * </p>
+     */
+    @Test
+    void shouldKeepAppendedAndPrependedKeysShort() {
+        String last = null;
+        String first = null;
+        for (int i = 0; i < 10_000; i++) {
+            String appended = FractionalIndex.after(last);
+            String prepended = FractionalIndex.between(null, first != null ? first : FractionalIndex.FIRST);
+            if (last != null) {
+                assertTrue(appended.compareTo(last) > 0, appended + " > " + last);
+            }
+            assertTrue(first == null || prepended.compareTo(first) < 0, prepended + " < " + first);
+            last = appended;
+            first = prepended;
+        }
+        String lastKey = last;
+        String firstKey = first;
+        assertAll(() -> {
+            assertEquals(FractionalIndex.FIRST, FractionalIndex.after(null));
+            assertTrue(lastKey.length() <= 4, lastKey);
+            assertTrue(firstKey.length() <= 4, firstKey);
+        });
+    }
+
+    /**
+     * Test for inserting keys at random positions.
+     * <p>
+     * This test verifies that every generated key sorts strictly between its neighbors and is valid.
+     * </p>
+     */
+    @Test
+    void shouldInsertBetweenNeighbors() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String before = position > 0 ? keys.get(position - 1) : null;
+            String after = position < keys.size() ? keys.get(position) : null;
+            String key = FractionalIndex.between(before, after);
+            assertAll(() -> {
+                assertTrue(FractionalIndex.isValid(key), key);
+                assertTrue(before == null || before.compareTo(key) < 0, before + " < " + key);
+                assertTrue(after == null || key.compareTo(after) < 0, key + " < " + after);
+            });
+            keys.add(position, key);
+        }
+    }
+
+    /**
+     * Test for inserting repeatedly into the same gap.
+     * <p>
+     * This test verifies that the keys stay ordered while they grow by about one character every six inserts.
+     * </p>
+     */
+    @Test
+    void shouldGrowKeysInsertedIntoSameGap() {
+        String low = "a0";
+        String high = "a1";
+        for (int i = 0; i < 60; i++) {
+            String key = FractionalIndex.between(low, high);
+            assertTrue(low.compareTo(key) < 0 && key.compareTo(high) < 0);
+            high = key;
+        }
+        assertTrue(high.length() <= 14, high);
+    }
+
+    /**
+     * Test for generating keys across integer part boundaries.
+     * <p>
+     * This test verifies the keys produced when the integer part changes length.
+     * </p>
+     */
+    @Test
+    void shouldCarryIntoLongerIntegerParts() {
+        assertAll(() -> {
+            assertEquals("a1", FractionalIndex.after("a0"));
+            assertEquals("b00", FractionalIndex.after("az"));
+            assertEquals("Zz", FractionalIndex.between(null, "a0"));
+            assertEquals("az", FractionalIndex.between(null, "b00"));
+            assertEquals("a0V", FractionalIndex.between("a0", "a1"));
+            assertEquals("a0", FractionalIndex.between(null, "a0V"));
+        });
+    }
+
+    /**
+     * Test for passing malformed or unordered keys.
+     * <p>
+     * This test verifies that an {@link IllegalArgumentException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldRejectInvalidKeys() {
+        assertAll(() -> {
+            assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a1", "a0"));
+            assertThrows(IllegalArgumentException.class, () -> FractionalIndex.between("a1", "a1"));
+            assertThrows(IllegalArgumentException.class, () -> FractionalIndex.after("a10"));
+            assertThrows(IllegalArgumentException.class, () -> FractionalIndex.after("b0"));
+            assertThrows(IllegalArgumentException.class, () -> FractionalIndex.after("a-"));
+            assertFalse(FractionalIndex.isValid("0a"));
+        });
+    }
+}
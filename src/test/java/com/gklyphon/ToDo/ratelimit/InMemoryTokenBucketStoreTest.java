@@ -0,0 +1,59 @@
+package com.gklyphon.ToDo.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link InMemoryTokenBucketStore} class.
+ * <p>
+ * This class tests token consumption per client and the eviction of idle buckets.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class InMemoryTokenBucketStoreTest {
+
+    /**
+     * Test for limiting a client once its bucket is empty.
+     * <p>
+     * This test verifies that a client can burst up to the capacity and is then limited,
+     * while other clients keep their own buckets.
+     * </p>
+     */
+    @Test
+    void shouldLimitClientWhenBucketIsEmpty() {
+        InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(3, 0.001, Duration.ofMinutes(1), 4);
+        assertTrue(store.tryConsume("a").allowed());
+        assertTrue(store.tryConsume("a").allowed());
+        RateLimitDecision last = store.tryConsume("a");
+        RateLimitDecision limited = store.tryConsume("a");
+        assertAll(() -> {
+            assertTrue(last.allowed());
+            assertEquals(0, last.remaining());
+            assertFalse(limited.allowed());
+            assertTrue(limited.retryAfterSeconds() > 0);
+            assertTrue(store.tryConsume("b").allowed());
+        });
+    }
+
+    /**
+     * Test for evicting idle buckets.
+     * <p>
+     * This test verifies that buckets unused for longer than the idle timeout are removed.
+     * </p>
+     */
+    @Test
+    void shouldEvictIdleBuckets() {
+        InMemoryTokenBucketStore store = new InMemoryTokenBucketStore(3, 1, Duration.ZERO, 4);
+        store.tryConsume("a");
+        store.tryConsume("b");
+        assertEquals(2, store.evictIdle());
+        assertEquals(0, store.size());
+        assertTrue(store.tryConsume("a").allowed());
+    }
+}
@@ -0,0 +1,106 @@
+package com.gklyphon.ToDo.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link HierarchicalTimingWheel} class.
+ * <p>
+ * This class tests that timers expire on their deadline tick whatever their level, that
+ * cancelled timers never expire and that passed deadlines expire on the next tick.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, START);
+
+    /**
+     * Test for expiring timers on every level.
+     * <p>
+     * This test verifies that timers spread from one tick to several cascades away expire
+     * exactly on the tick of their deadline.
+     * </p>
+     */
+    @Test
+    void shouldExpireTimersOnTheirDeadlineTick() {
+        SplittableRandom random = new SplittableRandom(7);
+        int timers = 20_000;
+        for (int i = 0; i < timers; i++) {
+            long deadline = START + 10 + random.nextLong(10L * 64 * 64 * 64 * 2);
+            wheel.schedule(deadline, deadline);
+        }
+        List<String> late = new ArrayList<>();
+        long now = START;
+        int expired = 0;
+        while (wheel.size() > 0) {
+            now += 10;
+            long tick = now / 10;
+            expired += wheel.advance(now, deadline -> {
+                if (deadline / 10 != tick) {
+                    late.add(deadline + " expired at tick " + tick);
+                }
+            });
+        }
+        assertEquals(timers, expired);
+        assertEquals(List.of(), late);
+    }
+
+    /**
+     * Test for a clock jumping forward.
+     * <p>
+     * This test verifies that advancing over many ticks at once expires every timer in deadline order.
+     * </p>
+     */
+    @Test
+    void shouldExpireInDeadlineOrderWhenAdvancingManyTicks() {
+        wheel.schedule(START + 500_000, 3L);
+        wheel.schedule(START + 700, 2L);
+        wheel.schedule(START + 20, 1L);
+        List<Long> expired = new ArrayList<>();
+        assertEquals(3, wheel.advance(START + 1_000_000, expired::add));
+        assertEquals(List.of(1L, 2L, 3L), expired);
+    }
+
+    /**
+     * Test for cancelling timers.
+     * <p>
+     * This test verifies that a cancelled timer does not expire and cannot be cancelled twice.
+     * </p>
+     */
+    @Test
+    void shouldNotExpireCancelledTimers() {
+        HierarchicalTimingWheel.Timer<Long> cancelled = wheel.schedule(START + 50_000, 1L);
+        wheel.schedule(START + 50_000, 2L);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(START + 60_000, expired::add);
+        assertEquals(List.of(2L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Test for a deadline that has already passed.
+     * <p>
+     * This test verifies that such a timer expires on the next tick.
+     * </p>
+     */
+    @Test
+    void shouldExpirePassedDeadlineOnNextTick() {
+        wheel.schedule(START - 5_000, 1L);
+        assertEquals(0, wheel.advance(START, deadline -> { }));
+        assertEquals(1, wheel.advance(START + 10, deadline -> { }));
+    }
+}
@@ -0,0 +1,143 @@
+package com.gklyphon.ToDo.reminder;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskReminderScheduler} class.
+ * <p>
+ * This class tests that open tasks get one reminder per lead time, that changes reschedule
+ * or cancel them and that fired reminders reach the listeners with their metrics.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskReminderSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private final MutableClock clock = new MutableClock(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC));
+    private final LinkedBlockingQueue<TaskReminder> received = new LinkedBlockingQueue<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskReminderScheduler scheduler = new TaskReminderScheduler(Duration.ofSeconds(1),
+            List.of(Duration.ZERO, Duration.ofHours(1)), ZoneOffset.UTC, clock,
+            new ReminderDispatcher(List.of(received::add), 100, clock, meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    /**
+     * Test for scheduling the reminders of a task.
+     * <p>
+     * This test verifies that the lead-time reminder fires before the due-date reminder and
+     * that both reach the listener.
+     * </p>
+     */
+    @Test
+    void shouldFireOneReminderPerLeadTime() throws Exception {
+        scheduler.schedule(task(1L, false, TODAY.plusDays(1)));
+        assertEquals(2, scheduler.size());
+
+        clock.advance(Duration.ofHours(23));
+        assertEquals(1, scheduler.tick());
+        clock.advance(Duration.ofHours(1));
+        assertEquals(1, scheduler.tick());
+
+        TaskReminder first = received.poll(5, TimeUnit.SECONDS);
+        TaskReminder second = received.poll(5, TimeUnit.SECONDS);
+        assertAll(() -> {
+            assertEquals(Duration.ofHours(1), first.leadTime());
+            assertEquals(Duration.ZERO, second.leadTime());
+            assertEquals(1L, second.taskId());
+            assertEquals(0, scheduler.size());
+            assertEquals(2, meterRegistry.counter("todo.reminders.fired").count());
+        });
+    }
+
+    /**
+     * Test for changing a task.
+     * <p>
+     * This test verifies that rescheduling replaces the reminders of a task, and that completing
+     * or deleting it cancels them.
+     * </p>
+     */
+    @Test
+    void shouldRescheduleAndCancelReminders() {
+        scheduler.schedule(task(1L, false, TODAY.plusDays(1)));
+        scheduler.schedule(task(1L, false, TODAY.plusDays(5)));
+        scheduler.schedule(task(2L, false, TODAY.plusDays(1)));
+        assertEquals(4, scheduler.size());
+
+        scheduler.schedule(task(2L, true, TODAY.plusDays(1)));
+        assertEquals(2, scheduler.size());
+        scheduler.cancel(1L);
+        assertEquals(0, scheduler.size());
+    }
+
+    /**
+     * Test for reminders in the past.
+     * <p>
+     * This test verifies that only reminders whose time is still ahead are scheduled.
+     * </p>
+     */
+    @Test
+    void shouldSkipRemindersInThePast() {
+        scheduler.replaceAll(List.of(
+                task(1L, false, TODAY),
+                task(2L, false, TODAY.minusDays(3)),
+                task(3L, false, null),
+                task(4L, false, TODAY.plusDays(2))));
+        assertEquals(2, scheduler.size());
+    }
+
+    private static Task task(Long id, boolean complete, LocalDate dueTime) {
+        return new Task(id, "Task " + id, complete, dueTime, null, null);
+    }
+
+    /** A clock moved forward by the tests. */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
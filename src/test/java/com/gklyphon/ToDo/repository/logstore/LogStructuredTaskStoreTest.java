@@ -0,0 +1,154 @@
+package com.gklyphon.ToDo.repository.logstore;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LogStructuredTaskStore} class.
+ * <p>
+ * This class tests recovering the index by replaying the data files, truncating a torn
+ * record after a crash and compacting closed data files.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class LogStructuredTaskStoreTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test for reopening the store.
+     * <p>
+     * This test verifies that the latest value of every task, deletions included, survives a reopen
+     * and that new IDs continue after the highest stored one.
+     * </p>
+     */
+    @Test
+    void shouldRecoverTasksWhenReopened() throws Exception {
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 256, false)) {
+            for (int i = 0; i < 20; i++) {
+                store.save(task("Task " + i));
+            }
+            store.save(new Task(3L, "Renamed", true, LocalDate.of(2025, 1, 1), LocalDateTime.now(), null));
+            store.deleteById(5L);
+        }
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 256, false)) {
+            assertAll(() -> {
+                assertTrue(store.fileCount() > 1);
+                assertEquals(19, store.count());
+                assertEquals("Renamed", store.findById(3L).orElseThrow().getName());
+                assertTrue(store.findById(5L).isEmpty());
+                assertEquals(21L, store.save(task("Next")).getId());
+            });
+        }
+    }
+
+    /**
+     * Test for recovering from a torn write.
+     * <p>
+     * This test appends a partial record to the last data file and verifies that it is
+     * discarded while the intact records are kept.
+     * </p>
+     */
+    @Test
+    void shouldTruncateTornRecordWhenReopened() throws Exception {
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 1024 * 1024, false)) {
+            store.save(task("Buy Milk"));
+            store.save(task("Buy Beans"));
+        }
+        Path last = dataFiles().getLast();
+        long intactSize = Files.size(last);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 0, 0}));
+        }
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 1024 * 1024, false)) {
+            assertAll(() -> {
+                assertEquals(2, store.count());
+                assertEquals(intactSize, Files.size(last));
+            });
+        }
+    }
+
+    /**
+     * Test for compacting data files.
+     * <p>
+     * This test overwrites the same tasks many times and verifies that compaction reduces the
+     * number of data files while every task keeps its latest value, also after a reopen.
+     * </p>
+     */
+    @Test
+    void shouldKeepLatestValuesWhenCompacting() throws Exception {
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 512, false)) {
+            for (int round = 0; round < 10; round++) {
+                for (long id = 1; id <= 5; id++) {
+                    store.save(new Task(id, "Task " + id + " round " + round, false, null, LocalDateTime.now(), null));
+                }
+            }
+            store.deleteById(2L);
+            int before = store.fileCount();
+            assertTrue(store.compact(2) > 1);
+            assertTrue(store.fileCount() < before);
+            assertEquals("Task 1 round 9", store.findById(1L).orElseThrow().getName());
+            store.save(new Task(1L, "Task 1 final", false, null, LocalDateTime.now(), null));
+        }
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 512, false)) {
+            List<Task> tasks = store.findAll();
+            assertAll(() -> {
+                assertEquals(4, tasks.size());
+                assertEquals("Task 1 final", tasks.getFirst().getName());
+                assertEquals("Task 5 round 9", tasks.getLast().getName());
+                assertTrue(store.findById(2L).isEmpty());
+            });
+        }
+    }
+
+    /**
+     * Test for reopening the store after the highest task was deleted and compacted away.
+     * <p>
+     * This test verifies that the ID of the deleted task is not issued again, although
+     * compaction dropped its tombstone.
+     * </p>
+     */
+    @Test
+    void shouldNotReissueDeletedIdsAfterCompaction() throws Exception {
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 256, false)) {
+            for (int i = 0; i < 10; i++) {
+                store.save(task("Task " + i));
+            }
+            store.deleteById(10L);
+            assertTrue(store.compact(1) > 0);
+        }
+        try (LogStructuredTaskStore store = new LogStructuredTaskStore(directory, 256, false)) {
+            assertAll(() -> {
+                assertEquals(9, store.count());
+                assertEquals(11L, store.save(task("Next")).getId());
+            });
+        }
+    }
+
+    private static Task task(String name) {
+        return new Task(null, name, false, LocalDate.of(2024, 10, 31), LocalDateTime.now(), null);
+    }
+
+    private List<Path> dataFiles() throws Exception {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
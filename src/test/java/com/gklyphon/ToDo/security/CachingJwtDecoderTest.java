@@ -0,0 +1,138 @@
+package com.gklyphon.ToDo.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CachingJwtDecoder} class.
+ * <p>
+ * This class tests that verified tokens are served from the cache until they expire,
+ * that the cache can be switched off and that it never holds more than its maximum size.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T10:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final AtomicBoolean enabled = new AtomicBoolean(true);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(this::verify, 3, enabled::get, clock,
+            meterRegistry);
+
+    /**
+     * Test for decoding the same token twice.
+     * <p>
+     * This test verifies that the second decode is served from the cache without verifying the token again.
+     * </p>
+     */
+    @Test
+    void shouldSkipVerificationOfCachedToken() {
+        Jwt first = decoder.decode("token-1");
+        Jwt second = decoder.decode("token-1");
+
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("todo.security.token.cache").tag("result", "hit").counter().count());
+    }
+
+    /**
+     * Test for an expired cached token.
+     * <p>
+     * This test verifies that a token is verified again once its expiry has passed.
+     * </p>
+     */
+    @Test
+    void shouldVerifyAgainAfterExpiry() {
+        decoder.decode("token-1");
+        clock.now = NOW.plus(TTL);
+
+        decoder.decode("token-1");
+
+        assertEquals(2, verifications.get());
+    }
+
+    /**
+     * Test for a disabled cache.
+     * <p>
+     * This test verifies that every decode is verified when the cache is switched off.
+     * </p>
+     */
+    @Test
+    void shouldVerifyEveryTimeWhenDisabled() {
+        enabled.set(false);
+
+        decoder.decode("token-1");
+        decoder.decode("token-1");
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, decoder.size());
+    }
+
+    /**
+     * Test for the maximum size.
+     * <p>
+     * This test verifies that the cache never holds more tokens than its maximum size.
+     * </p>
+     */
+    @Test
+    void shouldStayWithinMaximumSize() {
+        for (int i = 0; i < 10; i++) {
+            decoder.decode("token-" + i);
+            assertTrue(decoder.size() <= 3);
+        }
+    }
+
+    private Jwt verify(String token) {
+        verifications.incrementAndGet();
+        Instant issuedAt = clock.instant();
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject("client")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(TTL))
+                .build();
+    }
+
+    /** Clock returning an instant that tests can change. */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
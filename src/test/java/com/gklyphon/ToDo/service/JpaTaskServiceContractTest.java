@@ -0,0 +1,38 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.repository.ITaskRepository;
+import com.gklyphon.ToDo.repository.TaskProjectionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Runs the {@link TaskServiceContractTest} against {@link TaskServiceImpl} and the JPA repository.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest
+@Import({TaskServiceImpl.class, TaskProjectionRepository.class})
+class JpaTaskServiceContractTest extends TaskServiceContractTest {
+
+    @Autowired
+    TaskServiceImpl taskService;
+
+    @Autowired
+    ITaskRepository taskRepository;
+
+    @Override
+    ITaskService taskService() {
+        return taskService;
+    }
+
+    @Override
+    void storeSortKey(Long id, String sortKey) {
+        Task task = taskRepository.findById(id).orElseThrow();
+        task.setSortKey(sortKey);
+        taskRepository.saveAndFlush(task);
+    }
+}
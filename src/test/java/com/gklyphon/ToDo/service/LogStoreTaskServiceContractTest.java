@@ -0,0 +1,49 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.repository.logstore.LogStructuredTaskStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the {@link TaskServiceContractTest} against {@link LogStoreTaskServiceImpl} and the
+ * {@link LogStructuredTaskStore}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class LogStoreTaskServiceContractTest extends TaskServiceContractTest {
+
+    @TempDir
+    Path directory;
+
+    LogStructuredTaskStore taskStore;
+    LogStoreTaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskStore = new LogStructuredTaskStore(directory, 1024 * 1024, false);
+        taskService = new LogStoreTaskServiceImpl(taskStore, event -> { });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        taskStore.close();
+    }
+
+    @Override
+    ITaskService taskService() {
+        return taskService;
+    }
+
+    @Override
+    void storeSortKey(Long id, String sortKey) {
+        Task task = taskStore.findById(id).orElseThrow();
+        task.setSortKey(sortKey);
+        taskStore.save(task);
+    }
+}
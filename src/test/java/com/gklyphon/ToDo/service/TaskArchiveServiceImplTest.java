@@ -0,0 +1,167 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.Data;
+import com.gklyphon.ToDo.config.archive.TaskArchiveProperties;
+import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.entity.ArchivedTask;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.repository.IArchivedTaskRepository;
+import com.gklyphon.ToDo.repository.ITaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TaskArchiveServiceImpl} class.
+ * <p>
+ * This class tests the batched archival of completed tasks and the lookups that include archived tasks.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceImplTest {
+
+    @Mock
+    ITaskRepository taskRepository;
+
+    @Mock
+    IArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    TaskArchiveServiceImpl taskArchiveService;
+
+    /**
+     * Creates the service with two-task batches and no pause between them.
+     */
+    @BeforeEach
+    void setUp() {
+        TaskArchiveProperties properties = new TaskArchiveProperties();
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        taskArchiveService = new TaskArchiveServiceImpl(taskRepository, archivedTaskRepository,
+                transactionTemplate, properties, eventPublisher);
+    }
+
+    /**
+     * Test for archiving completed tasks.
+     * <p>
+     * This test verifies that tasks are moved batch by batch, each batch starting after the last id of the previous one.
+     * </p>
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldArchiveCompletedTasksInBatches() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(taskRepository.findArchivableIds(eq(0L), any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findArchivableIds(eq(2L), any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(5L));
+        when(taskRepository.lockArchivableByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(List.of(1L, 2L));
+        when(taskRepository.lockArchivableByIds(eq(List.of(5L)), any(LocalDateTime.class))).thenReturn(List.of(5L));
+
+        int archived = taskArchiveService.archiveCompletedTasks(LocalDateTime.now());
+
+        assertEquals(3, archived);
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(5L)), any(LocalDateTime.class));
+        verify(taskRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(taskRepository).deleteAllByIdInBatch(List.of(5L));
+    }
+
+    /**
+     * Test for archiving tasks changed after they were selected.
+     * <p>
+     * This test verifies that the age cutoff is checked again when the rows are locked and only
+     * the rows still archivable are moved.
+     * </p>
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldArchiveOnlyTasksStillArchivableWhenLocked() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(taskRepository.findArchivableIds(eq(0L), eq(cutoff), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findArchivableIds(eq(2L), eq(cutoff), any(Limit.class))).thenReturn(List.of());
+        when(taskRepository.lockArchivableByIds(List.of(1L, 2L), cutoff)).thenReturn(List.of(2L));
+
+        int archived = taskArchiveService.archiveCompletedTasks(cutoff);
+
+        assertEquals(1, archived);
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(taskRepository).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    /**
+     * Test for retrieving an archived task by its ID.
+     * <p>
+     * This test checks that the archive is searched when the task is no longer active and that
+     * the task keeps its sort key.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveArchivedTaskById() {
+        ArchivedTask archivedTask = new ArchivedTask(7L, "Old task", true, LocalDate.of(2024, 1, 1),
+                LocalDateTime.now(), LocalDateTime.now(), "a1", LocalDateTime.now());
+        when(taskRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(7L)).thenReturn(Optional.of(archivedTask));
+
+        Task task = taskArchiveService.getTaskByIdIncludingArchived(7L);
+
+        assertAll(() -> {
+            assertEquals(7L, task.getId());
+            assertTrue(task.isComplete());
+            assertEquals("a1", task.getSortKey());
+        });
+    }
+
+    /**
+     * Test for retrieving a task that is neither active nor archived.
+     * <p>
+     * This test checks that an {@link ElementNotFoundException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldThrowElementNotFoundExceptionWhenTaskIsNotArchived() {
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        assertThrows(ElementNotFoundException.class, () -> taskArchiveService.getTaskByIdIncludingArchived(1000L));
+    }
+
+    /**
+     * Test for retrieving all tasks including archived ones.
+     * <p>
+     * This test checks that active and archived tasks are returned together.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveActiveAndArchivedTasks() {
+        when(taskRepository.findAll()).thenReturn(Data.TASKS);
+        when(archivedTaskRepository.findAll()).thenReturn(List.of(new ArchivedTask(9L, "Old task", true,
+                LocalDate.of(2024, 1, 1), LocalDateTime.now(), LocalDateTime.now(), null, LocalDateTime.now())));
+        assertEquals(3, taskArchiveService.getAllTasksIncludingArchived().size());
+    }
+}
@@ -0,0 +1,141 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.model.dto.BatchOperation;
+import com.gklyphon.ToDo.model.dto.BatchOperationResult;
+import com.gklyphon.ToDo.model.dto.BatchRequest;
+import com.gklyphon.ToDo.model.dto.BatchResponse;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TaskBatchServiceImpl} class.
+ * <p>
+ * This class tests that batch operations are applied in order in one transaction, and how
+ * operations on missing tasks are reported in both error modes.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceImplTest {
+
+    @Mock
+    ITaskService taskService;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    TaskBatchServiceImpl taskBatchService;
+
+    /**
+     * Runs the transaction callbacks directly.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Boolean>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    /**
+     * Test for executing a batch whose operations all succeed.
+     * <p>
+     * This test verifies that every operation is applied in order within one transaction and
+     * reports the status of the equivalent single request.
+     * </p>
+     */
+    @Test
+    void shouldApplyOperationsInOrder() {
+        Task task = new Task(null, "Buy Milk", false, null, null, null);
+        Task created = new Task(3L, "Buy Milk", false, null, null, null);
+        Task completed = new Task(1L, "Buy Beans", true, null, null, null);
+        when(taskService.getTasksByIds(List.of(1L, 2L), EnumSet.of(TaskField.ID)))
+                .thenReturn(List.of(TaskLookupResult.of(1L, completed), TaskLookupResult.of(2L, completed)));
+        when(taskService.saveTask(task)).thenReturn(created);
+        when(taskService.updateTaskComplete(1L, true)).thenReturn(completed);
+        when(taskService.deleteTaskById(2L)).thenReturn(true);
+
+        BatchResponse response = taskBatchService.executeBatch(new BatchRequest(null, List.of(
+                new BatchOperation(BatchOperation.Type.CREATE, null, task, null),
+                new BatchOperation(BatchOperation.Type.COMPLETE, 1L, null, true),
+                new BatchOperation(BatchOperation.Type.DELETE, 2L, null, null))));
+
+        assertAll(() -> {
+            assertTrue(response.committed());
+            assertEquals(List.of(201, 200, 204), response.results().stream().map(BatchOperationResult::status).toList());
+            assertEquals(created, response.results().get(0).task());
+            verify(transactionTemplate, times(1)).execute(any());
+        });
+    }
+
+    /**
+     * Test for executing an all-or-nothing batch with an operation on a missing task.
+     * <p>
+     * This test verifies that no operation is applied and that the other operations are reported
+     * as not applied.
+     * </p>
+     */
+    @Test
+    void shouldApplyNothingWhenAllOrNothingOperationFails() {
+        when(taskService.getTasksByIds(List.of(1L, 9L), EnumSet.of(TaskField.ID)))
+                .thenReturn(List.of(TaskLookupResult.of(1L, new Task()), TaskLookupResult.of(9L, null)));
+
+        BatchResponse response = taskBatchService.executeBatch(new BatchRequest(BatchRequest.Mode.ALL_OR_NOTHING, List.of(
+                new BatchOperation(BatchOperation.Type.COMPLETE, 1L, null, true),
+                new BatchOperation(BatchOperation.Type.DELETE, 9L, null, null))));
+
+        assertAll(() -> {
+            assertFalse(response.committed());
+            assertEquals(List.of(424, 404), response.results().stream().map(BatchOperationResult::status).toList());
+            assertNotNull(response.results().get(1).error());
+            verify(taskService, never()).updateTaskComplete(anyLong(), anyBoolean());
+            verify(taskService, never()).deleteTaskById(anyLong());
+        });
+    }
+
+    /**
+     * Test for executing a per-operation batch with operations on missing tasks.
+     * <p>
+     * This test verifies that only the failed operations are left out, including an update of a
+     * task deleted earlier in the batch.
+     * </p>
+     */
+    @Test
+    void shouldSkipFailedOperationsInPerOperationMode() {
+        Task update = new Task(null, "Buy Beans", false, null, null, null);
+        when(taskService.getTasksByIds(List.of(9L, 1L), EnumSet.of(TaskField.ID)))
+                .thenReturn(List.of(TaskLookupResult.of(9L, null), TaskLookupResult.of(1L, new Task())));
+        when(taskService.deleteTaskById(1L)).thenReturn(true);
+
+        BatchResponse response = taskBatchService.executeBatch(new BatchRequest(BatchRequest.Mode.PER_OPERATION, List.of(
+                new BatchOperation(BatchOperation.Type.UPDATE, 9L, update, null),
+                new BatchOperation(BatchOperation.Type.DELETE, 1L, null, null),
+                new BatchOperation(BatchOperation.Type.UPDATE, 1L, update, null))));
+
+        assertAll(() -> {
+            assertTrue(response.committed());
+            assertEquals(List.of(404, 204, 404), response.results().stream().map(BatchOperationResult::status).toList());
+            verify(taskService, never()).updateTask(anyLong(), any());
+            verify(taskService).deleteTaskById(1L);
+        });
+    }
+}
@@ -0,0 +1,398 @@
+package com.gklyphon.ToDo.service;
+
+import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
+import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
+import com.gklyphon.ToDo.ordering.FractionalIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behavior tests shared by every {@link ITaskService} backend.
+ * <p>
+ * Subclasses provide the service under test; every backend must pass the same tests,
+ * so the storage can be swapped without changing what clients observe.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+abstract class TaskServiceContractTest {
+
+    /**
+     * Returns the service under test.
+     */
+    abstract ITaskService taskService();
+
+    /**
+     * Overwrites the sort key of a task in the backing storage, as a concurrent writer could.
+     */
+    abstract void storeSortKey(Long id, String sortKey);
+
+    /**
+     * Test for saving and retrieving a task.
+     * <p>
+     * This test verifies that a saved task gets an ID and a creation timestamp and is returned unchanged by ID.
+     * </p>
+     */
+    @Test
+    void shouldSaveAndRetrieveTask() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", false, LocalDate.of(2024, 10, 31), null, null));
+        Task found = taskService().getTaskById(saved.getId());
+        assertAll(() -> {
+            assertNotNull(saved.getId());
+            assertNotNull(found.getCreateAt());
+            assertEquals("Buy Milk", found.getName());
+            assertFalse(found.isComplete());
+            assertEquals(LocalDate.of(2024, 10, 31), found.getDueTime());
+        });
+    }
+
+    /**
+     * Test for retrieving all tasks.
+     * <p>
+     * This test verifies that every saved task is returned.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveAllSavedTasks() {
+        int existing = taskService().getAllTasks().size();
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", true, null, null, null));
+        List<Task> tasks = taskService().getAllTasks();
+        assertAll(() -> {
+            assertEquals(existing + 2, tasks.size());
+            assertTrue(tasks.stream().anyMatch(task -> task.getId().equals(first.getId())));
+            assertTrue(tasks.stream().anyMatch(task -> task.getId().equals(second.getId())));
+        });
+    }
+
+    /**
+     * Test for retrieving several tasks by their IDs.
+     * <p>
+     * This test verifies that one result is returned per requested ID, in request order, and that missing IDs are reported.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveTasksByIds() {
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", true, null, null, null));
+        List<TaskLookupResult> results = taskService().getTasksByIds(List.of(second.getId(), 999_999L, first.getId()),
+                TaskField.ALL);
+        assertAll(() -> {
+            assertEquals(3, results.size());
+            assertEquals("Buy Beans", results.get(0).task().getName());
+            assertEquals(999_999L, results.get(1).id());
+            assertFalse(results.get(1).found());
+            assertEquals("Buy Milk", results.get(2).task().getName());
+        });
+    }
+
+    /**
+     * Test for retrieving tasks with a subset of their fields.
+     * <p>
+     * This test verifies that the ID and the requested fields are returned for every matching task.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveRequestedFields() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", true, LocalDate.of(2024, 10, 31), null, null));
+        EnumSet<TaskField> fields = EnumSet.of(TaskField.NAME, TaskField.COMPLETE);
+        Task fromAll = taskService().getAllTasks(fields).stream()
+                .filter(task -> task.getId().equals(saved.getId()))
+                .findFirst().orElseThrow();
+        Task fromIds = taskService().getTasksByIds(List.of(saved.getId()), fields).getFirst().task();
+        assertAll(() -> {
+            for (Task task : List.of(fromAll, fromIds)) {
+                assertEquals(saved.getId(), task.getId());
+                assertEquals("Buy Milk", task.getName());
+                assertTrue(task.isComplete());
+            }
+        });
+    }
+
+    /**
+     * Test for retrieving a task that does not exist.
+     * <p>
+     * This test verifies that an {@link ElementNotFoundException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldThrowWhenTaskDoesNotExist() {
+        assertThrows(ElementNotFoundException.class, () -> taskService().getTaskById(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test for updating a task.
+     * <p>
+     * This test verifies that the new data and an update timestamp are stored, while the creation timestamp is kept.
+     * </p>
+     */
+    @Test
+    void shouldUpdateTask() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        taskService().updateTask(saved.getId(), new Task(null, "Buy Beans", true, LocalDate.of(2025, 1, 1), null, null));
+        Task found = taskService().getTaskById(saved.getId());
+        assertAll(() -> {
+            assertEquals("Buy Beans", found.getName());
+            assertTrue(found.isComplete());
+            assertEquals(LocalDate.of(2025, 1, 1), found.getDueTime());
+            assertNotNull(found.getCreateAt());
+            assertNotNull(found.getUpdateAt());
+        });
+    }
+
+    /**
+     * Test for retrieving the labels of tasks with a subset of their fields.
+     * <p>
+     * This test verifies that the labels are returned when requested, for tasks with and without labels.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveRequestedLabels() {
+        Task labeled = new Task(null, "Buy Milk", false, null, null, null);
+        labeled.setLabels(new TreeSet<>(Set.of("home", "errand")));
+        Task saved = taskService().saveTask(labeled);
+        Task unlabeled = taskService().saveTask(new Task(null, "Buy Beans", false, null, null, null));
+        EnumSet<TaskField> fields = EnumSet.of(TaskField.NAME, TaskField.LABELS);
+        Task fromAll = taskService().getAllTasks(fields).stream()
+                .filter(task -> task.getId().equals(saved.getId()))
+                .findFirst().orElseThrow();
+        List<TaskLookupResult> fromIds = taskService().getTasksByIds(List.of(saved.getId(), unlabeled.getId()), fields);
+        assertAll(() -> {
+            assertEquals(Set.of("errand", "home"), fromAll.getLabels());
+            assertEquals("Buy Milk", fromIds.get(0).task().getName());
+            assertEquals(Set.of("errand", "home"), fromIds.get(0).task().getLabels());
+            assertTrue(fromIds.get(1).task().getLabels().isEmpty());
+        });
+    }
+
+    /**
+     * Test for saving and updating the labels of a task.
+     * <p>
+     * This test verifies that labels are stored with the task and replaced by an update.
+     * </p>
+     */
+    @Test
+    void shouldSaveAndUpdateLabels() {
+        Task task = new Task(null, "Buy Milk", false, null, null, null);
+        task.setLabels(new TreeSet<>(Set.of("home", "errand")));
+        Task saved = taskService().saveTask(task);
+        Task update = new Task(null, "Buy Milk", false, null, null, null);
+        update.setLabels(new TreeSet<>(Set.of("errand", "urgent")));
+        Set<String> savedLabels = Set.copyOf(taskService().getTaskById(saved.getId()).getLabels());
+        taskService().updateTask(saved.getId(), update);
+        Task found = taskService().getTaskById(saved.getId());
+        assertAll(() -> {
+            assertEquals(Set.of("errand", "home"), savedLabels);
+            assertEquals(List.of("errand", "urgent"), List.copyOf(found.getLabels()));
+        });
+    }
+
+    /**
+     * Test for updating a task that does not exist.
+     * <p>
+     * This test verifies that an {@link ElementNotFoundException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldThrowWhenUpdatingMissingTask() {
+        assertThrows(ElementNotFoundException.class,
+                () -> taskService().updateTask(Long.MAX_VALUE, new Task(null, "Buy Beans", true, null, null, null)));
+    }
+
+    /**
+     * Test for updating the completion status of a task.
+     * <p>
+     * This test verifies that only the completion status changes.
+     * </p>
+     */
+    @Test
+    void shouldUpdateTaskComplete() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        taskService().updateTaskComplete(saved.getId(), true);
+        Task found = taskService().getTaskById(saved.getId());
+        assertAll(() -> {
+            assertTrue(found.isComplete());
+            assertEquals("Buy Milk", found.getName());
+        });
+    }
+
+    /**
+     * Test for deleting a task.
+     * <p>
+     * This test verifies that a deleted task can no longer be retrieved and that deleting it again reports {@code false}.
+     * </p>
+     */
+    @Test
+    void shouldDeleteTask() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        assertTrue(taskService().deleteTaskById(saved.getId()));
+        assertAll(() -> {
+            assertThrows(ElementNotFoundException.class, () -> taskService().getTaskById(saved.getId()));
+            assertFalse(taskService().deleteTaskById(saved.getId()));
+        });
+    }
+
+    /**
+     * Test for counting tasks by completion status and due date.
+     * <p>
+     * This test verifies that tasks sharing a status and due date are counted in one group.
+     * </p>
+     */
+    @Test
+    void shouldCountTasksByStatusAndDueDate() {
+        LocalDate dueTime = LocalDate.of(2031, 5, 17);
+        taskService().saveTask(new Task(null, "Buy Milk", false, dueTime, null, null));
+        taskService().saveTask(new Task(null, "Buy Beans", false, dueTime, null, null));
+        taskService().saveTask(new Task(null, "Buy Rice", true, dueTime, null, null));
+        List<TaskCount> counts = taskService().countTasksByStatusAndDueDate();
+        assertAll(() -> {
+            assertTrue(counts.contains(new TaskCount(false, dueTime, 2)));
+            assertTrue(counts.contains(new TaskCount(true, dueTime, 1)));
+        });
+    }
+
+    /**
+     * Test for appending saved tasks to the user-defined order.
+     * <p>
+     * This test verifies that every saved task gets a sort key higher than the previous one.
+     * </p>
+     */
+    @Test
+    void shouldAppendSavedTasksToOrder() {
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", false, null, null, null));
+        List<Long> order = orderOf(second, first);
+        assertAll(() -> {
+            assertNotNull(first.getSortKey());
+            assertTrue(first.getSortKey().compareTo(second.getSortKey()) < 0);
+            assertEquals(List.of(first.getId(), second.getId()), order);
+        });
+    }
+
+    /**
+     * Test for moving tasks in the user-defined order.
+     * <p>
+     * This test verifies that a task can be moved first, between two tasks and last, including
+     * next to tasks that had no sort key yet.
+     * </p>
+     */
+    @Test
+    void shouldMoveTasks() {
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", false, null, null, null));
+        Task third = taskService().saveTask(new Task(null, "Buy Rice", false, null, null, null));
+
+        Task moved = taskService().moveTask(third.getId(), null);
+        List<Long> afterMoveFirst = orderedIds();
+        taskService().moveTask(third.getId(), first.getId());
+        List<Long> afterMoveBetween = orderOf(first, second, third);
+        taskService().moveTask(first.getId(), second.getId());
+        List<Long> afterMoveLast = orderOf(first, second, third);
+
+        assertAll(() -> {
+            assertNotNull(moved.getUpdateAt());
+            assertEquals(third.getId(), afterMoveFirst.getFirst());
+            assertEquals(List.of(first.getId(), third.getId(), second.getId()), afterMoveBetween);
+            assertEquals(List.of(third.getId(), second.getId(), first.getId()), afterMoveLast);
+        });
+    }
+
+    /**
+     * Test for moving a task after a task that does not exist.
+     * <p>
+     * This test verifies that an {@link ElementNotFoundException} is thrown.
+     * </p>
+     */
+    @Test
+    void shouldThrowWhenMovingAfterMissingTask() {
+        Task saved = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        assertThrows(ElementNotFoundException.class, () -> taskService().moveTask(saved.getId(), Long.MAX_VALUE));
+    }
+
+    /**
+     * Test for rebalancing the user-defined order.
+     * <p>
+     * This test verifies that long sort keys are replaced by short ones while the order is kept.
+     * </p>
+     */
+    @Test
+    void shouldRebalanceLongSortKeys() {
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", false, null, null, null));
+        Task third = taskService().saveTask(new Task(null, "Buy Rice", false, null, null, null));
+        for (int i = 0; i < 20; i++) {
+            taskService().moveTask(third.getId(), first.getId());
+            taskService().moveTask(second.getId(), first.getId());
+        }
+        List<Long> before = orderedIds();
+        int longest = Math.max(taskService().getTaskById(second.getId()).getSortKey().length(),
+                taskService().getTaskById(third.getId()).getSortKey().length());
+
+        int rebalanced = taskService().rebalanceTaskOrder(3, 2);
+
+        assertAll(() -> {
+            assertTrue(longest > 3);
+            assertEquals(before.size(), rebalanced);
+            assertEquals(before, orderedIds());
+            assertTrue(taskService().getTasksInOrder().stream()
+                    .allMatch(task -> task.getSortKey() != null && task.getSortKey().length() <= 3));
+            assertEquals(0, taskService().rebalanceTaskOrder(3, 2));
+        });
+    }
+
+    /**
+     * Test for moving a task between tasks sharing a sort key.
+     * <p>
+     * This test verifies that the task is placed between them while only the tasks sharing
+     * the key get new keys, instead of the whole order being rebalanced.
+     * </p>
+     */
+    @Test
+    void shouldMoveTaskBetweenEqualSortKeys() {
+        Task first = taskService().saveTask(new Task(null, "Buy Milk", false, null, null, null));
+        Task second = taskService().saveTask(new Task(null, "Buy Beans", false, null, null, null));
+        Task third = taskService().saveTask(new Task(null, "Buy Rice", false, null, null, null));
+        Task fourth = taskService().saveTask(new Task(null, "Buy Eggs", false, null, null, null));
+        Task fifth = taskService().saveTask(new Task(null, "Buy Bread", false, null, null, null));
+        Task moved = taskService().saveTask(new Task(null, "Buy Salt", false, null, null, null));
+        String shared = FractionalIndex.after(moved.getSortKey());
+        String fractional = FractionalIndex.between(FractionalIndex.after(shared),
+                FractionalIndex.after(FractionalIndex.after(shared)));
+        storeSortKey(second.getId(), shared);
+        storeSortKey(third.getId(), shared);
+        storeSortKey(fourth.getId(), shared);
+        storeSortKey(fifth.getId(), fractional);
+
+        taskService().moveTask(moved.getId(), third.getId());
+
+        assertAll(() -> {
+            assertEquals(List.of(first.getId(), second.getId(), third.getId(), moved.getId(), fourth.getId(),
+                    fifth.getId()), orderOf(first, second, third, fourth, fifth, moved));
+            assertEquals(first.getSortKey(), taskService().getTaskById(first.getId()).getSortKey());
+            assertEquals(shared, taskService().getTaskById(second.getId()).getSortKey());
+            assertEquals(fractional, taskService().getTaskById(fifth.getId()).getSortKey());
+        });
+    }
+
+    private List<Long> orderOf(Task... tasks) {
+        List<Long> ids = Arrays.stream(tasks).map(Task::getId).toList();
+        return orderedIds().stream().filter(ids::contains).toList();
+    }
+
+    private List<Long> orderedIds() {
+        return taskService().getTasksInOrder().stream().map(Task::getId).toList();
+    }
+}
@@ -2,16 +2,25 @@ package com.gklyphon.ToDo.service;
 
 import com.gklyphon.ToDo.Data;
 import com.gklyphon.ToDo.exception.custom.ElementNotFoundException;
+import com.gklyphon.ToDo.model.dto.TaskLookupResult;
 import com.gklyphon.ToDo.model.entity.Task;
+import com.gklyphon.ToDo.model.entity.TaskField;
 import com.gklyphon.ToDo.repository.ITaskRepository;
+import com.gklyphon.ToDo.repository.TaskProjectionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +44,12 @@ class TaskServiceImplTest {
     @Mock
     ITaskRepository taskRepository;
 
+    @Mock
+    TaskProjectionRepository taskProjectionRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     TaskServiceImpl taskService;
 
@@ -117,11 +132,12 @@ class TaskServiceImplTest {
      */
     @Test
     void shouldRetrieveTrueWhenDeleteTask() {
-        when(taskRepository.existsById(anyLong())).thenReturn(true);
+        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(Data.TASK));
 
         boolean result = taskService.deleteTaskById(1L);
         assertTrue(result);
-        verify(taskRepository).existsById(anyLong());
+        verify(taskRepository).findById(anyLong());
+        verify(taskRepository).deleteById(1L);
     }
 
     /**
@@ -163,4 +179,44 @@ class TaskServiceImplTest {
         verify(taskRepository).save(any(Task.class));
         verify(taskRepository).findById(anyLong());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test for retrieving several tasks by their IDs.
+     * <p>
+     * This test verifies that results follow the request order, report missing IDs and that
+     * large ID sets are loaded in chunks without repeating duplicated IDs.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveTasksByIdsInRequestOrder() {
+        List<Long> ids = LongStream.rangeClosed(1, TaskServiceImpl.LOOKUP_CHUNK_SIZE + 1).boxed()
+                .collect(Collectors.toCollection(ArrayList::new));
+        ids.addFirst(2L);
+        when(taskRepository.findAllById(anyList())).thenReturn(List.of(Data.TASK2, Data.TASK), List.of());
+        List<TaskLookupResult> results = taskService.getTasksByIds(ids, TaskField.ALL);
+        assertAll(() -> {
+            assertEquals(ids.size(), results.size());
+            assertEquals(TaskLookupResult.of(2L, Data.TASK2), results.get(0));
+            assertEquals(TaskLookupResult.of(1L, Data.TASK), results.get(1));
+            assertEquals(TaskLookupResult.of(2L, Data.TASK2), results.get(2));
+            assertFalse(results.getLast().found());
+            assertNull(results.getLast().task());
+        });
+        verify(taskRepository, times(2)).findAllById(anyList());
+    }
+
+    /**
+     * Test for retrieving all tasks with a subset of their fields.
+     * <p>
+     * This test verifies that only the requested columns are read, through the projection repository.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveAllTasksWithRequestedFields() {
+        Set<TaskField> fields = EnumSet.of(TaskField.ID, TaskField.NAME);
+        when(taskProjectionRepository.findAll(fields)).thenReturn(List.of(new Task(1L, "Buy Milk", false, null, null, null)));
+        List<Task> tasks = taskService.getAllTasks(fields);
+        assertEquals("Buy Milk", tasks.getFirst().getName());
+        verify(taskRepository, never()).findAll();
+    }
+}
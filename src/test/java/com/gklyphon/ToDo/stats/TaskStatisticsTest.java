@@ -0,0 +1,167 @@
+package com.gklyphon.ToDo.stats;
+
+import com.gklyphon.ToDo.model.dto.TaskCount;
+import com.gklyphon.ToDo.model.entity.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TaskStatistics} class.
+ * <p>
+ * This class tests the incremental counters, the overdue count moving forward with the
+ * clock and reconciliation rejecting counts raced by mutations.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TaskStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private final MutableClock clock = new MutableClock(TODAY);
+    private final TaskStatistics statistics = new TaskStatistics(clock);
+
+    /**
+     * Test for applying mutations.
+     * <p>
+     * This test verifies that adding, completing and removing tasks keeps every counter and the histogram exact.
+     * </p>
+     */
+    @Test
+    void shouldCountTasksIncrementally() {
+        Task overdue = task(false, TODAY.minusDays(1));
+        Task later = task(false, TODAY.plusDays(20));
+        statistics.apply(overdue, 1);
+        statistics.apply(later, 1);
+        statistics.apply(task(true, null), 1);
+        statistics.apply(later, -1);
+        statistics.apply(task(true, TODAY.plusDays(20)), 1);
+
+        TaskStatisticsSnapshot snapshot = statistics.snapshot();
+
+        assertAll(() -> {
+            assertEquals(3, snapshot.total());
+            assertEquals(2, snapshot.completed());
+            assertEquals(1, snapshot.open());
+            assertEquals(1, snapshot.overdue());
+            assertEquals(1, snapshot.withoutDueDate());
+            assertEquals(Map.of("2026-10", 1L, "2026-11", 1L), snapshot.dueHistogram());
+        });
+    }
+
+    /**
+     * Test for the passing of days.
+     * <p>
+     * This test verifies that open tasks become overdue once their due date has passed,
+     * and stop being overdue when completed.
+     * </p>
+     */
+    @Test
+    void shouldCountTasksAsOverdueWhenDaysPass() {
+        Task dueToday = task(false, TODAY);
+        statistics.apply(dueToday, 1);
+        statistics.apply(task(false, TODAY.plusDays(1)), 1);
+        assertEquals(0, statistics.snapshot().overdue());
+
+        clock.today = TODAY.plusDays(2);
+        assertEquals(2, statistics.snapshot().overdue());
+
+        statistics.apply(dueToday, -1);
+        statistics.apply(task(true, TODAY), 1);
+        assertEquals(1, statistics.snapshot().overdue());
+    }
+
+    /**
+     * Test for reconciliation.
+     * <p>
+     * This test verifies that counts from the source of truth replace the counters when no
+     * mutation raced them.
+     * </p>
+     */
+    @Test
+    void shouldReplaceCountersWhenReconciling() {
+        statistics.apply(task(false, null), 1);
+        long stamp = statistics.beginReconcile();
+
+        boolean replaced = statistics.completeReconcile(stamp,
+                List.of(new TaskCount(true, TODAY, 5), new TaskCount(false, TODAY.minusDays(3), 2)));
+        TaskStatisticsSnapshot snapshot = statistics.snapshot();
+
+        assertAll(() -> {
+            assertTrue(replaced);
+            assertEquals(7, snapshot.total());
+            assertEquals(5, snapshot.completed());
+            assertEquals(2, snapshot.overdue());
+            assertEquals(0, snapshot.withoutDueDate());
+        });
+    }
+
+    /**
+     * Test for reconciliation raced by mutations.
+     * <p>
+     * This test verifies that counts are rejected when a mutation was applied while they were
+     * taken or is still pending, since they may already include it.
+     * </p>
+     */
+    @Test
+    void shouldRejectCountsRacedByMutations() {
+        statistics.apply(task(false, null), 1);
+        List<TaskCount> counts = List.of(new TaskCount(false, null, 2));
+
+        long stamp = statistics.beginReconcile();
+        statistics.apply(task(false, null), 1);
+        boolean appliedMeanwhile = statistics.completeReconcile(stamp, counts);
+
+        statistics.mutationPending();
+        boolean pending = statistics.completeReconcile(statistics.beginReconcile(), counts);
+        statistics.mutationSettled();
+        boolean settled = statistics.completeReconcile(statistics.beginReconcile(), counts);
+
+        assertAll(() -> {
+            assertFalse(appliedMeanwhile);
+            assertFalse(pending);
+            assertTrue(settled);
+            assertEquals(2, statistics.snapshot().total());
+        });
+    }
+
+    private static Task task(boolean complete, LocalDate dueTime) {
+        return new Task(null, "Task", complete, dueTime, null, null);
+    }
+
+    /** Clock returning the start of a day that tests can change. */
+    private static final class MutableClock extends Clock {
+
+        private LocalDate today;
+
+        private MutableClock(LocalDate today) {
+            this.today = today;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return today.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+    }
+}